@@ -0,0 +1,211 @@
+package org.example.benchmark;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.example.model.Aircraft;
+import org.example.model.TaskStatus;
+import org.example.presenter.TaskColumnStore;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : BenchmarkData.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Fixed synthetic fleet and task datasets and the import files built from them.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * BenchmarkData: synthetic aircraft and tasks generated from a fixed seed, so every run of a
+ * benchmark works on the same rows and results of different releases can be compared.
+ *
+ * Due dates are spread over two years around {@link #BASE_DATE}, about one task in three is
+ * completed, descriptions come from a small catalogue as in the real task table.
+ */
+public final class BenchmarkData {
+
+    // Seed of every dataset, changing it invalidates earlier results
+    public static final long SEED = 20_261_017L;
+
+    // Centre of the due dates, fixed so the data does not depend on the day of the run
+    public static final LocalDate BASE_DATE = LocalDate.of(2026, 1, 1);
+
+    static final String[] MODELS = {
+            "Airbus A320", "Airbus A321", "Airbus A330", "Airbus A350", "Boeing 737", "Boeing 747",
+            "Boeing 777", "Boeing 787", "ATR 72", "Embraer E190", "Bombardier Q400", "Cessna 208"
+    };
+
+    static final String[] DESCRIPTIONS = {
+            "Inspect flaps", "Inspect slats", "Replace tyre", "Replace brake unit", "Inspect engine",
+            "Borescope inspection", "Lubricate landing gear", "Check hydraulic fluid", "Replace cabin filter",
+            "Test emergency lights", "Inspect fuselage, lap joints", "Calibrate pitot-static system",
+            "Replace oil filter", "Inspect APU", "Check oxygen masks", "Inspect windshield"
+    };
+
+    /**
+     * One generated task.
+     *
+     * @param completedAt completion time, null if the task is pending
+     */
+    public record TaskRow(int id, int aircraftId, String description, LocalDate dueDate, TaskStatus status,
+                          Instant completedAt) {
+    }
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * @param count number of aircraft
+     * @return aircraft with ids 1 to count and unique tail numbers
+     */
+    public static List<Aircraft> aircraft(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Aircraft> aircraft = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            aircraft.add(new Aircraft(id, MODELS[random.nextInt(MODELS.length)], String.format("N%05dB", id)));
+        }
+        return aircraft;
+    }
+
+    /**
+     * @param aircraftCount aircraft the tasks refer to, ids 1 to aircraftCount
+     * @param taskCount     number of tasks
+     * @return tasks with ids 1 to taskCount
+     */
+    public static List<TaskRow> tasks(int aircraftCount, int taskCount) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        List<TaskRow> tasks = new ArrayList<>(taskCount);
+        for (int id = 1; id <= taskCount; id++) {
+            LocalDate dueDate = BASE_DATE.plusDays(random.nextInt(-365, 366));
+            boolean completed = random.nextInt(3) == 0;
+            tasks.add(new TaskRow(id, 1 + random.nextInt(aircraftCount), DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)],
+                    dueDate, completed ? TaskStatus.COMPLETED : TaskStatus.PENDING,
+                    completed ? dueDate.atStartOfDay(ZoneOffset.UTC).plusHours(random.nextInt(48)).toInstant() : null));
+        }
+        return tasks;
+    }
+
+    /**
+     * @return the tasks in the column store used by the analytics
+     */
+    public static TaskColumnStore columnStore(List<Aircraft> aircraft, List<TaskRow> tasks) {
+        TaskColumnStore.Builder builder = new TaskColumnStore.Builder();
+        aircraft.forEach(builder::addAircraft);
+        for (TaskRow task : tasks) {
+            builder.addTask(task.id(), task.aircraftId(), task.description(), task.dueDate(), task.status());
+        }
+        return builder.build();
+    }
+
+    // ==================== IMPORT FILES ====================
+    // Same layouts as the import handlers expect, with a header row
+
+    public static Path writeAircraftCsv(Path file, List<Aircraft> aircraft) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("model,tailNumber\n");
+            for (Aircraft a : aircraft) {
+                out.write(csv(a.model()) + "," + csv(a.tailNumber()) + "\n");
+            }
+        }
+        return file;
+    }
+
+    public static Path writeTaskCsv(Path file, List<TaskRow> tasks) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("aircraftId,description,dueDate,status\n");
+            for (TaskRow t : tasks) {
+                out.write(t.aircraftId() + "," + csv(t.description()) + "," + t.dueDate() + "," + t.status().label() + "\n");
+            }
+        }
+        return file;
+    }
+
+    public static Path writeAircraftXml(Path file, List<Aircraft> aircraft) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<fleet>\n");
+            for (Aircraft a : aircraft) {
+                out.write("  <aircraft><model>" + a.model() + "</model><tailNumber>" + a.tailNumber()
+                        + "</tailNumber></aircraft>\n");
+            }
+            out.write("</fleet>\n");
+        }
+        return file;
+    }
+
+    public static Path writeTaskXml(Path file, List<TaskRow> tasks) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<tasks>\n");
+            for (TaskRow t : tasks) {
+                out.write("  <task><aircraftId>" + t.aircraftId() + "</aircraftId><description>" + t.description()
+                        + "</description><dueDate>" + t.dueDate() + "</dueDate><status>" + t.status().label()
+                        + "</status></task>\n");
+            }
+            out.write("</tasks>\n");
+        }
+        return file;
+    }
+
+    public static Path writeAircraftXlsx(Path file, List<Aircraft> aircraft) throws IOException {
+        List<Object[]> rows = new ArrayList<>(aircraft.size());
+        for (Aircraft a : aircraft) {
+            rows.add(new Object[]{a.model(), a.tailNumber()});
+        }
+        return writeXlsx(file, new String[]{"model", "tailNumber"}, rows);
+    }
+
+    public static Path writeTaskXlsx(Path file, List<TaskRow> tasks) throws IOException {
+        List<Object[]> rows = new ArrayList<>(tasks.size());
+        for (TaskRow t : tasks) {
+            // The aircraft id is a numeric cell as in sheets typed by the planners
+            rows.add(new Object[]{t.aircraftId(), t.description(), t.dueDate().toString(), t.status().label()});
+        }
+        return writeXlsx(file, new String[]{"aircraftId", "description", "dueDate", "status"}, rows);
+    }
+
+    private static Path writeXlsx(Path file, String[] header, List<Object[]> rows) throws IOException {
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(file)) {
+            SXSSFSheet sheet = workbook.createSheet("data");
+            Row headerRow = sheet.createRow(0);
+            for (int c = 0; c < header.length; c++) {
+                headerRow.createCell(c).setCellValue(header[c]);
+            }
+            int r = 1;
+            for (Object[] values : rows) {
+                Row row = sheet.createRow(r++);
+                for (int c = 0; c < values.length; c++) {
+                    if (values[c] instanceof Integer) {
+                        row.createCell(c).setCellValue((Integer) values[c]);
+                    } else {
+                        row.createCell(c).setCellValue((String) values[c]);
+                    }
+                }
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+        return file;
+    }
+
+    // Quotes a CSV field that contains a comma or a quote (RFC 4180)
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
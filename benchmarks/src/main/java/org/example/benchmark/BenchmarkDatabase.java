@@ -0,0 +1,146 @@
+package org.example.benchmark;
+
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.db.SchemaMigrator;
+import org.example.model.Aircraft;
+import org.postgresql.PGConnection;
+
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : BenchmarkDatabase.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Prepares the fixed dataset of the JDBC benchmarks in its own schema.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * BenchmarkDatabase: points the connection pool at the schema {@code bench.schema} (default
+ * {@code jmh_bench}) of the configured database, migrates it and fills it with the
+ * {@link BenchmarkData} fleet. The application tables in the default schema are never touched,
+ * the load tests use a schema of their own in the same way.
+ *
+ * The connection settings come from the usual {@link DatabaseConfig} sources, e.g.
+ * {@code ./database.properties} or {@code -Ddb.password=...}. The rows are only loaded again
+ * when the schema does not hold exactly the expected dataset.
+ */
+public final class BenchmarkDatabase {
+
+    // Fixed dataset of the JDBC benchmarks
+    public static final int AIRCRAFT = 500;
+    public static final int TASKS = 100_000;
+
+    private static final int COPY_CHUNK = 10_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * Makes the pool use the benchmark schema and loads the dataset if needed.
+     * Must run before anything else opens the pool, i.e. in the {@code @Setup} of the benchmark.
+     *
+     * @throws SQLException if the database cannot be prepared
+     */
+    public static synchronized void prepare() throws SQLException {
+        useSchema(System.getProperty("bench.schema", "jmh_bench"));
+        if (count("aircraft") != AIRCRAFT || count("maintenance_task") != TASKS) {
+            load();
+        }
+    }
+
+    /**
+     * Points the pool at a schema of the configured database, creates and migrates it.
+     * Must run before anything else opens the pool.
+     *
+     * @param schema lower case schema name
+     * @throws SQLException if the schema cannot be created or migrated
+     */
+    public static synchronized void useSchema(String schema) throws SQLException {
+        if (!schema.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid schema name: " + schema);
+        }
+        String url = DatabaseConfig.load().get("db.url", "jdbc:postgresql://localhost:5432/aircraftdb");
+        if (!url.contains("currentSchema=")) {
+            System.setProperty("db.url", url + (url.contains("?") ? "&" : "?") + "currentSchema=" + schema);
+        }
+
+        try (Connection conn = Database.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE SCHEMA IF NOT EXISTS " + schema);
+        }
+        SchemaMigrator.migrate();
+    }
+
+    /**
+     * Shuts the pool down, the next trial of the fork starts with a new one.
+     */
+    public static void shutdown() {
+        Database.shutdown();
+    }
+
+    private static long count(String table) throws SQLException {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT count(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    /**
+     * Replaces the contents of the schema with the dataset, in one transaction through COPY.
+     */
+    private static void load() throws SQLException {
+        List<Aircraft> aircraft = BenchmarkData.aircraft(AIRCRAFT);
+        List<BenchmarkData.TaskRow> tasks = BenchmarkData.tasks(AIRCRAFT, TASKS);
+        DateTimeFormatter timestamp = DateTimeFormatter.ISO_INSTANT;
+
+        try (Connection conn = Database.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("TRUNCATE maintenance_task, aircraft RESTART IDENTITY");
+                PGConnection pg = conn.unwrap(PGConnection.class);
+
+                StringBuilder rows = new StringBuilder();
+                for (Aircraft a : aircraft) {
+                    rows.append(a.id()).append(',').append(a.model()).append(',').append(a.tailNumber()).append('\n');
+                }
+                pg.getCopyAPI().copyIn("COPY aircraft (id, model, tail_number) FROM STDIN WITH (FORMAT csv)",
+                        new StringReader(rows.toString()));
+
+                // Chunks keep the generated text small
+                for (int from = 0; from < tasks.size(); from += COPY_CHUNK) {
+                    rows.setLength(0);
+                    for (BenchmarkData.TaskRow t : tasks.subList(from, Math.min(from + COPY_CHUNK, tasks.size()))) {
+                        rows.append(t.id()).append(',').append(t.aircraftId()).append(",\"")
+                                .append(t.description().replace("\"", "\"\"")).append("\",")
+                                .append(t.dueDate()).append(',').append(t.status().label()).append(',')
+                                .append(t.completedAt() == null ? "" : timestamp.format(t.completedAt())).append('\n');
+                    }
+                    pg.getCopyAPI().copyIn("COPY maintenance_task (id, aircraft_id, task_description, due_date, status, "
+                            + "completed_at) FROM STDIN WITH (FORMAT csv)", new StringReader(rows.toString()));
+                }
+
+                // Rows added later by the presenter continue after the fixed ids
+                stmt.execute("SELECT setval(pg_get_serial_sequence('aircraft', 'id'), " + AIRCRAFT + ")");
+                stmt.execute("SELECT setval(pg_get_serial_sequence('maintenance_task', 'id'), " + TASKS + ")");
+                stmt.execute("ANALYZE aircraft");
+                stmt.execute("ANALYZE maintenance_task");
+                conn.commit();
+            } catch (Exception e) {
+                conn.rollback();
+                throw e instanceof SQLException ? (SQLException) e : new SQLException("Cannot load benchmark data", e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+}
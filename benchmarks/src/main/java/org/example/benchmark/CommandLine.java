@@ -0,0 +1,57 @@
+package org.example.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : CommandLine.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Options of the generator and load test command lines.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Options of the form {@code --name value}. Unknown names are rejected when the tool has read
+ * the options it knows, so a typo does not silently run with a default.
+ */
+final class CommandLine {
+
+    private final Map<String, String> options = new HashMap<>();
+
+    CommandLine(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --name value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+    }
+
+    String get(String name, String defaultValue) {
+        String value = options.remove(name);
+        return value == null ? defaultValue : value;
+    }
+
+    int getInt(String name, int defaultValue) {
+        return Integer.parseInt(get(name, Integer.toString(defaultValue)).replace("_", ""));
+    }
+
+    long getLong(String name, long defaultValue) {
+        return Long.parseLong(get(name, Long.toString(defaultValue)).replace("_", ""));
+    }
+
+    double getDouble(String name, double defaultValue) {
+        return Double.parseDouble(get(name, Double.toString(defaultValue)));
+    }
+
+    /**
+     * @throws IllegalArgumentException if an option was given that has not been read
+     */
+    void checkAllUsed() {
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + options.keySet());
+        }
+    }
+}
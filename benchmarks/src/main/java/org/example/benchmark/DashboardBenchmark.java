@@ -0,0 +1,143 @@
+package org.example.benchmark;
+
+import org.example.model.Aircraft;
+import org.example.model.AircraftTaskStats;
+import org.example.model.FleetKpis;
+import org.example.model.TaskStatus;
+import org.example.presenter.AircraftPresenter;
+import org.example.presenter.FleetSnapshot;
+import org.example.presenter.TaskColumnStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : DashboardBenchmark.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Dashboard figures from the database, the column store and the startup snapshot.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * The aggregations behind the dashboard and the detail views:
+ * the KPI and per-aircraft queries of {@link AircraftPresenter} (local PostgreSQL),
+ * the fleet analytics of {@link TaskColumnStore} and the KPIs of a {@link FleetSnapshot},
+ * all over the {@link BenchmarkDatabase} dataset of 100,000 tasks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DashboardBenchmark {
+
+    // "Now" of the in-memory figures, fixed so the counted rows do not change with the day of the run
+    private static final ZonedDateTime NOW = BenchmarkData.BASE_DATE.atStartOfDay(ZoneOffset.UTC).plusDays(15);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    /**
+     * Presenter on the benchmark schema.
+     */
+    @State(Scope.Benchmark)
+    public static class DatabaseState {
+        AircraftPresenter presenter;
+        List<Integer> aircraftIds;
+
+        @Setup
+        public void setUp() throws SQLException {
+            BenchmarkDatabase.prepare();
+            presenter = new AircraftPresenter(null);
+            aircraftIds = BenchmarkData.aircraft(BenchmarkDatabase.AIRCRAFT).stream().map(Aircraft::id).toList();
+        }
+
+        @TearDown
+        public void tearDown() {
+            BenchmarkDatabase.shutdown();
+        }
+    }
+
+    /**
+     * Column store and snapshot file built from the same dataset, no database.
+     */
+    @State(Scope.Benchmark)
+    public static class MemoryState {
+        TaskColumnStore store;
+        FleetSnapshot snapshot;
+        Path snapshotFile;
+
+        @Setup
+        public void setUp() throws IOException {
+            List<Aircraft> aircraft = BenchmarkData.aircraft(BenchmarkDatabase.AIRCRAFT);
+            List<BenchmarkData.TaskRow> tasks = BenchmarkData.tasks(BenchmarkDatabase.AIRCRAFT, BenchmarkDatabase.TASKS);
+            store = BenchmarkData.columnStore(aircraft, tasks);
+
+            snapshotFile = Files.createTempFile("amt-bench", ".bin");
+            try (FleetSnapshot.Writer writer = new FleetSnapshot.Writer(snapshotFile, aircraft, tasks.size())) {
+                for (BenchmarkData.TaskRow t : tasks) {
+                    writer.addTask(t.id(), t.aircraftId(), t.description(), t.dueDate(), t.status(), t.completedAt());
+                }
+                writer.commit();
+            }
+            snapshot = FleetSnapshot.read(snapshotFile);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            snapshot = null;
+            // The mapping may still hold the file on Windows, it is a temp file either way
+            Files.deleteIfExists(snapshotFile);
+        }
+    }
+
+    @Benchmark
+    public FleetKpis fleetKpisQuery(DatabaseState state) {
+        return state.presenter.loadFleetKpis();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Map<Integer, AircraftTaskStats> aircraftTaskStatsQuery(DatabaseState state) {
+        return state.presenter.loadAircraftTaskStats(state.aircraftIds);
+    }
+
+    @Benchmark
+    public Map<String, Long> overdueByModel(MemoryState state) {
+        return state.store.overdueByModel(TODAY);
+    }
+
+    @Benchmark
+    public long[] pendingDueByWeek(MemoryState state) {
+        return state.store.dueByWeek(TODAY, 12, TaskStatus.PENDING);
+    }
+
+    @Benchmark
+    public Map<String, Double> completionRateByTailNumber(MemoryState state) {
+        return state.store.completionRateByTailNumber();
+    }
+
+    @Benchmark
+    public FleetKpis snapshotKpis(MemoryState state) {
+        return state.snapshot.kpis(NOW);
+    }
+}
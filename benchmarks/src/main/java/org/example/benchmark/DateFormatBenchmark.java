@@ -0,0 +1,77 @@
+package org.example.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : DateFormatBenchmark.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Due date formatting of the task viewer cell renderer.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Cost of one due date cell of {@code MaintenanceTaskViewer}: the renderer formats a
+ * {@link LocalDate} with a shared yyyy-MM-dd formatter. The former per-cell
+ * {@link SimpleDateFormat} on {@link Date} and {@link LocalDate#toString()} are kept as reference.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFormatBenchmark {
+
+    // Same pattern as the renderer of MaintenanceTaskViewer
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final LocalDate[] dates = new LocalDate[1024];
+    private final Date[] legacyDates = new Date[dates.length];
+    private int next;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = BenchmarkData.BASE_DATE.plusDays(i - dates.length / 2);
+            legacyDates[i] = java.sql.Date.valueOf(dates[i]);
+        }
+    }
+
+    // Cycles through the dates so the formatting is not constant folded
+    private int nextIndex() {
+        next = (next + 1) & (dates.length - 1);
+        return next;
+    }
+
+    @Benchmark
+    public String rendererPattern() {
+        return dates[nextIndex()].format(DATE_FORMAT);
+    }
+
+    @Benchmark
+    public String isoToString() {
+        return dates[nextIndex()].toString();
+    }
+
+    @Benchmark
+    public String legacySimpleDateFormat() {
+        return new SimpleDateFormat("yyyy-MM-dd").format(legacyDates[nextIndex()]);
+    }
+}
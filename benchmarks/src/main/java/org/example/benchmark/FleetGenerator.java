@@ -0,0 +1,303 @@
+package org.example.benchmark;
+
+import org.example.db.Database;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : FleetGenerator.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Seeded generator of production sized aircraft and task tables.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * FleetGenerator: fills {@code aircraft} and {@code maintenance_task} of a schema with a fleet
+ * shaped like production data. The same seed, sizes and reference date give the same rows.
+ *
+ * Distributions:
+ * <ul>
+ *   <li>Tasks per aircraft follow a Zipf law (exponent 0.9): a few aircraft carry long histories,
+ *       most have a handful of tasks. The heavy aircraft are spread over the id range.</li>
+ *   <li>Models and descriptions are Zipf distributed over their catalogues.</li>
+ *   <li>{@code completedShare} of the tasks are completed history, due up to ten years back with
+ *       an exponential age (mean 400 days) and completed a few days around the due date.</li>
+ *   <li>Pending tasks are mostly due in the coming weeks (exponential, mean 60 days),
+ *       15 % are overdue by a few weeks.</li>
+ * </ul>
+ *
+ * The rows are streamed to COPY, memory does not grow with the task count. The secondary
+ * indexes of the task table are dropped for the load and rebuilt afterwards, everything in
+ * one transaction, so an interrupted run leaves the previous contents.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmark.FleetGenerator \
+ *      --schema load_test --aircraft 10000 --tasks 10000000 --seed 42 [--today 2026-10-17] [--completedShare 0.8]
+ * </pre>
+ */
+public final class FleetGenerator {
+
+    // Tasks per aircraft and catalogue entries
+    private static final double ZIPF_EXPONENT = 0.9;
+
+    // Pending tasks that are already overdue
+    private static final double OVERDUE_SHARE = 0.15;
+
+    // Bytes collected before they are sent to COPY
+    private static final int COPY_BUFFER = 1 << 20;
+
+    private final long seed;
+    private final int aircraftCount;
+    private final int taskCount;
+    private final LocalDate today;
+    private final double completedShare;
+
+    /**
+     * @param seed           seed of all random choices
+     * @param aircraftCount  aircraft, ids 1 to aircraftCount
+     * @param taskCount      tasks, ids 1 to taskCount
+     * @param today          reference date of the due dates and completion times
+     * @param completedShare share of completed tasks, 0 to 1
+     */
+    public FleetGenerator(long seed, int aircraftCount, int taskCount, LocalDate today, double completedShare) {
+        if (aircraftCount < 1 || taskCount < 0 || completedShare < 0 || completedShare > 1) {
+            throw new IllegalArgumentException("Invalid generator settings");
+        }
+        this.seed = seed;
+        this.aircraftCount = aircraftCount;
+        this.taskCount = taskCount;
+        this.today = today;
+        this.completedShare = completedShare;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLine options = new CommandLine(args);
+        String schema = options.get("schema", "load_test");
+        FleetGenerator generator = new FleetGenerator(
+                options.getLong("seed", 42),
+                options.getInt("aircraft", 10_000),
+                options.getInt("tasks", 10_000_000),
+                LocalDate.parse(options.get("today", LocalDate.now().toString())),
+                options.getDouble("completedShare", 0.8));
+        options.checkAllUsed();
+
+        BenchmarkDatabase.useSchema(schema);
+        long start = System.nanoTime();
+        generator.load();
+        System.out.printf("Generated %,d aircraft and %,d tasks in schema %s in %.1f s (seed %d, today %s)%n",
+                generator.aircraftCount, generator.taskCount, schema, (System.nanoTime() - start) / 1e9,
+                generator.seed, generator.today);
+        Database.shutdown();
+    }
+
+    /**
+     * Replaces the contents of the tables of the current schema with the generated fleet.
+     *
+     * @throws SQLException if the rows cannot be written
+     */
+    public void load() throws SQLException {
+        // A load of millions of rows holds its connection for minutes, a pooled one would be reported as leaked
+        try (Connection conn = Database.openDedicatedConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("SET LOCAL maintenance_work_mem = '256MB'");
+                stmt.execute("TRUNCATE maintenance_task, aircraft RESTART IDENTITY");
+                List<String> indexes = dropSecondaryIndexes(stmt);
+
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                copyAircraft(pg);
+                copyTasks(pg);
+
+                for (String definition : indexes) {
+                    stmt.execute(definition);
+                }
+                stmt.execute("SELECT setval(pg_get_serial_sequence('aircraft', 'id'), " + aircraftCount + ")");
+                stmt.execute("SELECT setval(pg_get_serial_sequence('maintenance_task', 'id'), " + Math.max(taskCount, 1) + ")");
+                conn.commit();
+                stmt.execute("ANALYZE aircraft");
+                stmt.execute("ANALYZE maintenance_task");
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+    }
+
+    /**
+     * Drops the task indexes that do not back a constraint, rebuilding them once is much
+     * cheaper than updating them for every copied row.
+     *
+     * @return the definitions to create them again
+     */
+    private static List<String> dropSecondaryIndexes(Statement stmt) throws SQLException {
+        List<String> names = new ArrayList<>();
+        List<String> definitions = new ArrayList<>();
+        try (ResultSet rs = stmt.executeQuery(
+                "SELECT i.relname, pg_get_indexdef(i.oid) FROM pg_index x " +
+                "JOIN pg_class i ON i.oid = x.indexrelid " +
+                "WHERE x.indrelid = 'maintenance_task'::regclass " +
+                "AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = i.oid)")) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+                definitions.add(rs.getString(2));
+            }
+        }
+        for (String name : names) {
+            stmt.execute("DROP INDEX \"" + name + "\"");
+        }
+        return definitions;
+    }
+
+    private void copyAircraft(PGConnection pg) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed);
+        double[] models = zipf(BenchmarkData.MODELS.length);
+        CopyIn copy = pg.getCopyAPI().copyIn("COPY aircraft (id, model, tail_number) FROM STDIN WITH (FORMAT csv)");
+        try {
+            StringBuilder rows = new StringBuilder();
+            for (int id = 1; id <= aircraftCount; id++) {
+                rows.append(id).append(',').append(BenchmarkData.MODELS[sample(models, random)])
+                        .append(",N").append(id).append("LT\n");
+                flushIfFull(copy, rows);
+            }
+            flush(copy, rows);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    private void copyTasks(PGConnection pg) throws SQLException {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        double[] aircraftWeights = zipf(aircraftCount);
+        int[] aircraftByRank = shuffledIds(new SplittableRandom(seed + 2));
+        double[] descriptions = zipf(BenchmarkData.DESCRIPTIONS.length);
+        // Quoted once, the descriptions may contain commas
+        String[] quoted = new String[BenchmarkData.DESCRIPTIONS.length];
+        for (int i = 0; i < quoted.length; i++) {
+            quoted[i] = "\"" + BenchmarkData.DESCRIPTIONS[i].replace("\"", "\"\"") + "\"";
+        }
+
+        CopyIn copy = pg.getCopyAPI().copyIn("COPY maintenance_task (id, aircraft_id, task_description, due_date, "
+                + "status, completed_at) FROM STDIN WITH (FORMAT csv)");
+        try {
+            StringBuilder rows = new StringBuilder(COPY_BUFFER + 256);
+            for (int id = 1; id <= taskCount; id++) {
+                int aircraftId = aircraftByRank[sample(aircraftWeights, random)];
+                String description = quoted[sample(descriptions, random)];
+                rows.append(id).append(',').append(aircraftId).append(',').append(description).append(',');
+                if (random.nextDouble() < completedShare) {
+                    LocalDate due = today.minusDays(Math.min(3650, exponential(random, 400)));
+                    LocalDate completed = due.plusDays(random.nextInt(-2, 6));
+                    if (completed.isAfter(today)) {
+                        completed = today;
+                    }
+                    rows.append(due).append(",Completed,").append(completed).append(' ')
+                            .append(6 + random.nextInt(16)).append(":00:00+00\n");
+                } else {
+                    LocalDate due = random.nextDouble() < OVERDUE_SHARE
+                            ? today.minusDays(1 + exponential(random, 20))
+                            : today.plusDays(exponential(random, 60));
+                    rows.append(due).append(",Pending,\n");
+                }
+                flushIfFull(copy, rows);
+            }
+            flush(copy, rows);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    // ==================== DISTRIBUTIONS ====================
+
+    /**
+     * @return cumulative Zipf weights of n ranks, normalised to 1
+     */
+    private static double[] zipf(int n) {
+        double[] cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * @return a rank drawn from cumulative weights
+     */
+    private static int sample(double[] cumulative, SplittableRandom random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return whole days with an exponential distribution
+     */
+    private static long exponential(SplittableRandom random, double mean) {
+        return (long) (-mean * Math.log(1 - random.nextDouble()));
+    }
+
+    /**
+     * @return aircraft ids in random order, so the busiest aircraft are not simply the first ids
+     */
+    private int[] shuffledIds(SplittableRandom random) {
+        int[] ids = new int[aircraftCount];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    // ==================== COPY ====================
+
+    private static void flushIfFull(CopyIn copy, StringBuilder rows) throws SQLException {
+        if (rows.length() >= COPY_BUFFER) {
+            flush(copy, rows);
+        }
+    }
+
+    private static void flush(CopyIn copy, StringBuilder rows) throws SQLException {
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+}
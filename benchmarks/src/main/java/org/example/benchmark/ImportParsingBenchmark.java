@@ -0,0 +1,118 @@
+package org.example.benchmark;
+
+import org.example.model.Aircraft;
+import org.example.util.MappedCsvReader;
+import org.example.util.StreamingXlsxReader;
+import org.example.util.StreamingXmlReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ImportParsingBenchmark.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Parsing stage of the aircraft and task imports for CSV, XML and XLSX.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Parses generated import files with the readers and record layouts of
+ * {@code AircraftImportHandler} and {@code MaintenanceTaskImportHandler}, without the database.
+ * One operation reads a whole file: 10,000 aircraft or 50,000 tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImportParsingBenchmark {
+
+    private static final int AIRCRAFT = 10_000;
+    private static final int TASKS = 50_000;
+
+    @Param({"csv", "xml", "xlsx"})
+    public String format;
+
+    private Path directory;
+    private File aircraftFile;
+    private File taskFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("amt-bench");
+        List<Aircraft> aircraft = BenchmarkData.aircraft(AIRCRAFT);
+        List<BenchmarkData.TaskRow> tasks = BenchmarkData.tasks(AIRCRAFT, TASKS);
+        switch (format) {
+            case "csv" -> {
+                aircraftFile = BenchmarkData.writeAircraftCsv(directory.resolve("aircraft.csv"), aircraft).toFile();
+                taskFile = BenchmarkData.writeTaskCsv(directory.resolve("tasks.csv"), tasks).toFile();
+            }
+            case "xml" -> {
+                aircraftFile = BenchmarkData.writeAircraftXml(directory.resolve("aircraft.xml"), aircraft).toFile();
+                taskFile = BenchmarkData.writeTaskXml(directory.resolve("tasks.xml"), tasks).toFile();
+            }
+            case "xlsx" -> {
+                aircraftFile = BenchmarkData.writeAircraftXlsx(directory.resolve("aircraft.xlsx"), aircraft).toFile();
+                taskFile = BenchmarkData.writeTaskXlsx(directory.resolve("tasks.xlsx"), tasks).toFile();
+            }
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void parseAircraft(Blackhole blackhole) throws Exception {
+        switch (format) {
+            case "csv" -> MappedCsvReader.read(aircraftFile, true, (lineNum, row) -> blackhole.consume(row.toArray()));
+            case "xml" -> StreamingXmlReader.readRecords(aircraftFile, "aircraft", Set.of("model", "tailNumber"),
+                    (recordNum, fields) -> blackhole.consume(new String[]{fields.get("model"), fields.get("tailNumber")}));
+            default -> StreamingXlsxReader.readFirstSheet(aircraftFile, true, (rowNum, cells) ->
+                    blackhole.consume(new String[]{StreamingXlsxReader.cell(cells, 0), StreamingXlsxReader.cell(cells, 1)}));
+        }
+    }
+
+    @Benchmark
+    public void parseTasks(Blackhole blackhole) throws Exception {
+        switch (format) {
+            case "csv" -> MappedCsvReader.read(taskFile, true, (lineNum, row) -> blackhole.consume(row.toArray()));
+            case "xml" -> StreamingXmlReader.readRecords(taskFile, "task", Set.of("aircraftId", "description", "dueDate", "status"),
+                    (recordNum, fields) -> blackhole.consume(new String[]{
+                            fields.get("aircraftId"), fields.get("description"), fields.get("dueDate"), fields.get("status")}));
+            default -> StreamingXlsxReader.readFirstSheet(taskFile, true, (rowNum, cells) ->
+                    blackhole.consume(new String[]{
+                            StreamingXlsxReader.cell(cells, 0), StreamingXlsxReader.cell(cells, 1),
+                            StreamingXlsxReader.cell(cells, 2), StreamingXlsxReader.cell(cells, 3)}));
+        }
+    }
+}
@@ -0,0 +1,451 @@
+package org.example.benchmark;
+
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.model.Aircraft;
+import org.example.model.FleetKpis;
+import org.example.model.TaskPage;
+import org.example.model.TaskQuery;
+import org.example.model.TaskSort;
+import org.example.model.TaskStatus;
+import org.example.presenter.AircraftPresenter;
+import org.example.util.MaintenanceTaskImportHandler;
+import org.example.view.AircraftView;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : LoadTest.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Scripted multi-planner load scenarios against the presenter, without GUI.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * LoadTest: N planners work concurrently on a schema filled by {@link FleetGenerator}. Each
+ * planner is a terminal of its own (one {@link AircraftPresenter} with a headless view) that
+ * repeats operations drawn from the weights of the scenario. All planners share the connection
+ * pool of the process, as the terminals of a hangar share the database.
+ *
+ * Per operation the run reports the count, the failures (an exception or an error message to
+ * the view), the throughput and the latency percentiles. The operations of the warm-up are not
+ * counted, those started before the end are waited for. The sequence of operations of a planner
+ * depends only on the seed.
+ *
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar org.example.benchmark.LoadTest \
+ *      --schema load_test --scenario planning --planners 8 --duration 60 --warmup 10 \
+ *      [--thinkMillis 0] [--seed 42] [--csv results.csv]
+ * </pre>
+ */
+public final class LoadTest {
+
+    /**
+     * What a planner does at the terminal.
+     */
+    enum Operation {
+        // Full refresh of the aircraft list
+        LOAD_AIRCRAFT,
+        // One keyset page of the task list, filtered like the viewer
+        TASK_PAGE,
+        // A window of the virtual task table near the top, in a random sort order
+        TASK_WINDOW,
+        // The dashboard KPIs
+        DASHBOARD,
+        // Task figures of one aircraft (detail view)
+        AIRCRAFT_STATS,
+        // A new maintenance task
+        ADD_TASK,
+        // New model of an aircraft, the tail number is kept
+        UPDATE_AIRCRAFT,
+        // A new aircraft
+        ADD_AIRCRAFT,
+        // Import of a CSV file with 500 tasks
+        IMPORT_TASKS
+    }
+
+    /**
+     * Relative weights of the operations.
+     */
+    enum Scenario {
+        // Reading only: lists, pages, dashboard
+        BROWSING(Map.of(Operation.LOAD_AIRCRAFT, 5, Operation.TASK_PAGE, 40, Operation.TASK_WINDOW, 20,
+                Operation.DASHBOARD, 20, Operation.AIRCRAFT_STATS, 15)),
+        // A working shift: mostly reading, with task planning and some fleet changes
+        PLANNING(Map.of(Operation.LOAD_AIRCRAFT, 5, Operation.TASK_PAGE, 30, Operation.TASK_WINDOW, 10,
+                Operation.DASHBOARD, 15, Operation.AIRCRAFT_STATS, 10, Operation.ADD_TASK, 20,
+                Operation.UPDATE_AIRCRAFT, 6, Operation.ADD_AIRCRAFT, 2, Operation.IMPORT_TASKS, 2)),
+        // Imports while the other terminals refresh their dashboards and lists
+        IMPORT_BURST(Map.of(Operation.IMPORT_TASKS, 30, Operation.DASHBOARD, 40, Operation.TASK_PAGE, 30));
+
+        private final Operation[] table;
+
+        Scenario(Map<Operation, Integer> weights) {
+            List<Operation> entries = new ArrayList<>();
+            // Enum order, so the table and the drawn sequence do not depend on the map iteration
+            for (Operation operation : Operation.values()) {
+                for (int i = 0; i < weights.getOrDefault(operation, 0); i++) {
+                    entries.add(operation);
+                }
+            }
+            table = entries.toArray(new Operation[0]);
+        }
+
+        Operation next(SplittableRandom random) {
+            return table[random.nextInt(table.length)];
+        }
+    }
+
+    // Rows of the import file
+    private static final int IMPORT_ROWS = 500;
+
+    // Rows fetched by TASK_WINDOW, as the virtual table requests them
+    private static final int WINDOW_ROWS = 200;
+
+    // Offsets of TASK_WINDOW, the rows a planner scrolls through
+    private static final int WINDOW_RANGE = 10_000;
+
+    // First failure of the run, shown with the results so an error rate can be explained
+    private final AtomicReference<String> firstFailure = new AtomicReference<>();
+
+    private final Scenario scenario;
+    private final int planners;
+    private final long durationNanos;
+    private final long warmupNanos;
+    private final long thinkMillis;
+    private final long seed;
+
+    private LoadTest(Scenario scenario, int planners, long durationSeconds, long warmupSeconds, long thinkMillis, long seed) {
+        this.scenario = scenario;
+        this.planners = planners;
+        this.durationNanos = TimeUnit.SECONDS.toNanos(durationSeconds);
+        this.warmupNanos = TimeUnit.SECONDS.toNanos(warmupSeconds);
+        this.thinkMillis = thinkMillis;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLine options = new CommandLine(args);
+        String schema = options.get("schema", "load_test");
+        LoadTest test = new LoadTest(
+                Scenario.valueOf(options.get("scenario", "planning").toUpperCase(Locale.ROOT).replace('-', '_')),
+                options.getInt("planners", 8),
+                options.getLong("duration", 60),
+                options.getLong("warmup", 10),
+                options.getLong("thinkMillis", 0),
+                options.getLong("seed", 42));
+        String csv = options.get("csv", null);
+        options.checkAllUsed();
+
+        BenchmarkDatabase.useSchema(schema);
+        int poolSize = DatabaseConfig.load().getInt("pool.maximumSize", 10);
+        if (test.planners > poolSize) {
+            System.out.printf("Note: %d planners share %d pooled connections (-Dpool.maximumSize)%n", test.planners, poolSize);
+        }
+
+        Map<Operation, Recorder> results = test.run();
+        test.report(System.out, schema, results);
+        if (csv != null) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(Paths.get(csv)))) {
+                writeCsv(out, results, test.durationNanos);
+            }
+        }
+        Database.shutdown();
+        System.exit(0);
+    }
+
+    /**
+     * Runs the planners for the warm-up and the measured duration.
+     *
+     * @return the merged measurements per operation
+     */
+    private Map<Operation, Recorder> run() throws Exception {
+        // The fleet known when the shift starts, planners pick their aircraft from it
+        List<Aircraft> fleet = new AircraftPresenter(new HeadlessView()).getAircraftList();
+        if (fleet.isEmpty()) {
+            throw new IllegalStateException("No aircraft in the schema, run FleetGenerator first");
+        }
+        Path importFile = writeImportFile(fleet);
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        List<Planner> workers = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(planners);
+        for (int i = 0; i < planners; i++) {
+            Planner planner = new Planner(i, fleet, importFile, runId, measureFrom, end, done);
+            workers.add(planner);
+            new Thread(planner, "planner-" + i).start();
+        }
+        done.await();
+        Files.deleteIfExists(importFile);
+
+        Map<Operation, Recorder> merged = new EnumMap<>(Operation.class);
+        for (Planner planner : workers) {
+            planner.recorders.forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, o -> new Recorder()).addAll(recorder));
+        }
+        return merged;
+    }
+
+    /**
+     * One terminal: its own presenter and view, the operations drawn from its own random sequence.
+     */
+    private final class Planner implements Runnable {
+        private final int index;
+        private final List<Aircraft> fleet;
+        private final Path importFile;
+        private final String runId;
+        private final long measureFrom;
+        private final long end;
+        private final CountDownLatch done;
+
+        private final SplittableRandom random;
+        private final HeadlessView view = new HeadlessView();
+        private final AircraftPresenter presenter = new AircraftPresenter(view);
+        private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+        private TaskPage lastPage;
+        private TaskQuery lastQuery;
+        private int addedAircraft;
+
+        Planner(int index, List<Aircraft> fleet, Path importFile, String runId, long measureFrom, long end, CountDownLatch done) {
+            this.index = index;
+            this.fleet = fleet;
+            this.importFile = importFile;
+            this.runId = runId;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.done = done;
+            this.random = new SplittableRandom(seed + index);
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (System.nanoTime() < end) {
+                    Operation operation = scenario.next(random);
+                    view.lastError = null;
+                    long started = System.nanoTime();
+                    boolean failed;
+                    try {
+                        execute(operation);
+                        failed = view.lastError != null;
+                        if (failed) {
+                            firstFailure.compareAndSet(null, operation + ": " + view.lastError);
+                        }
+                    } catch (Exception e) {
+                        failed = true;
+                        firstFailure.compareAndSet(null, operation + ": " + e);
+                    }
+                    long finished = System.nanoTime();
+                    // Operations started in the measured interval count with their full latency,
+                    // the run waits for them, so slow calls at the end are not left out
+                    if (started >= measureFrom) {
+                        recorders.computeIfAbsent(operation, o -> new Recorder()).record(finished - started, failed);
+                    }
+                    if (thinkMillis > 0) {
+                        // Exponential pauses, the planners do not act in lock step
+                        Thread.sleep((long) (-thinkMillis * Math.log(1 - random.nextDouble())));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void execute(Operation operation) throws Exception {
+            Aircraft aircraft = fleet.get(random.nextInt(fleet.size()));
+            switch (operation) {
+                case LOAD_AIRCRAFT -> presenter.loadAircraft();
+                case TASK_PAGE -> {
+                    // Half of the time the planner pages on, otherwise a new filter
+                    if (lastPage != null && lastPage.hasNext() && random.nextBoolean()) {
+                        lastPage = presenter.loadTaskPage(lastQuery, lastPage.nextCursor());
+                    } else {
+                        int filter = random.nextInt(4);
+                        lastQuery = filter == 0 || filter == 1 ? new TaskQuery().withAircraft(aircraft.id())
+                                : filter == 2 ? new TaskQuery().withStatus(TaskStatus.PENDING)
+                                : new TaskQuery();
+                        lastPage = presenter.loadTaskPage(lastQuery, null);
+                    }
+                }
+                case TASK_WINDOW -> {
+                    TaskSort sort = TaskSort.values()[random.nextInt(TaskSort.values().length)];
+                    presenter.loadTaskRows(new TaskQuery().withSort(sort, random.nextBoolean()),
+                            random.nextInt(WINDOW_RANGE), WINDOW_ROWS, null);
+                }
+                case DASHBOARD -> presenter.loadFleetKpis();
+                case AIRCRAFT_STATS -> presenter.loadAircraftTaskStats(aircraft.id());
+                case ADD_TASK -> presenter.addMaintenanceTask(aircraft.id(),
+                        BenchmarkData.DESCRIPTIONS[random.nextInt(BenchmarkData.DESCRIPTIONS.length)],
+                        LocalDate.now().plusDays(1 + random.nextInt(90)));
+                case UPDATE_AIRCRAFT -> presenter.updateAircraft(aircraft.id(),
+                        BenchmarkData.MODELS[random.nextInt(BenchmarkData.MODELS.length)], aircraft.tailNumber());
+                case ADD_AIRCRAFT -> presenter.addAircraft(
+                        BenchmarkData.MODELS[random.nextInt(BenchmarkData.MODELS.length)],
+                        "LT-" + runId + "-" + index + "-" + (++addedAircraft));
+                case IMPORT_TASKS -> MaintenanceTaskImportHandler.importFile(importFile.toFile());
+            }
+        }
+    }
+
+    /**
+     * Writes the CSV file of IMPORT_TASKS, tasks for aircraft of the fleet.
+     */
+    private Path writeImportFile(List<Aircraft> fleet) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<BenchmarkData.TaskRow> rows = new ArrayList<>(IMPORT_ROWS);
+        for (BenchmarkData.TaskRow task : BenchmarkData.tasks(fleet.size(), IMPORT_ROWS)) {
+            Aircraft aircraft = fleet.get(random.nextInt(fleet.size()));
+            rows.add(new BenchmarkData.TaskRow(task.id(), aircraft.id(), task.description(), task.dueDate(),
+                    task.status(), task.completedAt()));
+        }
+        return BenchmarkData.writeTaskCsv(Files.createTempFile("amt-load", ".csv"), rows);
+    }
+
+    // ==================== RESULTS ====================
+
+    private void report(PrintStream out, String schema, Map<Operation, Recorder> results) {
+        double seconds = durationNanos / 1e9;
+        out.printf("Scenario %s, %d planners, %.0f s measured after %.0f s warm-up, think time %d ms, schema %s%n",
+                scenario.name().toLowerCase(Locale.ROOT).replace('_', '-'), planners, seconds, warmupNanos / 1e9, thinkMillis, schema);
+        out.printf("%-16s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "ops/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Recorder total = new Recorder();
+        results.forEach((operation, recorder) -> {
+            printRow(out, operation.name().toLowerCase(Locale.ROOT), recorder, seconds);
+            total.addAll(recorder);
+        });
+        printRow(out, "total", total, seconds);
+        if (firstFailure.get() != null) {
+            out.println("First failure: " + firstFailure.get());
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Recorder recorder, double seconds) {
+        long[] sorted = recorder.sorted();
+        out.printf(Locale.ROOT, "%-16s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, sorted.length, recorder.errors, sorted.length / seconds, recorder.meanMillis(),
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                percentile(sorted, 0.999), percentile(sorted, 1.0));
+    }
+
+    private static void writeCsv(PrintStream out, Map<Operation, Recorder> results, long durationNanos) {
+        out.println("operation,count,errors,opsPerSecond,meanMs,p50Ms,p90Ms,p99Ms,p999Ms,maxMs");
+        results.forEach((operation, recorder) -> {
+            long[] sorted = recorder.sorted();
+            out.printf(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n",
+                    operation.name().toLowerCase(Locale.ROOT), sorted.length, recorder.errors,
+                    sorted.length / (durationNanos / 1e9), recorder.meanMillis(),
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    percentile(sorted, 0.999), percentile(sorted, 1.0));
+        });
+    }
+
+    /**
+     * @return the latency in milliseconds below which the given share of the operations finished
+     *         (nearest rank), 0 without measurements
+     */
+    private static double percentile(long[] sorted, double share) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(share * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1e6;
+    }
+
+    /**
+     * Latencies of one operation, recorded by a single planner and merged at the end.
+     * Every value is kept, so the percentiles are exact.
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+        private long sum;
+
+        void record(long nanos, boolean failed) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            sum += nanos;
+            if (failed) {
+                errors++;
+            }
+        }
+
+        void addAll(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], false);
+            }
+            errors += other.errors;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        double meanMillis() {
+            return count == 0 ? 0 : sum / 1e6 / count;
+        }
+    }
+
+    /**
+     * View of a planner: nothing is shown, error messages of the presenter mark the operation as failed.
+     */
+    private static final class HeadlessView implements AircraftView {
+        // Only used by the planner thread that owns the view
+        String lastError;
+
+        @Override
+        public void showAircraftList(List<Aircraft> aircraftList) {
+        }
+
+        @Override
+        public void showSnapshot(List<Aircraft> aircraftList, FleetKpis kpis, Instant createdAt) {
+        }
+
+        @Override
+        public void showMessage(String message) {
+            if (message.startsWith("Error") || message.contains("not found")) {
+                lastError = message;
+            }
+        }
+
+        @Override
+        public void aircraftAdded(Aircraft aircraft) {
+        }
+
+        @Override
+        public void aircraftUpdated(Aircraft aircraft) {
+        }
+
+        @Override
+        public void aircraftRemoved(int id) {
+        }
+    }
+}
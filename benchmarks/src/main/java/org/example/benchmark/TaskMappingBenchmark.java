@@ -0,0 +1,79 @@
+package org.example.benchmark;
+
+import org.example.model.MaintenanceTask;
+import org.example.model.TaskPage;
+import org.example.model.TaskQuery;
+import org.example.model.TaskSort;
+import org.example.presenter.AircraftPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : TaskMappingBenchmark.java
+// Application    : Aircraft Maintenance Tracker (benchmarks)
+// Description    : Task queries of the presenter and the mapping of their rows to the model.
+// Safety Level   : Not applicable (test equipment, not part of the delivered application)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Reads the {@link BenchmarkDatabase} tasks through {@link AircraftPresenter}: the full list of
+ * the task viewer (100,000 rows mapped to {@link MaintenanceTask}) and the pages and windows of
+ * the virtual table. Needs a local PostgreSQL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private AircraftPresenter presenter;
+    private TaskQuery query;
+
+    @Setup
+    public void setUp() throws SQLException {
+        BenchmarkDatabase.prepare();
+        // No view: the synchronous calls return their result, a database error fails the benchmark
+        presenter = new AircraftPresenter(null);
+        query = new TaskQuery().withPageSize(200);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BenchmarkDatabase.shutdown();
+    }
+
+    @Benchmark
+    public List<MaintenanceTask> loadMaintenanceTasks() {
+        return presenter.loadMaintenanceTasks();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public TaskPage loadFirstTaskPage() {
+        return presenter.loadTaskPage(query, null);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<MaintenanceTask> loadTaskRowsByAircraft() {
+        // Window in the middle of the table sorted by a joined column, as when the user scrolls
+        return presenter.loadTaskRows(query.withSort(TaskSort.AIRCRAFT, true), 50_000, 200, null);
+    }
+}
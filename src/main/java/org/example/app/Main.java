@@ -1,8 +1,15 @@
 package org.example.app;
 
+import org.example.db.ChangeFeed;
+import org.example.db.DatabaseConfig;
+import org.example.db.SchemaMigrator;
+import org.example.metrics.Metrics;
 import org.example.presenter.AircraftPresenter;
+import org.example.presenter.FleetSnapshot;
 import org.example.view.AircraftViewImplementation;
-import org.example.view.MaintenanceDashboardPanel;
+import org.example.view.EdtWatchdog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 // Used for logging the honey trap attempts into the security-audit.log
 import java.io.FileWriter;
@@ -10,6 +17,13 @@ import java.io.FileWriter;
 //Used for catching exceptions
 import java.io.IOException;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.JOptionPane;
+import javax.swing.SwingUtilities;
+
 // ========================= DO-178C MODULE HEADER =========================
 // Module Name    : Main.java
 // Application    : Aircraft Maintenance Tracker
@@ -17,7 +31,7 @@ import java.io.IOException;
 //                  and launches real or decoy mode for aviation security.
 // Safety Level   : DAL C (assumed - confirm with system safety assessment)
 // Developed By   : Rafail
-// Last Modified  : 2025-05-02
+// Last Modified  : 2026-10-17
 // ========================================================================
 
 //Use this to check the stealth mode
@@ -30,13 +44,29 @@ import java.io.IOException;
  */
 public class Main {
 
+    private static final Logger log = LoggerFactory.getLogger(Main.class);
+
     /**
      * Main method - invoked when the application starts.
      * Launches the login interface.
      */
     public static void main(String[] args) {
+        StartupTimer timer = StartupTimer.start("startup");
+        //Stop the change feed and return the pooled database connections when the application exits
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            ChangeFeed.stop();
+            org.example.db.Database.shutdown();
+        }, "db-pool-shutdown"));
+        //Log the query and import metrics periodically if configured, they are always published through JMX
+        Metrics.startLogReporter(DatabaseConfig.load().getLong("metrics.logIntervalSeconds", 0));
+        //Watch the event dispatch thread from the login window on, a blocked screen is logged with its stack
+        startEdtWatchdog();
+        //Bring the database schema to the version this build expects before any screen queries it
+        migrateSchema();
+        timer.mark("schema migrated");
         //Launching the login window (authentication entry point)
         new org.example.auth.LoginWindow();
+        timer.mark("login shown");
     }
 
     /**
@@ -44,19 +74,43 @@ public class Main {
      * This is the standard execution path.
      */
     public static void launchRealMode() {
+        StartupTimer timer = StartupTimer.start("launch");
+        //Snapshot of the previous session, null if snapshots are disabled
+        Path snapshotFile = snapshotFile();
         //Create a presenter object with a null view
         //If in the function there is not null then the software will throw a NullPointerException if the view has not
         //Constructed yer
         AircraftPresenter presenter = new AircraftPresenter(null);
         //Create the real view and pass false to not activate the honey trap
+        //The view contains the Maintenance Dashboard, which loads its own figures
         AircraftViewImplementation view = new AircraftViewImplementation(presenter, false);
         //Connect the view to the presenter from the MVP pattern
         presenter.setView(view);
-        //Load the actual aircraft data from the aircraft model
-        presenter.loadAircraft();
-        //Show the Maintenace Dashboard with details on the aircrafts
-        MaintenanceDashboardPanel dashboard = new MaintenanceDashboardPanel(presenter);
-
+        //Read and check the cached fleet in the background and render it, unless the database data arrived first
+        //This runs in the login button listener on the EDT, a large snapshot must not delay the first frame
+        CompletableFuture<FleetSnapshot> snapshot = snapshotFile == null
+                ? CompletableFuture.completedFuture(null)
+                : presenter.showFleetSnapshotAsync(snapshotFile).whenComplete((shown, error) -> {
+                    if (shown != null) {
+                        timer.mark("snapshot shown");
+                    }
+                });
+        //The paint events of the window are queued before this one
+        SwingUtilities.invokeLater(() -> timer.mark("first frame"));
+        //Load the actual aircraft data from the aircraft model, the window is shown while the query runs
+        //Then write the snapshot for the next start if the data changed since the one that was read
+        presenter.loadAircraftAsync()
+                .thenRun(() -> timer.mark("aircraft reconciled"))
+                .thenCombine(snapshot, (ignored, previous) -> previous)
+                .thenAccept(previous -> {
+                    if (snapshotFile != null) {
+                        presenter.saveFleetSnapshotAsync(snapshotFile, previous)
+                                .thenAccept(written -> timer.mark(written ? "snapshot written" : "snapshot current"));
+                    }
+                });
+        //Follow the changes of the other terminals, the decoy mode never does
+        ChangeFeed.addListener(presenter::applyChanges);
+        ChangeFeed.start();
     }
 
     /**
@@ -76,6 +130,61 @@ public class Main {
         view.loadFakeAircraft();
     }
 
+    /**
+     * Applies pending schema migrations unless {@code db.migrateOnStartup} is false.
+     * A failure is shown to the user, the application still starts so the login and
+     * the error messages of the screens remain available.
+     */
+    private static void migrateSchema() {
+        if (!Boolean.parseBoolean(DatabaseConfig.load().get("db.migrateOnStartup", "true"))) {
+            return;
+        }
+        try {
+            SchemaMigrator.migrate();
+        } catch (Exception e) {
+            log.error("Schema migration failed", e);
+            JOptionPane.showMessageDialog(null, "Database schema migration failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the event dispatch thread watchdog unless {@code ui.watchdog.enabled} is false.
+     * The watchdog is diagnostics only: an interval or threshold of 0 or less, or one that is
+     * not a number, leaves it off with a warning instead of stopping the application.
+     */
+    private static void startEdtWatchdog() {
+        DatabaseConfig config = DatabaseConfig.load();
+        if (!Boolean.parseBoolean(config.get("ui.watchdog.enabled", "true"))) {
+            return;
+        }
+        long intervalMillis;
+        long thresholdMillis;
+        try {
+            intervalMillis = config.getLong("ui.watchdog.intervalMillis", 100);
+            thresholdMillis = config.getLong("ui.watchdog.thresholdMillis", 500);
+        } catch (IllegalStateException e) {
+            log.warn("Event dispatch thread watchdog not started: {}", e.getMessage());
+            return;
+        }
+        if (intervalMillis <= 0 || thresholdMillis <= 0) {
+            log.warn("Event dispatch thread watchdog not started, ui.watchdog.intervalMillis={} "
+                    + "and ui.watchdog.thresholdMillis={} must both be positive", intervalMillis, thresholdMillis);
+            return;
+        }
+        EdtWatchdog.start(intervalMillis, thresholdMillis);
+    }
+
+    /**
+     * @return the snapshot file of {@code snapshot.file}, null if {@code snapshot.enabled} is false
+     */
+    private static Path snapshotFile() {
+        DatabaseConfig config = DatabaseConfig.load();
+        if (!Boolean.parseBoolean(config.get("snapshot.enabled", "true"))) {
+            return null;
+        }
+        return Paths.get(config.get("snapshot.file", "fleet-snapshot.bin"));
+    }
+
     /**
      * Logs honey trap activation to the security audit file.
      * Supports incident analysis and cybersecurity compliance.
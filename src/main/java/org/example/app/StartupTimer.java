@@ -0,0 +1,52 @@
+package org.example.app;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : StartupTimer.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Logs the duration of the startup phases.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Measures a startup sequence: every {@link #mark(String)} logs the time since the start and
+ * since the previous phase, e.g. {@code launch: first frame after 84 ms (+61 ms)}.
+ * Phases may be marked from the event thread and from the database threads.
+ */
+final class StartupTimer {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimer.class);
+
+    private final String name;
+    private final long startNanos;
+    private long previousNanos;
+
+    private StartupTimer(String name) {
+        this.name = name;
+        this.startNanos = System.nanoTime();
+        this.previousNanos = startNanos;
+    }
+
+    /**
+     * @param name name of the sequence in the log lines
+     * @return a timer started now
+     */
+    static StartupTimer start(String name) {
+        return new StartupTimer(name);
+    }
+
+    /**
+     * Logs the end of a phase.
+     *
+     * @param phase what has just finished
+     */
+    synchronized void mark(String phase) {
+        long now = System.nanoTime();
+        log.info("{}: {} after {} ms (+{} ms)", name, phase, (now - startNanos) / 1_000_000, (now - previousNanos) / 1_000_000);
+        previousNanos = now;
+    }
+}
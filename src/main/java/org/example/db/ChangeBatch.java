@@ -0,0 +1,89 @@
+package org.example.db;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Changes made to the database by any terminal during one coalescing window of the
+ * {@link ChangeFeed}.
+ *
+ * The batch names what changed, not the new values: the aircraft ids that were inserted,
+ * updated or deleted, and whether any maintenance task changed. Receivers read the rows
+ * they display. A resync batch means notifications may have been lost (the feed connection
+ * was re-established) and receivers should reload everything they show.
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public final class ChangeBatch {
+
+    // Changed aircraft, in id order
+    private final Set<Integer> aircraftIds;
+
+    // True if any task was inserted, updated or deleted
+    private final boolean tasksChanged;
+
+    // True if more aircraft changed than a batch names, their ids are not kept
+    private final boolean allAircraft;
+
+    // True if changes may have been missed
+    private final boolean resync;
+
+    ChangeBatch(Set<Integer> aircraftIds, boolean tasksChanged, boolean allAircraft, boolean resync) {
+        this.aircraftIds = Collections.unmodifiableSet(new TreeSet<>(aircraftIds));
+        this.tasksChanged = tasksChanged;
+        this.allAircraft = allAircraft;
+        this.resync = resync;
+    }
+
+    /**
+     * @return a batch telling receivers to reload everything
+     */
+    static ChangeBatch resync() {
+        return new ChangeBatch(Collections.emptySet(), true, true, true);
+    }
+
+    /**
+     * @return ids of the inserted, updated or deleted aircraft, empty if {@link #isAllAircraft()}
+     */
+    public Set<Integer> getAircraftIds() {
+        return aircraftIds;
+    }
+
+    /**
+     * @return true if maintenance tasks changed, or on a resync
+     */
+    public boolean isTasksChanged() {
+        return tasksChanged;
+    }
+
+    /**
+     * @return true if aircraft changed, or on a resync
+     */
+    public boolean isAircraftChanged() {
+        return allAircraft || !aircraftIds.isEmpty();
+    }
+
+    /**
+     * @return true if too many aircraft changed to name them (e.g. a bulk import), or on a resync.
+     *         Receivers reload the aircraft they show.
+     */
+    public boolean isAllAircraft() {
+        return allAircraft;
+    }
+
+    /**
+     * @return true if notifications may have been lost and everything should be reloaded
+     */
+    public boolean isResync() {
+        return resync;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeBatch[aircraft=" + (allAircraft ? "all" : aircraftIds.toString()) + ", tasksChanged=" + tasksChanged
+                + ", resync=" + resync + "]";
+    }
+}
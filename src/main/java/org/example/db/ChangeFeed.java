@@ -0,0 +1,242 @@
+package org.example.db;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ChangeFeed.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Receives the change notifications of the database (LISTEN/NOTIFY)
+//                  and hands them to the open views in coalesced batches.
+// Safety Level   : DAL C (displayed data must follow the database)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Notifications are sent by the triggers of migration V5
+// ========================================================================
+
+/**
+ * ChangeFeed: One background listener per process for the changes made by every terminal.
+ *
+ * The triggers of migration V5 send {@code NOTIFY amt_changes} for each aircraft row and each
+ * maintenance task statement. The feed listens on its own connection, outside the pool, so it
+ * never holds a pool slot and is not retired by the pool's maximum lifetime.
+ *
+ * Notifications are collected for a short window after the first one arrives
+ * ({@code feed.coalesceMillis}) and delivered as one {@link ChangeBatch}, so an import of
+ * thousands of aircraft on another terminal causes one refresh, not thousands. A batch names at
+ * most {@code feed.maxAircraftIds} aircraft, beyond that it only tells that all aircraft should be
+ * reloaded, so the ids of a bulk import are not held in memory or handed to the views. Listeners
+ * are called on the feed thread and must hand Swing work to the event thread themselves.
+ *
+ * When the connection is lost the feed reconnects with a growing delay and then delivers a
+ * resync batch, because notifications sent while it was away are not queued for it.
+ */
+public final class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    // Channel of the V5 triggers
+    static final String CHANNEL = "amt_changes";
+
+    // How long one wait for notifications blocks before the stop flag is checked again
+    private static final int POLL_MILLIS = 500;
+
+    /**
+     * Receives the coalesced changes.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        /**
+         * @param batch changes of one coalescing window, called on the feed thread
+         */
+        void onChanges(ChangeBatch batch);
+    }
+
+    // Registered receivers, changed from the EDT while the feed thread iterates
+    private static final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // The running feed thread, null when stopped
+    private static Thread thread;
+
+    // Cleared to stop the feed thread
+    private static volatile boolean running;
+
+    private ChangeFeed() {
+    }
+
+    /**
+     * Starts the feed thread unless {@code feed.enabled} is false or it is already running.
+     */
+    public static synchronized void start() {
+        DatabaseConfig config = DatabaseConfig.load();
+        if (thread != null || !Boolean.parseBoolean(config.get("feed.enabled", "true"))) {
+            return;
+        }
+        long coalesceMillis = config.getLong("feed.coalesceMillis", 250L);
+        long reconnectMaxMillis = config.getLong("feed.reconnectMaxMillis", 30_000L);
+        int maxAircraftIds = config.getInt("feed.maxAircraftIds", Collector.DEFAULT_MAX_AIRCRAFT_IDS);
+
+        running = true;
+        thread = new Thread(() -> listen(coalesceMillis, reconnectMaxMillis, maxAircraftIds), "change-feed");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the feed thread and closes its connection. Listeners stay registered.
+     */
+    public static synchronized void stop() {
+        Thread feedThread = thread;
+        if (feedThread == null) {
+            return;
+        }
+        running = false;
+        thread = null;
+        feedThread.interrupt();
+        try {
+            // The thread notices the flag within one poll
+            feedThread.join(2L * POLL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param listener receiver to add, called for every batch from now on
+     */
+    public static void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener receiver to remove, e.g. when its window is closed
+     */
+    public static void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Body of the feed thread: connect, listen, coalesce, reconnect on failure.
+     */
+    private static void listen(long coalesceMillis, long reconnectMaxMillis, int maxAircraftIds) {
+        long reconnectDelay = 1_000L;
+        boolean reconnecting = false;
+
+        while (running) {
+            try (Connection conn = Database.openDedicatedConnection()) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pg = conn.unwrap(PGConnection.class);
+                log.info("Listening for database changes on channel {}", CHANNEL);
+                if (reconnecting) {
+                    // Whatever happened while the connection was down was not queued for us
+                    dispatch(ChangeBatch.resync());
+                    reconnecting = false;
+                }
+                reconnectDelay = 1_000L;
+
+                while (running) {
+                    PGNotification[] first = pg.getNotifications(POLL_MILLIS);
+                    if (first == null || first.length == 0) {
+                        continue;
+                    }
+                    // Collect everything that arrives within the window after the first notification
+                    Collector collector = new Collector(maxAircraftIds);
+                    collector.addAll(first);
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(coalesceMillis);
+                    long remaining;
+                    while ((remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                        collector.addAll(pg.getNotifications((int) remaining));
+                    }
+                    dispatch(collector.toBatch());
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Change feed connection lost, reconnecting in {} ms: {}", reconnectDelay, e.getMessage());
+                reconnecting = true;
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    // stop() interrupts the wait, the loop condition decides
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, reconnectMaxMillis);
+            }
+        }
+        log.info("Change feed stopped");
+    }
+
+    private static void dispatch(ChangeBatch batch) {
+        log.debug("Dispatching {}", batch);
+        for (Listener listener : listeners) {
+            try {
+                listener.onChanges(batch);
+            } catch (RuntimeException e) {
+                // One failing view must not stop the feed for the others
+                log.error("Change listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Merges the notifications of one window. Payloads are {@code <table>,<I|U|D>[,<id>]}.
+     */
+    static final class Collector {
+        // Matches the number of aircraft the presenter patches one by one
+        static final int DEFAULT_MAX_AIRCRAFT_IDS = 256;
+
+        private final int maxAircraftIds;
+        private final Set<Integer> aircraftIds = new TreeSet<>();
+        private boolean allAircraft;
+        private boolean tasksChanged;
+
+        Collector(int maxAircraftIds) {
+            this.maxAircraftIds = maxAircraftIds;
+        }
+
+        void addAll(PGNotification[] notifications) {
+            if (notifications == null) {
+                return;
+            }
+            for (PGNotification notification : notifications) {
+                add(notification.getParameter());
+            }
+        }
+
+        void add(String payload) {
+            String[] parts = payload.split(",");
+            if (parts[0].equals("aircraft") && parts.length == 3) {
+                if (allAircraft) {
+                    return;
+                }
+                aircraftIds.add(Integer.parseInt(parts[2]));
+                if (aircraftIds.size() > maxAircraftIds) {
+                    // A bulk change, the rest of its notifications are only counted as "all aircraft"
+                    aircraftIds.clear();
+                    allAircraft = true;
+                }
+            } else if (parts[0].equals("maintenance_task")) {
+                tasksChanged = true;
+            } else {
+                log.warn("Ignoring unknown change notification '{}'", payload);
+            }
+        }
+
+        ChangeBatch toBatch() {
+            return new ChangeBatch(aircraftIds, tasksChanged, allAircraft, false);
+        }
+    }
+}
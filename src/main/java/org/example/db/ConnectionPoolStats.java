@@ -0,0 +1,103 @@
+package org.example.db;
+
+/**
+ * Point-in-time statistics of the connection pool behind {@link Database}.
+ * Used to size the pool under load: if {@code threadsAwaiting} and the wait times
+ * grow while {@code active} equals {@code maximumSize}, the pool is too small.
+ *
+ * @author Rafail
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ConnectionPoolStats {
+
+    // Connections currently borrowed by callers
+    private final int active;
+
+    // Connections open and ready in the pool
+    private final int idle;
+
+    // Open connections (active + idle)
+    private final int total;
+
+    // Configured upper bound on open connections
+    private final int maximumSize;
+
+    // Callers blocked waiting for a connection right now
+    private final int threadsAwaiting;
+
+    // Number of connections handed out since start
+    private final long acquisitions;
+
+    // Number of callers that gave up after the connection timeout
+    private final long timeouts;
+
+    // Cumulative and worst time spent waiting for a connection, in nanoseconds
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    public ConnectionPoolStats(int active, int idle, int total, int maximumSize, int threadsAwaiting,
+                               long acquisitions, long timeouts, long totalWaitNanos, long maxWaitNanos) {
+        this.active = active;
+        this.idle = idle;
+        this.total = total;
+        this.maximumSize = maximumSize;
+        this.threadsAwaiting = threadsAwaiting;
+        this.acquisitions = acquisitions;
+        this.timeouts = timeouts;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    // Getters for the pool statistics
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getThreadsAwaiting() {
+        return threadsAwaiting;
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * @return average time a caller waited for a connection, in milliseconds
+     */
+    public double getAverageWaitMillis() {
+        return acquisitions == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / acquisitions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("active=%d idle=%d total=%d/%d waiting=%d acquisitions=%d timeouts=%d avgWait=%.3fms maxWait=%.3fms",
+                active, idle, total, maximumSize, threadsAwaiting, acquisitions, timeouts,
+                getAverageWaitMillis(), maxWaitNanos / 1_000_000.0);
+    }
+}
@@ -1,43 +1,182 @@
 package org.example.db;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.example.jfr.ConnectionOpenEvent;
+
+import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.util.Properties;
 
 // ========================= DO-178C MODULE HEADER =========================
 // Module Name    : Database.java
 // Application    : Aircraft Maintenance Tracker
-// Description    : Provides centralized database connection logic.
+// Description    : Provides centralized, pooled database connection logic.
 // Safety Level   : DAL C or higher (Data Integrity is critical)
 // Developed By   : Rafail
-// Last Modified  : 2025-04-28
-// Notes          : Hardcoded credentials pose a security risk in aviation applications
+// Last Modified  : 2026-10-17
+// Notes          : Credentials are loaded from external configuration (see DatabaseConfig)
+//                  Connections and statements are reported to Java Flight Recorder (org.example.jfr)
 // ========================================================================
 
 /**
  * Database: Utility class for managing PostgreSQL connections.
  *
- * ⚠️ SECURITY WARNING:
- * Credentials are currently hardcoded. This violates DO-178C and secure software practices.
- * For production or certifiable systems:
- *   - Externalize credentials to a secure config or keystore
- *   - Use environment variables or encryption mechanisms
+ * Connections are served from a bounded HikariCP pool instead of opening a new
+ * DriverManager connection (TCP handshake + authentication) on every presenter call.
+ * The pool provides:
+ *   - An upper bound on open connections and idle eviction down to a minimum
+ *   - Validation of connections before they are handed out
+ *   - A maximum lifetime after which connections are replaced
+ *   - Leak detection for connections that are borrowed but never closed
+ *
+ * Closing a Connection obtained from {@link #getConnection()} returns it to the pool,
+ * so existing try-with-resources call sites work unchanged.
  */
-
 public class Database {
-    //JDBC connection to the database using the 5432 port for the database
-    private static final String URL = "jdbc:postgresql://localhost:5432/aircraftdb";
 
-    //Credentials for the User
-    private static final String USER = "postgres";
+    // Lazily created pool shared by the whole process
+    private static volatile HikariDataSource dataSource;
 
-    //Credentials for the Password
-    private static final String PASSWORD = "2552085124rR!";
+    // Wait-time statistics reported by the pool
+    private static final PoolWaitTracker waitTracker = new PoolWaitTracker();
 
-    //Established the connection to the database
-    //@return Connection object representing an active session with the database.
-    //@throws SQLException if a database access error occurs or the connection cannot be established.
+    //Borrows a connection from the pool
+    //@return Connection object representing an active session with the database. Closing it returns it to the pool.
+    //@throws SQLException if a database access error occurs or no connection is available within the timeout.
+    //Recorded as a ConnectionOpenEvent, statements are traced while a Flight Recorder recording asks for them
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(URL, USER, PASSWORD);
+        ConnectionOpenEvent event = new ConnectionOpenEvent();
+        event.pooled = true;
+        event.begin();
+        try {
+            return JdbcEvents.traced(getDataSource().getConnection());
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Opens a connection outside the pool for a session that lasts as long as the application,
+     * such as the LISTEN connection of {@link ChangeFeed}. It would otherwise take a pool slot
+     * for good and be retired by the pool's maximum lifetime.
+     *
+     * @return a new connection, the caller closes it
+     * @throws SQLException if the database cannot be reached
+     */
+    public static Connection openDedicatedConnection() throws SQLException {
+        DatabaseConfig config = DatabaseConfig.load();
+        Properties props = new Properties();
+        props.setProperty("user", config.getUser());
+        if (config.getPassword() != null) {
+            props.setProperty("password", config.getPassword());
+        }
+        // Detect a silently dropped connection on an otherwise idle session
+        props.setProperty("tcpKeepAlive", "true");
+        props.setProperty("ApplicationName", "aircraft-change-feed");
+        ConnectionOpenEvent event = new ConnectionOpenEvent();
+        event.begin();
+        try {
+            return JdbcEvents.traced(DriverManager.getConnection(config.getUrl(), props));
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the pooled DataSource, creating it on first use from {@link DatabaseConfig}.
+     *
+     * @return the shared DataSource
+     */
+    public static DataSource getDataSource() {
+        HikariDataSource ds = dataSource;
+        if (ds == null) {
+            synchronized (Database.class) {
+                ds = dataSource;
+                if (ds == null) {
+                    ds = createDataSource(DatabaseConfig.load());
+                    dataSource = ds;
+                }
+            }
+        }
+        return ds;
+    }
+
+    /**
+     * Builds the pool from the configuration.
+     *
+     * @param config resolved database configuration
+     * @return a started pool
+     */
+    private static HikariDataSource createDataSource(DatabaseConfig config) {
+        HikariConfig hikari = new HikariConfig();
+        hikari.setPoolName("aircraft-db");
+        hikari.setJdbcUrl(config.getUrl());
+        hikari.setUsername(config.getUser());
+        hikari.setPassword(config.getPassword());
+
+        // Bounded pool with idle eviction down to the minimum
+        hikari.setMaximumPoolSize(config.getInt("pool.maximumSize", 10));
+        hikari.setMinimumIdle(config.getInt("pool.minimumIdle", 2));
+        hikari.setIdleTimeout(config.getLong("pool.idleTimeoutMs", 300_000L));
+
+        // Connections are retired before the server or a firewall silently drops them
+        hikari.setMaxLifetime(config.getLong("pool.maxLifetimeMs", 1_800_000L));
+
+        // Callers fail fast instead of freezing when the database is unreachable
+        hikari.setConnectionTimeout(config.getLong("pool.connectionTimeoutMs", 10_000L));
+
+        // Connections are validated (JDBC4 isValid) before they are handed out
+        hikari.setValidationTimeout(config.getLong("pool.validationTimeoutMs", 3_000L));
+
+        // Log the borrowing stack trace when a connection is not returned in time
+        hikari.setLeakDetectionThreshold(config.getLong("pool.leakDetectionThresholdMs", 60_000L));
+
+        // Do not block application start when the database is down, the first call reports the error
+        hikari.setInitializationFailTimeout(-1);
+
+        // Publish the pool MBean so the pool can be observed with JConsole under load
+        hikari.setRegisterMbeans(true);
+        hikari.setMetricsTrackerFactory(waitTracker);
+
+        return new HikariDataSource(hikari);
+    }
+
+    /**
+     * Returns the current pool statistics (active, idle, waiting threads and wait times).
+     *
+     * @return the statistics, all zero if the pool has not been started yet
+     */
+    public static ConnectionPoolStats getPoolStats() {
+        HikariDataSource ds = dataSource;
+        HikariPoolMXBean pool = ds != null ? ds.getHikariPoolMXBean() : null;
+        if (pool == null) {
+            return new ConnectionPoolStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return new ConnectionPoolStats(
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                ds.getMaximumPoolSize(),
+                pool.getThreadsAwaitingConnection(),
+                waitTracker.getAcquisitions(),
+                waitTracker.getTimeouts(),
+                waitTracker.getTotalWaitNanos(),
+                waitTracker.getMaxWaitNanos());
+    }
+
+    /**
+     * Closes all pooled connections. Called when the application exits.
+     */
+    public static void shutdown() {
+        synchronized (Database.class) {
+            if (dataSource != null) {
+                dataSource.close();
+                dataSource = null;
+            }
+        }
     }
 }
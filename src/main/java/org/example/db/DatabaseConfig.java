@@ -0,0 +1,152 @@
+package org.example.db;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : DatabaseConfig.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Loads database connection and pool settings from external
+//                  configuration instead of hardcoded constants.
+// Safety Level   : DAL C (Data Integrity is critical)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Credentials are never read from source code
+// ========================================================================
+
+/**
+ * DatabaseConfig: Immutable snapshot of the settings used to build the connection pool.
+ *
+ * Settings are resolved in the following order, later sources overriding earlier ones:
+ *  1. Classpath defaults in {@code database.properties}
+ *  2. External properties file ({@code -Daircraft.db.config}, {@code AIRCRAFT_DB_CONFIG}
+ *     or {@code ./database.properties} in the working directory)
+ *  3. Environment variables {@code AIRCRAFT_DB_URL}, {@code AIRCRAFT_DB_USER}, {@code AIRCRAFT_DB_PASSWORD}
+ *  4. JVM system properties with {@code db.}, {@code pool.} or {@code import.} keys
+ */
+public class DatabaseConfig {
+
+    // Name of the properties file on the classpath and in the working directory
+    private static final String FILE_NAME = "database.properties";
+
+    // All the resolved key/value pairs
+    private final Properties properties;
+
+    private DatabaseConfig(Properties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Resolves the configuration from all the supported sources.
+     *
+     * @return the merged configuration
+     * @throws IllegalStateException if an explicitly configured file cannot be read
+     */
+    public static DatabaseConfig load() {
+        Properties props = new Properties();
+
+        // 1. Classpath defaults shipped with the application
+        try (InputStream in = DatabaseConfig.class.getClassLoader().getResourceAsStream(FILE_NAME)) {
+            if (in != null) {
+                props.load(in);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read classpath " + FILE_NAME, e);
+        }
+
+        // 2. External file, an explicit location must exist while the working directory file is optional
+        String explicit = System.getProperty("aircraft.db.config", System.getenv("AIRCRAFT_DB_CONFIG"));
+        Path external = explicit != null ? Paths.get(explicit) : Paths.get(FILE_NAME);
+        if (explicit != null || Files.isRegularFile(external)) {
+            try (Reader reader = Files.newBufferedReader(external, StandardCharsets.UTF_8)) {
+                props.load(reader);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read database configuration " + external, e);
+            }
+        }
+
+        // 3. Environment variables, typical for the hangar terminal deployment scripts
+        putIfPresent(props, "db.url", System.getenv("AIRCRAFT_DB_URL"));
+        putIfPresent(props, "db.user", System.getenv("AIRCRAFT_DB_USER"));
+        putIfPresent(props, "db.password", System.getenv("AIRCRAFT_DB_PASSWORD"));
+
+        // 4. System properties win over everything else
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.") || key.startsWith("pool.") || key.startsWith("import.") || key.startsWith("export.") || key.startsWith("feed.")
+                    || key.startsWith("analytics.") || key.startsWith("snapshot.") || key.startsWith("metrics.")
+                    || key.startsWith("ui.")) {
+                putIfPresent(props, key, System.getProperty(key));
+            }
+        }
+
+        return new DatabaseConfig(props);
+    }
+
+    private static void putIfPresent(Properties props, String key, String value) {
+        if (value != null && !value.isEmpty()) {
+            props.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Returns a raw setting.
+     *
+     * @param key          property key
+     * @param defaultValue value used when the key is not configured
+     * @return the configured value or the default
+     */
+    public String get(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Returns a numeric setting.
+     *
+     * @param key          property key
+     * @param defaultValue value used when the key is not configured
+     * @return the configured value or the default
+     * @throws IllegalStateException if the value is not a number
+     */
+    public long getLong(String key, long defaultValue) {
+        String value = properties.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Invalid number for " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Returns a numeric setting that must fit into an int.
+     *
+     * @param key          property key
+     * @param defaultValue value used when the key is not configured
+     * @return the configured value or the default
+     */
+    public int getInt(String key, int defaultValue) {
+        return Math.toIntExact(getLong(key, defaultValue));
+    }
+
+    // Getters for the connection settings
+
+    public String getUrl() {
+        return get("db.url", "jdbc:postgresql://localhost:5432/aircraftdb");
+    }
+
+    public String getUser() {
+        return get("db.user", "postgres");
+    }
+
+    public String getPassword() {
+        return get("db.password", null);
+    }
+}
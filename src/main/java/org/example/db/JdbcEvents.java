@@ -0,0 +1,277 @@
+package org.example.db;
+
+import org.example.jfr.JdbcStatementEvent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : JdbcEvents.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Emits a JdbcStatementEvent for every statement run on a traced connection.
+// Safety Level   : DAL C (diagnostics only, calls are passed through unchanged)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Connections are only wrapped while a recording has the event enabled
+// ========================================================================
+
+/**
+ * Wraps the connections handed out by {@link Database} in dynamic proxies that time the
+ * statements they create and emit a {@link JdbcStatementEvent} each.
+ *
+ * Without a Flight Recorder recording, or with the event disabled, the connection is returned
+ * as it is and the JDBC calls cost nothing extra. A recording started later affects the
+ * connections borrowed from then on.
+ *
+ * Every call is forwarded to the real object, including {@code unwrap}, so the COPY API of
+ * the PostgreSQL driver stays reachable. A query event ends when its result set is closed, or
+ * its statement if the result set is left open.
+ */
+final class JdbcEvents {
+
+    // Literal values of statements that are not prepared, replaced by ? in the event
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+
+    // Longer statement texts are cut, the beginning identifies them
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    private JdbcEvents() {
+    }
+
+    /**
+     * @return the connection, traced if a recording has the statement event enabled
+     */
+    static Connection traced(Connection conn) {
+        if (conn == null || !new JdbcStatementEvent().isEnabled()) {
+            return conn;
+        }
+        return proxy(Connection.class, conn, new ConnectionHandler(conn));
+    }
+
+    /**
+     * @return the statement text without its literal values, e.g. {@code LIMIT 50} becomes {@code LIMIT ?}
+     */
+    static String shape(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        String shape = NUMBER_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("?")).replaceAll("?");
+        return shape.length() > MAX_SQL_LENGTH ? shape.substring(0, MAX_SQL_LENGTH) : shape;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(JdbcEvents.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    /**
+     * Calls the real object and rethrows what it threw, not the reflection wrapper.
+     */
+    private static Object forward(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * @return true for equals, hashCode and toString, they are answered by {@link #objectMethod}
+     */
+    private static boolean isObjectMethod(Method method) {
+        return method.getDeclaringClass() == Object.class;
+    }
+
+    /**
+     * Answers an Object method for the proxy itself, a proxy is only equal to itself.
+     */
+    private static Object objectMethod(Object proxy, Object target, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return "Traced " + target;
+        }
+    }
+
+    // ==================== CONNECTION ====================
+
+    /**
+     * Wraps the statements created by the connection, everything else is forwarded.
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection conn;
+
+        ConnectionHandler(Connection conn) {
+            this.conn = conn;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return objectMethod(proxy, conn, method, args);
+            }
+            Object result = forward(conn, method, args);
+            switch (method.getName()) {
+                case "createStatement":
+                    return proxy(Statement.class, (Statement) result, new StatementHandler((Statement) result, null));
+                case "prepareStatement":
+                    return proxy(PreparedStatement.class, (PreparedStatement) result,
+                            new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall":
+                    return proxy(CallableStatement.class, (CallableStatement) result,
+                            new StatementHandler((Statement) result, (String) args[0]));
+                default:
+                    return result;
+            }
+        }
+    }
+
+    // ==================== STATEMENT ====================
+
+    /**
+     * Emits an event per execute call. Queries are committed when their result set closes.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement stmt;
+
+        // Text of a prepared statement, null for a plain one
+        private final String preparedSql;
+
+        // Query whose result set is still open
+        private QueryHandler openQuery;
+
+        StatementHandler(Statement stmt, String preparedSql) {
+            this.stmt = stmt;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return objectMethod(proxy, stmt, method, args);
+            }
+            String name = method.getName();
+            if (name.equals("close")) {
+                endOpenQuery();
+                return forward(stmt, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return forward(stmt, method, args);
+            }
+
+            // The statement text is the argument of a plain statement, batches of those have none
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+            JdbcStatementEvent event = new JdbcStatementEvent();
+            event.begin();
+            Object result = forward(stmt, method, args);
+
+            if (name.equals("executeQuery")) {
+                // Ended by the result set, the rows are counted as they are read
+                endOpenQuery();
+                event.operation = "query";
+                openQuery = new QueryHandler((ResultSet) result, event, sql);
+                return proxy(ResultSet.class, (ResultSet) result, openQuery);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                if (name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")) {
+                    event.operation = "batch";
+                    event.rows = batchRows(result);
+                } else if (name.equals("execute")) {
+                    event.operation = "execute";
+                    event.rows = Boolean.TRUE.equals(result) ? -1 : stmt.getUpdateCount();
+                } else {
+                    event.operation = "update";
+                    event.rows = ((Number) result).longValue();
+                }
+                event.sql = shape(sql);
+                event.commit();
+            }
+            return result;
+        }
+
+        private void endOpenQuery() {
+            if (openQuery != null) {
+                openQuery.end();
+                openQuery = null;
+            }
+        }
+
+        /**
+         * @return rows changed by a batch, a row reported as SUCCESS_NO_INFO counts as one
+         */
+        private static long batchRows(Object updateCounts) {
+            long rows = 0;
+            if (updateCounts instanceof int[]) {
+                for (int count : (int[]) updateCounts) {
+                    rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+            } else if (updateCounts instanceof long[]) {
+                for (long count : (long[]) updateCounts) {
+                    rows += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+    }
+
+    // ==================== RESULT SET ====================
+
+    /**
+     * Counts the rows read and commits the query event when the result set is closed.
+     */
+    private static final class QueryHandler implements InvocationHandler {
+        private final ResultSet rs;
+        private final JdbcStatementEvent event;
+        private final String sql;
+        private long rows;
+        private boolean ended;
+
+        QueryHandler(ResultSet rs, JdbcStatementEvent event, String sql) {
+            this.rs = rs;
+            this.event = event;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (isObjectMethod(method)) {
+                return objectMethod(proxy, rs, method, args);
+            }
+            Object result = forward(rs, method, args);
+            String name = method.getName();
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                }
+            } else if (name.equals("close")) {
+                end();
+            }
+            return result;
+        }
+
+        void end() {
+            if (ended) {
+                return;
+            }
+            ended = true;
+            event.end();
+            if (event.shouldCommit()) {
+                event.sql = shape(sql);
+                event.rows = rows;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.db;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import org.example.metrics.Counter;
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects connection wait times reported by the pool.
+ * HikariCP only exposes the current active/idle counts, the wait times are pushed
+ * into this tracker every time a connection is handed out.
+ * They are also recorded in the {@code connection.acquire} timer and the
+ * {@code connection.timeouts} counter of {@link Metrics}.
+ */
+class PoolWaitTracker implements IMetricsTracker, MetricsTrackerFactory {
+
+    // Counters are updated by every borrowing thread, LongAdder keeps that contention free
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0L);
+
+    // Same figures for the JMX and log surface of Metrics
+    private static final Timer ACQUIRE = Metrics.timer("connection.acquire");
+    private static final Counter TIMEOUTS = Metrics.counter("connection.timeouts");
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        return this;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        acquisitions.increment();
+        totalWaitNanos.add(elapsedAcquiredNanos);
+        maxWaitNanos.accumulate(elapsedAcquiredNanos);
+        ACQUIRE.record(elapsedAcquiredNanos);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        timeouts.increment();
+        TIMEOUTS.increment();
+    }
+
+    long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    long getTotalWaitNanos() {
+        return totalWaitNanos.sum();
+    }
+
+    long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    long getTimeouts() {
+        return timeouts.sum();
+    }
+}
@@ -0,0 +1,240 @@
+package org.example.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : SchemaMigrator.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Applies the versioned SQL migrations in db/migration at startup.
+// Safety Level   : DAL C (schema must match the code that reads it)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Applied versions and script checksums are recorded in schema_version
+// ========================================================================
+
+/**
+ * SchemaMigrator: Brings the database schema to the version the application expects.
+ *
+ * Migrations are SQL scripts on the classpath named {@code V<version>__<description>.sql}
+ * and listed, in order, in {@code db/migration/migrations.txt}. The list file is used
+ * instead of scanning the classpath so the scripts are found the same way from the IDE
+ * and from a packaged jar.
+ *
+ * Each pending migration runs in its own transaction together with its row in
+ * {@code schema_version}, so a failing script leaves no partial change behind and is
+ * retried on the next start. A PostgreSQL advisory lock serializes terminals that start
+ * at the same time. A script that was edited after it was applied is reported instead
+ * of being run again.
+ */
+public class SchemaMigrator {
+
+    private static final Logger log = LoggerFactory.getLogger(SchemaMigrator.class);
+
+    // Folder of the scripts and the list file on the classpath
+    private static final String LOCATION = "db/migration/";
+    private static final String INDEX_FILE = LOCATION + "migrations.txt";
+
+    // V<version>__<description>.sql
+    private static final Pattern FILE_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+
+    // Application wide key for pg_advisory_lock, ASCII "AMT_MIG"
+    private static final long LOCK_KEY = 0x41_4D_54_5F_4D_49_47L;
+
+    private static final String CREATE_VERSION_TABLE =
+            "CREATE TABLE IF NOT EXISTS schema_version (" +
+            " version INT PRIMARY KEY," +
+            " description VARCHAR(200) NOT NULL," +
+            " script VARCHAR(200) NOT NULL," +
+            " checksum BIGINT NOT NULL," +
+            " applied_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()," +
+            " execution_ms BIGINT NOT NULL)";
+
+    /**
+     * A migration script found in the list file.
+     */
+    static final class Migration {
+        final int version;
+        final String description;
+        final String script;
+        final String sql;
+        final long checksum;
+
+        Migration(int version, String description, String script, String sql) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.sql = sql;
+            CRC32 crc = new CRC32();
+            crc.update(sql.getBytes(StandardCharsets.UTF_8));
+            this.checksum = crc.getValue();
+        }
+    }
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * Applies all pending migrations through the application pool.
+     *
+     * @return number of migrations applied, 0 when the schema was already current
+     * @throws SQLException          if a migration fails, that migration is rolled back
+     * @throws IllegalStateException if the scripts cannot be read or an applied script was changed
+     */
+    public static int migrate() throws SQLException {
+        return migrate(Database.getDataSource());
+    }
+
+    /**
+     * Applies all pending migrations.
+     *
+     * @param dataSource database to migrate
+     * @return number of migrations applied, 0 when the schema was already current
+     * @throws SQLException          if a migration fails, that migration is rolled back
+     * @throws IllegalStateException if the scripts cannot be read or an applied script was changed
+     */
+    public static int migrate(DataSource dataSource) throws SQLException {
+        List<Migration> migrations = loadMigrations();
+
+        try (Connection conn = dataSource.getConnection()) {
+            boolean previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(true);
+            try (Statement stmt = conn.createStatement()) {
+                // Other terminals wait here until this one is done
+                stmt.execute("SELECT pg_advisory_lock(" + LOCK_KEY + ")");
+                try {
+                    stmt.execute(CREATE_VERSION_TABLE);
+                    return applyPending(conn, migrations);
+                } finally {
+                    stmt.execute("SELECT pg_advisory_unlock(" + LOCK_KEY + ")");
+                }
+            } finally {
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        }
+    }
+
+    /**
+     * Runs the migrations that are not yet recorded in schema_version.
+     */
+    private static int applyPending(Connection conn, List<Migration> migrations) throws SQLException {
+        Map<Integer, Long> applied = appliedChecksums(conn);
+        int count = 0;
+
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version);
+            if (checksum != null) {
+                if (checksum != migration.checksum) {
+                    throw new IllegalStateException("Migration " + migration.script
+                            + " was changed after it was applied, add a new migration instead");
+                }
+                continue;
+            }
+
+            long start = System.nanoTime();
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement();
+                 PreparedStatement record = conn.prepareStatement(
+                         "INSERT INTO schema_version (version, description, script, checksum, execution_ms) VALUES (?, ?, ?, ?, ?)")) {
+                // The driver sends the script as one simple query, statements are separated by ;
+                stmt.execute(migration.sql);
+
+                long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+                record.setInt(1, migration.version);
+                record.setString(2, migration.description);
+                record.setString(3, migration.script);
+                record.setLong(4, migration.checksum);
+                record.setLong(5, elapsedMs);
+                record.executeUpdate();
+                conn.commit();
+                log.info("Applied migration {} in {} ms", migration.script, elapsedMs);
+                count++;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw new SQLException("Migration " + migration.script + " failed: " + e.getMessage(), e.getSQLState(), e);
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+
+        if (count == 0) {
+            log.info("Database schema is current at version {}", migrations.isEmpty() ? 0 : migrations.get(migrations.size() - 1).version);
+        }
+        return count;
+    }
+
+    private static Map<Integer, Long> appliedChecksums(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Reads the list file and the scripts it names.
+     *
+     * @return the migrations in ascending version order
+     */
+    static List<Migration> loadMigrations() {
+        List<Migration> migrations = new ArrayList<>();
+        int lastVersion = 0;
+        for (String script : readResource(INDEX_FILE).split("\\R")) {
+            script = script.trim();
+            // Blank lines and comments are allowed in the list file
+            if (script.isEmpty() || script.startsWith("#")) {
+                continue;
+            }
+            Matcher matcher = FILE_NAME.matcher(script);
+            if (!matcher.matches()) {
+                throw new IllegalStateException("Invalid migration file name: " + script);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version <= lastVersion) {
+                throw new IllegalStateException("Migration " + script + " is out of order in " + INDEX_FILE);
+            }
+            lastVersion = version;
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), script, readResource(LOCATION + script)));
+        }
+        return migrations;
+    }
+
+    private static String readResource(String name) {
+        InputStream in = SchemaMigrator.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing classpath resource " + name);
+        }
+        StringBuilder text = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                text.append(line).append('\n');
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read classpath resource " + name, e);
+        }
+        return text.toString();
+    }
+}
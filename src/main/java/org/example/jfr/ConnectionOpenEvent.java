@@ -0,0 +1,34 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ConnectionOpenEvent.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Flight Recorder event of a database connection being obtained.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * A connection borrowed from the pool or a dedicated connection opened by
+ * {@link org.example.db.Database}. A borrow that has to wait for a free connection, or
+ * for the pool to open one, shows up with its waiting time.
+ */
+@Name("org.example.ConnectionOpen")
+@Label("Connection Open")
+@Category({"Aircraft Maintenance Tracker", "Database"})
+@Description("Connection borrowed from the pool or opened outside of it")
+@Threshold("1 ms")
+public class ConnectionOpenEvent extends Event {
+
+    @Label("Pooled")
+    @Description("True for a pooled connection, false for a dedicated one")
+    public boolean pooled;
+}
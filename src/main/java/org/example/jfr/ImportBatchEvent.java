@@ -0,0 +1,51 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ImportBatchEvent.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Flight Recorder event of one committed import batch.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * One executeBatch and commit of an import writer, or a whole COPY import
+ * (COPY, merge and commit in one transaction).
+ */
+@Name("org.example.ImportBatch")
+@Label("Import Batch Commit")
+@Category({"Aircraft Maintenance Tracker", "Import"})
+@Description("Batch of imported rows sent and committed")
+@StackTrace(false)
+public class ImportBatchEvent extends Event {
+
+    @Label("Format")
+    @Description("Imported data and file format, e.g. aircraft.csv or tasks.xlsx")
+    public String format;
+
+    @Label("COPY")
+    @Description("True if the file was loaded with PostgreSQL COPY")
+    public boolean copy;
+
+    @Label("Rows")
+    @Description("Rows written by the batch")
+    public long rows;
+
+    @Label("Skipped Rows")
+    @Description("Rows of the batch the database did not insert, e.g. existing tail numbers")
+    public long skippedRows;
+
+    @Label("Bytes")
+    @Description("Size of the source records of the batch, the file size for COPY")
+    @DataAmount
+    public long bytes;
+}
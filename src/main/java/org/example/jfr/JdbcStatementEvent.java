@@ -0,0 +1,45 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : JdbcStatementEvent.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Flight Recorder event of one JDBC statement execution.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * One statement run on a connection from {@link org.example.db.Database}. For a query the
+ * event lasts from executeQuery until the result set is closed, so it includes fetching and
+ * mapping the rows. Only recorded while a Flight Recorder recording has the event enabled.
+ *
+ * The default threshold keeps an always-on recording small, lower it in the recording
+ * settings ({@code org.example.JdbcStatement#threshold}) to see every statement.
+ */
+@Name("org.example.JdbcStatement")
+@Label("JDBC Statement")
+@Category({"Aircraft Maintenance Tracker", "Database"})
+@Description("Execution of a JDBC statement, queries until their result set is closed")
+@Threshold("10 ms")
+public class JdbcStatementEvent extends Event {
+
+    @Label("SQL")
+    @Description("Statement text with the literal values replaced by ?")
+    public String sql;
+
+    @Label("Operation")
+    @Description("query, update, batch or execute")
+    public String operation;
+
+    @Label("Rows")
+    @Description("Rows read by a query, rows changed by an update or batch, -1 if unknown")
+    public long rows;
+}
@@ -0,0 +1,62 @@
+package org.example.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import javax.swing.SwingUtilities;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : UiRefreshEvent.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Flight Recorder event of a screen refresh up to its repaint.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * A refresh cycle of a view: from the refresh request until the changed components are
+ * painted. Committed on the event dispatch thread.
+ */
+@Name("org.example.UiRefresh")
+@Label("UI Refresh")
+@Category({"Aircraft Maintenance Tracker", "User Interface"})
+@Description("Refresh of a view from the request to the repaint")
+@StackTrace(false)
+public class UiRefreshEvent extends Event {
+
+    @Label("Component")
+    @Description("Refreshed view, e.g. aircraftList or dashboard")
+    public String component;
+
+    @Label("Rows")
+    @Description("Entries shown after the refresh, -1 if not applicable")
+    public int rows;
+
+    /**
+     * @param component name of the refreshed view
+     * @return a started event
+     */
+    public static UiRefreshEvent begin(String component) {
+        UiRefreshEvent event = new UiRefreshEvent();
+        event.component = component;
+        event.rows = -1;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Commits the event once the repaints requested so far have run. Must be called on the
+     * event dispatch thread after the components were changed: their repaint is queued
+     * before the commit.
+     */
+    public void commitAfterRepaint() {
+        if (isEnabled()) {
+            SwingUtilities.invokeLater(this::commit);
+        }
+    }
+}
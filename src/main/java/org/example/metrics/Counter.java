@@ -0,0 +1,51 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : Counter.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Monotonic event counter, e.g. rows read and written.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Counter: a total that only grows, obtained from {@link Metrics#counter(String)} and
+ * published as a JMX MBean. Backed by a {@link LongAdder}, concurrent updates do not contend.
+ */
+public final class Counter implements CounterMBean {
+
+    private final String name;
+    private final LongAdder count = new LongAdder();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * @param n amount to add, e.g. the rows of a result
+     */
+    public void add(long n) {
+        count.add(n);
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public String toString() {
+        return name + " count=" + getCount();
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.metrics;
+
+/**
+ * JMX view of a {@link Counter}, registered as {@code org.example.metrics:type=Counter,name=<name>}.
+ *
+ * @author Rafail
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface CounterMBean {
+
+    long getCount();
+}
@@ -0,0 +1,185 @@
+package org.example.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : Metrics.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Process-wide registry of timers and counters, published through JMX
+//                  and optionally written to the log at a fixed interval.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Metrics: the named {@link Timer}s and {@link Counter}s of the application.
+ *
+ * Names in use:
+ * <ul>
+ *   <li>{@code presenter.<operation>}: JDBC work of an AircraftPresenter operation, e.g.
+ *       {@code presenter.loadAircraft}, for the synchronous and the asynchronous form</li>
+ *   <li>{@code import.aircraft.<format>}, {@code import.tasks.<format>}, {@code export.tasks.<format>}:
+ *       whole file imports and exports, format csv, xml or xlsx</li>
+ *   <li>{@code connection.acquire}: wait for a pooled connection, {@code connection.timeouts}</li>
+ *   <li>{@code rows.read}, {@code rows.written}: rows returned by queries and exports,
+ *       rows inserted, updated or deleted</li>
+ *   <li>{@code edt.dispatchLatency}, {@code edt.stalls}, {@code edt.stacksCaptured}: responsiveness of the
+ *       event dispatch thread, measured by the EdtWatchdog of the view</li>
+ * </ul>
+ *
+ * Every metric is registered in the platform MBean server when it is first used, under
+ * {@code org.example.metrics:type=Timer|Counter,name=<name>}, and can be watched with
+ * JConsole or VisualVM. Callers keep the returned instance in a static field, the lookup
+ * is a map access and is not meant for every recording.
+ */
+public final class Metrics {
+
+    private static final Logger log = LoggerFactory.getLogger(Metrics.class);
+
+    // JMX domain of the MBeans
+    static final String DOMAIN = "org.example.metrics";
+
+    private static final ConcurrentMap<String, Timer> TIMERS = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+
+    // Periodic log reporter, null while it is off
+    private static ScheduledExecutorService reporter;
+
+    private Metrics() {
+    }
+
+    /**
+     * @param name dotted name, e.g. {@code presenter.loadAircraft}
+     * @return the timer of that name, created and registered on first use
+     */
+    public static Timer timer(String name) {
+        Timer timer = TIMERS.get(name);
+        return timer != null ? timer : TIMERS.computeIfAbsent(name, n -> register(new Timer(n), "Timer", n));
+    }
+
+    /**
+     * @param name dotted name, e.g. {@code rows.read}
+     * @return the counter of that name, created and registered on first use
+     */
+    public static Counter counter(String name) {
+        Counter counter = COUNTERS.get(name);
+        return counter != null ? counter : COUNTERS.computeIfAbsent(name, n -> register(new Counter(n), "Counter", n));
+    }
+
+    /**
+     * @return the timers created so far, by name
+     */
+    public static SortedMap<String, Timer> timers() {
+        return new TreeMap<>(TIMERS);
+    }
+
+    /**
+     * @return the counters created so far, by name
+     */
+    public static SortedMap<String, Counter> counters() {
+        return new TreeMap<>(COUNTERS);
+    }
+
+    /**
+     * @return the JMX name of a metric
+     */
+    static ObjectName objectName(String type, String name) throws JMException {
+        return new ObjectName(DOMAIN + ":type=" + type + ",name=" + name);
+    }
+
+    /**
+     * Registers a metric in the platform MBean server. A metric that cannot be registered
+     * still records, it is only missing from JMX.
+     */
+    private static <T> T register(T mbean, String type, String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(type, name);
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(mbean, objectName);
+            }
+        } catch (JMException | RuntimeException e) {
+            log.warn("Cannot publish metric {} through JMX: {}", name, e.getMessage());
+        }
+        return mbean;
+    }
+
+    // ==================== LOG REPORTER ====================
+
+    /**
+     * Writes the metrics recorded since the previous report to the log every interval, on a
+     * daemon thread. A timer line holds the count, mean, percentiles and maximum of the interval,
+     * a counter line its increase and total; metrics without recordings in the interval are
+     * skipped. Calling it again replaces the running reporter.
+     *
+     * @param intervalSeconds seconds between reports, 0 or less stops the reporter
+     */
+    public static synchronized void startLogReporter(long intervalSeconds) {
+        stopLogReporter();
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // State at the previous report, only used by the reporter thread
+        Map<String, Timer.Snapshot> reportedTimers = new HashMap<>();
+        Map<String, Long> reportedCounters = new HashMap<>();
+        reporter.scheduleAtFixedRate(() -> report(intervalSeconds, reportedTimers, reportedCounters),
+                intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        log.info("Metrics are logged every {} s", intervalSeconds);
+    }
+
+    /**
+     * Stops the periodic log reporter, if it runs.
+     */
+    public static synchronized void stopLogReporter() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+            reporter = null;
+        }
+    }
+
+    private static void report(long intervalSeconds, Map<String, Timer.Snapshot> reportedTimers,
+                               Map<String, Long> reportedCounters) {
+        try {
+            for (Timer timer : timers().values()) {
+                Timer.Snapshot current = timer.snapshot();
+                Timer.Snapshot previous = reportedTimers.put(timer.getName(), current);
+                Timer.Snapshot interval = previous == null ? current : current.since(previous);
+                if (interval.getCount() > 0) {
+                    log.info("{} last {} s: {}", timer.getName(), intervalSeconds, interval);
+                }
+            }
+            for (Counter counter : counters().values()) {
+                long count = counter.getCount();
+                Long previous = reportedCounters.put(counter.getName(), count);
+                long increase = count - (previous == null ? 0 : previous);
+                if (increase != 0) {
+                    log.info("{} last {} s: +{} count={}", counter.getName(), intervalSeconds, increase, count);
+                }
+            }
+        } catch (RuntimeException e) {
+            // An exception would cancel the schedule
+            log.warn("Cannot report metrics", e);
+        }
+    }
+}
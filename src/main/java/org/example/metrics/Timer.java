@@ -0,0 +1,265 @@
+package org.example.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : Timer.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Latency timer with a lock-free log-linear histogram.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// ========================================================================
+
+/**
+ * Timer: count, total, maximum and latency histogram of one named operation, e.g. a query
+ * of the presenter or an import format. Obtained from {@link Metrics#timer(String)} and
+ * published as a JMX MBean.
+ *
+ * Recording is lock-free: two {@link LongAdder} updates, one {@link LongAccumulator} update
+ * and one atomic increment of a histogram bucket, no allocation. Any thread may record.
+ *
+ * The histogram has 16 buckets per power of two from 16 ns up to 2^40 ns (about 18 minutes),
+ * so a percentile is accurate to within 1/16 (6.25 %) of the value. Longer durations land in
+ * the last bucket, the exact maximum is kept separately.
+ */
+public final class Timer implements TimerMBean {
+
+    // Sub-buckets per power of two, 2^SUB_BITS
+    private static final int SUB_BITS = 4;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+
+    // Highest power of two with buckets of its own
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKED = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 1) * SUB_COUNT + SUB_COUNT;
+
+    private final String name;
+
+    // Updated by every recording thread, LongAdder keeps that contention free
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+    Timer(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records one duration.
+     *
+     * @param nanos duration in nanoseconds, negative values count as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+        buckets.incrementAndGet(bucketOf(value));
+    }
+
+    /**
+     * Records the time elapsed since a {@link System#nanoTime()} reading.
+     *
+     * @param startNanos value of System.nanoTime() when the operation started
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    // ==================== MBEAN ATTRIBUTES ====================
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1e6;
+    }
+
+    @Override
+    public double getMeanMillis() {
+        long n = count.sum();
+        return n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n;
+    }
+
+    @Override
+    public double getMaxMillis() {
+        return maxNanos.get() / 1e6;
+    }
+
+    @Override
+    public double getP50Millis() {
+        return percentileNanos(0.50) / 1e6;
+    }
+
+    @Override
+    public double getP95Millis() {
+        return percentileNanos(0.95) / 1e6;
+    }
+
+    @Override
+    public double getP99Millis() {
+        return percentileNanos(0.99) / 1e6;
+    }
+
+    @Override
+    public double getP999Millis() {
+        return percentileNanos(0.999) / 1e6;
+    }
+
+    /**
+     * Estimates a percentile from the histogram. Recordings made while the buckets are read
+     * may or may not be included.
+     *
+     * @param quantile 0 to 1, e.g. 0.99
+     * @return the middle of the bucket holding the percentile, never above the maximum, 0 if nothing was recorded
+     */
+    public long percentileNanos(double quantile) {
+        return snapshot().percentileNanos(quantile);
+    }
+
+    /**
+     * Reads the count, total, maximum and histogram of the timer. Taken at the start and the end
+     * of an interval, {@link Snapshot#since(Snapshot)} gives the recordings in between, e.g. the
+     * p99 of the last minute instead of the p99 since the start of the application.
+     *
+     * @return the recordings so far, recordings made while it is read may or may not be included
+     */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(count.sum(), totalNanos.sum(), maxNanos.get(), counts);
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + snapshot();
+    }
+
+    /**
+     * Snapshot: the recordings of a timer up to one moment, or between two moments. Immutable.
+     */
+    public static final class Snapshot {
+
+        private final long count;
+        private final long totalNanos;
+        // Exact for a snapshot of the timer, the upper bound of the highest bucket for an interval
+        private final long maxNanos;
+        private final long[] counts;
+
+        private Snapshot(long count, long totalNanos, long maxNanos, long[] counts) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+            this.counts = counts;
+        }
+
+        /**
+         * @param earlier a snapshot of the same timer taken before this one
+         * @return the recordings made between the two snapshots; its maximum is the upper bound
+         *         of the highest bucket that received a recording, no more than the maximum of this snapshot
+         */
+        public Snapshot since(Snapshot earlier) {
+            long[] difference = new long[BUCKETS];
+            int highest = -1;
+            for (int i = 0; i < BUCKETS; i++) {
+                difference[i] = Math.max(0, counts[i] - earlier.counts[i]);
+                if (difference[i] > 0) {
+                    highest = i;
+                }
+            }
+            long max = highest < 0 ? 0 : Math.min(lowerBound(highest) + bucketWidth(highest) - 1, maxNanos);
+            return new Snapshot(Math.max(0, count - earlier.count), Math.max(0, totalNanos - earlier.totalNanos),
+                    max, difference);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0.0 : totalNanos / 1e6 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        /**
+         * @param quantile 0 to 1, e.g. 0.99
+         * @return the middle of the bucket holding the percentile, never above the maximum, 0 if nothing was recorded
+         */
+        public long percentileNanos(double quantile) {
+            long total = 0;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            // Rank of the percentile among the recorded values, 1 based
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    long lower = lowerBound(i);
+                    long middle = lower + (bucketWidth(i) - 1) / 2;
+                    return Math.min(middle, maxNanos);
+                }
+            }
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d mean=%.2f ms p50=%.2f ms p95=%.2f ms p99=%.2f ms max=%.2f ms",
+                    count, getMeanMillis(), percentileNanos(0.50) / 1e6, percentileNanos(0.95) / 1e6,
+                    percentileNanos(0.99) / 1e6, getMaxMillis());
+        }
+    }
+
+    // ==================== BUCKETS ====================
+    // Values below 16 have a bucket each. Above, the exponent of the highest bit selects a group
+    // of 16 buckets and the next four bits the bucket within the group.
+
+    static int bucketOf(long value) {
+        long v = Math.min(value, MAX_TRACKED);
+        if (v < SUB_COUNT) {
+            return (int) v;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+        return (exponent - SUB_BITS + 1) * SUB_COUNT + sub;
+    }
+
+    static long lowerBound(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        int sub = bucket % SUB_COUNT;
+        return (long) (SUB_COUNT + sub) << (exponent - SUB_BITS);
+    }
+
+    static long bucketWidth(int bucket) {
+        if (bucket < SUB_COUNT) {
+            return 1;
+        }
+        int exponent = bucket / SUB_COUNT + SUB_BITS - 1;
+        return 1L << (exponent - SUB_BITS);
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.metrics;
+
+/**
+ * JMX view of a {@link Timer}, registered as {@code org.example.metrics:type=Timer,name=<name>}.
+ * Durations are in milliseconds, the values accumulate from the start of the application.
+ *
+ * @author Rafail
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface TimerMBean {
+
+    long getCount();
+
+    double getTotalMillis();
+
+    double getMeanMillis();
+
+    double getMaxMillis();
+
+    double getP50Millis();
+
+    double getP95Millis();
+
+    double getP99Millis();
+
+    double getP999Millis();
+}
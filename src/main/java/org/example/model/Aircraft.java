@@ -7,47 +7,28 @@ package org.example.model;
  *<p>
  *Each aircraft has a unique identifier, model name like Airbus, Boeing 747 and a tail number which
  * is the registration number like a licence plate for a car  </p>
-
+ *
+ * Immutable, so one instance can be shared by the fleet list and by every maintenance task
+ * of the aircraft instead of each task holding its own copy of the name.
+ *
+ * @param id         Internal database identifier for the aircraft.
+ * @param model      Manufacturer's model name of the aircraft.
+ * @param tailNumber Unique tail number (registration number) of the aircraft.
+ *
  *@author Rafail
- *@version 1.0
+ *@version 3.0
  *@since 2025-04-28
  */
 
-public class Aircraft {
-
-    // Attributes of the Aircraft Model
-
-    // Unique internal identifier for the aircraft
-    private int id;
+public record Aircraft(int id, String model, String tailNumber) {
 
-    //Model name of the aircraft like boeing 747
-    private String model;
-
-    //Registration number for identifying the aircraft externally like licence plate
-    private String tailNumber;
-
-    // Constructor for the class, for creating an Aircraft instance
     /**
-     * @param id         Internal database identifier for the aircraft.
-     * @param model      Manufacturer's model name of the aircraft.
-     * @param tailNumber Unique tail number (registration number) of the aircraft.
+     * Readable identifier shown in lists and task tables, e.g. "Boeing 747 (N373BA)".
+     * Built when asked for, not stored.
+     *
+     * @return model and tail number
      */
-    public Aircraft(int id, String model, String tailNumber){
-        this.id = id;
-        this.model = model;
-        this.tailNumber = tailNumber;
-    }
-
-    //Getters for the Aircraft
-    public int getId() {
-        return id;
-    }
-
-    public String getModel() {
-        return model;
-    }
-
-    public String getTailNumber() {
-        return tailNumber;
+    public String displayName() {
+        return model + " (" + tailNumber + ")";
     }
 }
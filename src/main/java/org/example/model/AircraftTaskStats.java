@@ -0,0 +1,31 @@
+package org.example.model;
+
+import java.time.LocalDate;
+
+/**
+ * Maintenance task figures of one aircraft, aggregated by the database.
+ *
+ * Every task is either pending or completed (migration V6). Overdue and the next due date
+ * consider the pending tasks.
+ *
+ * @param aircraftId  aircraft the figures belong to
+ * @param total       number of tasks
+ * @param pending     number of pending tasks
+ * @param completed   number of completed tasks
+ * @param overdue     number of pending tasks due before today
+ * @param nextDueDate earliest due date from today on among the pending tasks, null if none
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public record AircraftTaskStats(int aircraftId, long total, long pending, long completed, long overdue, LocalDate nextDueDate) {
+
+    /**
+     * @param aircraftId aircraft without maintenance tasks
+     * @return all counts zero, no next due date
+     */
+    public static AircraftTaskStats empty(int aircraftId) {
+        return new AircraftTaskStats(aircraftId, 0, 0, 0, 0, null);
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.model;
+
+/**
+ * Key figures shown on the maintenance dashboard, computed by the database in one query.
+ *
+ * @param totalAircraft      number of aircraft
+ * @param pendingTasks       number of pending tasks
+ * @param completedThisMonth number of tasks whose completed_at falls in the current calendar month
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public record FleetKpis(long totalAircraft, long pendingTasks, long completedThisMonth) {
+}
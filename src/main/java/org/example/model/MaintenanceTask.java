@@ -1,6 +1,7 @@
 package org.example.model;
 
-import java.util.Date;
+import java.time.LocalDate;
+import java.util.Objects;
 
 /**
 * Represents the scheduled maintenance task associated with a specific aircraft
@@ -10,76 +11,42 @@ import java.util.Date;
  * This class is used to display and manage maintenance tasks with the appropriate information in the UI and
  * for Storage in PostegreSQL.
  *
- * Status Values should be limited to Pending or Complete
+ * The task references the {@link Aircraft} instance it belongs to, tasks of the same aircraft
+ * share that instance, so the display name is not copied into every task. The due date is a
+ * {@link LocalDate} (a date without time or zone, like the database column) and the status
+ * an enum, which keeps a loaded task small and immutable.
+ *
+ * @param id              unique task identifier
+ * @param aircraft        the aircraft this task belongs to
+ * @param taskDescription the textual description of the task
+ * @param dueDate         when the task is due
+ * @param status          the status of the task: Pending or Completed
  *
  * @author Rafail
- * @version 2.0
+ * @version 3.0
  * @since 2025-04-28
  *
  */
 
-public class MaintenanceTask {
-
-    // Unique Identifier for the task(primary key)
-    private int id;
-
-    // Foreign Key for reference to the Aircrafts
-    private int aircraftId;
-
-    // Description for the maintenance activity
-    private String taskDescription;
-
-    // Deadline for the maintenance task
-    private Date dueDate;
+public record MaintenanceTask(int id, Aircraft aircraft, String taskDescription, LocalDate dueDate, TaskStatus status) {
 
-    // Combined model and tail number for UI
-    private String aircraftDisplayName;
-
-    // Task Status : "Pending" or "Complete"
-    private String status;
+    public MaintenanceTask {
+        Objects.requireNonNull(aircraft, "aircraft");
+        Objects.requireNonNull(dueDate, "dueDate");
+        Objects.requireNonNull(status, "status");
+    }
 
     /**
-     *Constructor for the main Task with all attributes Specified
-     *
-     * @param id unique task identifier
-     * @param aircraftId ID of the aircraft this task belongs to
-     * @param aircraftDisplayName a readable identifier for the aircraft
-     * @param taskDescription the textual description of the task
-     * @param dueDate when the task is due
-     * @param status the status of the task: Pending or Completed
+     * @return ID of the aircraft this task belongs to
      */
-    public MaintenanceTask(int id, int aircraftId,String aircraftDisplayName, String taskDescription, Date dueDate, String status) {
-        this.id = id;
-        this.aircraftDisplayName = aircraftDisplayName;
-        this.aircraftId = aircraftId;
-        this.taskDescription = taskDescription;
-        this.dueDate = dueDate;
-        this.status = status;
-    }
-
-    // Getter for the Maintenance Tasks
-
-    public int getId() {
-        return id;
+    public int aircraftId() {
+        return aircraft.id();
     }
 
-    public String getAircraftDisplayName() {
-        return aircraftDisplayName;
-    }
-
-    public int getAircraftId() {
-        return aircraftId;
-    }
-
-    public String getTaskDescription() {
-        return taskDescription;
-    }
-
-    public Date getDueDate() {
-        return dueDate;
-    }
-
-    public String getStatus() {
-        return status;
+    /**
+     * @return a readable identifier for the aircraft, model and tail number
+     */
+    public String aircraftDisplayName() {
+        return aircraft.displayName();
     }
 }
@@ -0,0 +1,32 @@
+package org.example.model;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Position in the task list ordered by (due date, id), used for keyset pagination.
+ *
+ * A cursor holds the sort key of the last row of a page (to read forward) or of the first
+ * row (to read backward). The database continues from that key through the (due_date, id)
+ * index, so reading page 1000 costs the same as reading page 1, unlike OFFSET which reads
+ * and discards all the rows before the page.
+ *
+ * @param dueDate due date of the boundary row
+ * @param id      id of the boundary row, breaks ties between tasks due on the same day
+ * @param forward true to read the rows after the boundary, false for the rows before it
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public record TaskCursor(LocalDate dueDate, int id, boolean forward) {
+
+    public TaskCursor {
+        Objects.requireNonNull(dueDate, "dueDate");
+    }
+
+    @Override
+    public String toString() {
+        return (forward ? "after " : "before ") + "(" + dueDate + ", " + id + ")";
+    }
+}
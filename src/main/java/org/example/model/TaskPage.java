@@ -0,0 +1,31 @@
+package org.example.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of maintenance tasks in (due date, id) order with the cursors of the
+ * neighbouring pages.
+ *
+ * @param tasks          rows of the page in ascending order, read only
+ * @param nextCursor     cursor of the following page, null on the last page
+ * @param previousCursor cursor of the preceding page, null on the first page
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public record TaskPage(List<MaintenanceTask> tasks, TaskCursor nextCursor, TaskCursor previousCursor) {
+
+    public TaskPage {
+        tasks = Collections.unmodifiableList(tasks);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean hasPrevious() {
+        return previousCursor != null;
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.model;
+
+import java.time.LocalDate;
+
+/**
+ * Filter, sort order and page size for a paged maintenance task query.
+ * Every filter is optional, a null value means "no restriction".
+ * The sort order applies to row windows (lazy tables), keyset pages are always read
+ * in (due date, id) order.
+ *
+ * Instances are immutable, the {@code with...} methods return a modified copy, so one query
+ * can be shared by all the pages of a view.
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public final class TaskQuery {
+
+    // Rows per page when nothing else is requested
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    // Upper bound for a single page
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Only tasks of this aircraft
+    private final Integer aircraftId;
+
+    // Only tasks with this status
+    private final TaskStatus status;
+
+    // Only tasks due on or after this date
+    private final LocalDate dueFrom;
+
+    // Only tasks due on or before this date
+    private final LocalDate dueTo;
+
+    // Rows per page
+    private final int pageSize;
+
+    // Sort column and direction, ties are broken by id in the same direction
+    private final TaskSort sort;
+    private final boolean ascending;
+
+    /**
+     * Creates a query for all tasks with the default page size.
+     */
+    public TaskQuery() {
+        this(null, null, null, null, DEFAULT_PAGE_SIZE, TaskSort.DUE_DATE, true);
+    }
+
+    private TaskQuery(Integer aircraftId, TaskStatus status, LocalDate dueFrom, LocalDate dueTo, int pageSize,
+                      TaskSort sort, boolean ascending) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("dueFrom " + dueFrom + " is after dueTo " + dueTo);
+        }
+        this.aircraftId = aircraftId;
+        this.status = status;
+        this.dueFrom = dueFrom;
+        this.dueTo = dueTo;
+        this.pageSize = pageSize;
+        this.sort = sort == null ? TaskSort.DUE_DATE : sort;
+        this.ascending = ascending;
+    }
+
+    /**
+     * @param aircraftId aircraft whose tasks are returned, null for all aircraft
+     */
+    public TaskQuery withAircraft(Integer aircraftId) {
+        return new TaskQuery(aircraftId, status, dueFrom, dueTo, pageSize, sort, ascending);
+    }
+
+    /**
+     * @param status status to match, null for any status
+     */
+    public TaskQuery withStatus(TaskStatus status) {
+        return new TaskQuery(aircraftId, status, dueFrom, dueTo, pageSize, sort, ascending);
+    }
+
+    /**
+     * @param dueFrom first due date included, null for no lower bound
+     * @param dueTo   last due date included, null for no upper bound
+     */
+    public TaskQuery withDueDateBetween(LocalDate dueFrom, LocalDate dueTo) {
+        return new TaskQuery(aircraftId, status, dueFrom, dueTo, pageSize, sort, ascending);
+    }
+
+    /**
+     * @param pageSize rows per page, 1 to {@link #MAX_PAGE_SIZE}
+     */
+    public TaskQuery withPageSize(int pageSize) {
+        return new TaskQuery(aircraftId, status, dueFrom, dueTo, pageSize, sort, ascending);
+    }
+
+    /**
+     * @param sort      column to sort by, null for the due date
+     * @param ascending true for ascending, false for descending order
+     */
+    public TaskQuery withSort(TaskSort sort, boolean ascending) {
+        return new TaskQuery(aircraftId, status, dueFrom, dueTo, pageSize, sort, ascending);
+    }
+
+    // Getters for the query
+
+    public Integer getAircraftId() {
+        return aircraftId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getDueFrom() {
+        return dueFrom;
+    }
+
+    public LocalDate getDueTo() {
+        return dueTo;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public TaskSort getSort() {
+        return sort;
+    }
+
+    public boolean isAscending() {
+        return ascending;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskQuery[aircraftId=" + aircraftId + ", status=" + status + ", due=" + dueFrom + ".." + dueTo
+                + ", pageSize=" + pageSize + ", sort=" + sort + (ascending ? " asc" : " desc") + "]";
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.model;
+
+/**
+ * Column a maintenance task list is sorted by in the database.
+ * Ties are always broken by the task id, so every sort order is total and can be paged.
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public enum TaskSort {
+
+    // Task id
+    ID,
+
+    // Aircraft display name, model and tail number
+    AIRCRAFT,
+
+    // Task description
+    DESCRIPTION,
+
+    // Due date, the default order of the task lists
+    DUE_DATE,
+
+    // Task status
+    STATUS
+}
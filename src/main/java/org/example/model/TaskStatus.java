@@ -0,0 +1,65 @@
+package org.example.model;
+
+import java.util.Locale;
+
+/**
+ * Status of a maintenance task. The database stores the label, migration V6 restricts the
+ * status column to these labels.
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public enum TaskStatus {
+
+    // Work still to be done
+    PENDING("Pending"),
+
+    // Work signed off
+    COMPLETED("Completed");
+
+    // Text stored in maintenance_task.status and shown to the user
+    private final String label;
+
+    TaskStatus(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return the text stored in the database and shown to the user
+     */
+    public String label() {
+        return label;
+    }
+
+    /**
+     * Reads a status from the database or from an imported file. Case and surrounding blanks
+     * are ignored, "Open" is read as Pending and "Complete" and "Done" as Completed, the same
+     * mapping migration V6 applied to the existing rows.
+     *
+     * @param text status text
+     * @return the status
+     * @throws IllegalArgumentException if the text is not a known status
+     */
+    public static TaskStatus fromText(String text) {
+        if (text != null) {
+            switch (text.trim().toLowerCase(Locale.ROOT)) {
+                case "pending":
+                case "open":
+                    return PENDING;
+                case "completed":
+                case "complete":
+                case "done":
+                    return COMPLETED;
+                default:
+                    break;
+            }
+        }
+        throw new IllegalArgumentException("Invalid task status '" + text + "', expected Pending or Completed");
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
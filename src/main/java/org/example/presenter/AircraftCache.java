@@ -0,0 +1,125 @@
+package org.example.presenter;
+
+import org.example.model.Aircraft;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : AircraftCache.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Process-wide copy of the aircraft table, kept current by the presenter.
+// Safety Level   : DAL C (data shown to the user must match the database)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Write-through, entries change only after the database change committed
+// ========================================================================
+
+/**
+ * AircraftCache: Aircraft by id, shared by every presenter in the process.
+ *
+ * The presenter writes each committed insert, update and delete through to the cache,
+ * so reading the fleet does not need a {@code SELECT * FROM aircraft} after every change.
+ * A full load from the database replaces the contents.
+ *
+ * Changes made outside the presenter (bulk imports, other terminals) are not seen until the
+ * next full load. A full load that ran while the presenter changed an aircraft may miss that
+ * change, such a load is dropped and the cache is left unloaded, so the next read goes to
+ * the database again.
+ */
+final class AircraftCache {
+
+    // The one cache of the process
+    private static final AircraftCache SHARED = new AircraftCache();
+
+    // Sorted by id, the order of the aircraft list
+    private final ConcurrentSkipListMap<Integer, Aircraft> byId = new ConcurrentSkipListMap<>();
+
+    // True after a full load, until a racing load invalidates it
+    private volatile boolean loaded;
+
+    // Incremented by every write-through, detects loads that raced with a change
+    private long generation;
+
+    private AircraftCache() {
+    }
+
+    /**
+     * @return the cache shared by all presenters
+     */
+    static AircraftCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * @return true when the cache holds the whole fleet
+     */
+    boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * @return the cached aircraft ordered by id, a copy the caller may keep
+     */
+    List<Aircraft> snapshot() {
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * @param id aircraft id
+     * @return the cached aircraft, null if it is not cached
+     */
+    Aircraft get(int id) {
+        return byId.get(id);
+    }
+
+    /**
+     * Taken before a full load is queried and handed to {@link #replaceAll(List, long)}.
+     *
+     * @return the current write generation
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Replaces the contents with a full load from the database.
+     *
+     * @param aircraftList all aircraft, as read by the load
+     * @param loadGeneration {@link #generation()} taken before the load was queried
+     * @return false if a change was written through meanwhile, the cache is then unloaded
+     */
+    synchronized boolean replaceAll(List<Aircraft> aircraftList, long loadGeneration) {
+        if (loadGeneration != generation) {
+            loaded = false;
+            return false;
+        }
+        byId.clear();
+        for (Aircraft aircraft : aircraftList) {
+            byId.put(aircraft.id(), aircraft);
+        }
+        loaded = true;
+        return true;
+    }
+
+    /**
+     * Writes an inserted or updated aircraft through.
+     *
+     * @param aircraft the aircraft as stored in the database
+     */
+    synchronized void put(Aircraft aircraft) {
+        generation++;
+        byId.put(aircraft.id(), aircraft);
+    }
+
+    /**
+     * Writes a deletion through.
+     *
+     * @param id id of the deleted aircraft
+     */
+    synchronized void remove(int id) {
+        generation++;
+        byId.remove(id);
+    }
+}
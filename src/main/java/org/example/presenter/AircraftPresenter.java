@@ -1,14 +1,40 @@
 package org.example.presenter;
 
+import org.example.db.ChangeBatch;
 import org.example.db.Database;
+import org.example.metrics.Counter;
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
 import org.example.model.Aircraft;
+import org.example.model.AircraftTaskStats;
+import org.example.model.FleetKpis;
 import org.example.model.MaintenanceTask;
+import org.example.model.TaskCursor;
+import org.example.model.TaskPage;
+import org.example.model.TaskQuery;
+import org.example.model.TaskSort;
+import org.example.model.TaskStatus;
 import org.example.view.AircraftView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 // For the GUI and Java Queries to work
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.*;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 // ========================= DO-178C MODULE HEADER =========================
 // Module Name    : AircraftPresenter.java
@@ -18,7 +44,10 @@ import java.util.List;
 //                  and user feedback.
 // Safety Level   : DAL C (data processing and user command interpretation)
 // Developed By   : Rafail
-// Last Modified  : 2025-05-02
+// Last Modified  : 2026-10-17
+// Notes          : The *Async methods run JDBC off the Swing event thread and
+//                  deliver results and messages back on it
+//                  The JDBC work of every operation is timed, see org.example.metrics
 // ========================================================================
 
 
@@ -29,12 +58,99 @@ import java.util.List;
  *  - Mediates between AircraftView and database models
  *  - Implements business logic
  *  - Ensures traceable flow of actions and updates
+ *
+ * Every operation exists in two forms. The synchronous methods block the calling thread
+ * for the whole query. The {@code *Async} methods return at once: the query runs on a
+ * background executor (see {@link PresenterExecutors}), the view is updated on the Swing
+ * event dispatch thread, and the returned future completes on the EDT after that. Several
+ * async operations started from the UI run concurrently, each on its own pooled connection.
+ *
+ * Aircraft changes are written through to the process-wide {@link AircraftCache} and reported
+ * to the view row by row ({@code aircraftAdded/Updated/Removed}), the fleet is not reloaded
+ * after every change. Changes made by other terminals arrive through
+ * {@link #applyChanges(ChangeBatch)} and are applied the same way.
+ *
+ * The JDBC work of each operation is recorded in a {@link Metrics} timer named
+ * {@code presenter.<operation>}, e.g. {@code presenter.loadAircraft}, for both forms. The time
+ * the call waits for a database thread and the view update are not included.
  */
 public class AircraftPresenter {
 
+    private static final Logger log = LoggerFactory.getLogger(AircraftPresenter.class);
+
+    // Queries shared by the synchronous and the asynchronous API
+    private static final String SELECT_AIRCRAFT = "SELECT * FROM aircraft";
+    private static final String SELECT_AIRCRAFT_BY_IDS = "SELECT * FROM aircraft WHERE id = ANY (?)";
+    private static final String INSERT_AIRCRAFT = "INSERT INTO aircraft (model, tail_number) VALUES (?, ?)";
+    private static final String UPDATE_AIRCRAFT = "UPDATE aircraft SET model = ?, tail_number = ? WHERE id = ?";
+    private static final String DELETE_AIRCRAFT = "DELETE FROM aircraft WHERE id = ?";
+    private static final String INSERT_TASK =
+            "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) VALUES (?, ?, ?, 'Pending')";
+    private static final String SELECT_TASK_COLUMNS =
+            "SELECT mt.id, mt.aircraft_id, a.model, a.tail_number, mt.task_description, mt.due_date, mt.status " +
+            "FROM maintenance_task mt JOIN aircraft a ON mt.aircraft_id = a.id";
+    private static final String SELECT_TASKS = SELECT_TASK_COLUMNS + " ORDER BY mt.due_date ASC";
+    private static final String COUNT_TASKS =
+            "SELECT count(*) FROM maintenance_task mt JOIN aircraft a ON mt.aircraft_id = a.id";
+
+    // Dashboard figures in one round trip. The WHERE clause limits the scan to the open and the
+    // recently completed tasks (partial indexes of migrations V4 and V6), the FILTER clauses split them.
+    private static final String SELECT_KPIS =
+            "SELECT (SELECT count(*) FROM aircraft) AS total_aircraft, " +
+            " count(*) FILTER (WHERE status = 'Pending') AS pending_tasks, " +
+            " count(*) FILTER (WHERE completed_at >= date_trunc('month', now())) AS completed_this_month " +
+            "FROM maintenance_task " +
+            "WHERE status = 'Pending' OR completed_at >= date_trunc('month', now())";
+
+    // Task figures per aircraft, one group per requested id. The (aircraft_id, due_date, id)
+    // index limits the scan to the tasks of those aircraft.
+    private static final String SELECT_TASK_STATS =
+            "SELECT aircraft_id, count(*) AS total, " +
+            " count(*) FILTER (WHERE status = 'Pending') AS pending, " +
+            " count(*) FILTER (WHERE status = 'Completed') AS completed, " +
+            " count(*) FILTER (WHERE status = 'Pending' AND due_date < current_date) AS overdue, " +
+            " min(due_date) FILTER (WHERE status = 'Pending' AND due_date >= current_date) AS next_due " +
+            "FROM maintenance_task WHERE aircraft_id = ANY (?) GROUP BY aircraft_id";
+
+    // JDBC time of each operation, the sync and async forms share a timer
+    // Changed aircraft patched into the view one by one, a larger batch reloads the list instead:
+    // one query and one list replacement rather than a list model event per aircraft
+    static final int MAX_PATCHED_AIRCRAFT = 256;
+
+    private static final Timer LOAD_AIRCRAFT_TIMER = Metrics.timer("presenter.loadAircraft");
+    private static final Timer APPLY_CHANGES_TIMER = Metrics.timer("presenter.applyChanges");
+    private static final Timer ADD_AIRCRAFT_TIMER = Metrics.timer("presenter.addAircraft");
+    private static final Timer UPDATE_AIRCRAFT_TIMER = Metrics.timer("presenter.updateAircraft");
+    private static final Timer DELETE_AIRCRAFT_TIMER = Metrics.timer("presenter.deleteAircraft");
+    private static final Timer ADD_MAINTENANCE_TASK_TIMER = Metrics.timer("presenter.addMaintenanceTask");
+    private static final Timer LOAD_MAINTENANCE_TASKS_TIMER = Metrics.timer("presenter.loadMaintenanceTasks");
+    private static final Timer LOAD_TASK_PAGE_TIMER = Metrics.timer("presenter.loadTaskPage");
+    private static final Timer COUNT_TASKS_TIMER = Metrics.timer("presenter.countTasks");
+    private static final Timer LOAD_TASK_ROWS_TIMER = Metrics.timer("presenter.loadTaskRows");
+    private static final Timer LOAD_FLEET_KPIS_TIMER = Metrics.timer("presenter.loadFleetKpis");
+    private static final Timer LOAD_TASK_STATS_TIMER = Metrics.timer("presenter.loadAircraftTaskStats");
+    private static final Timer LOAD_TASK_COLUMN_STORE_TIMER = Metrics.timer("presenter.loadTaskColumnStore");
+    private static final Timer READ_FLEET_SNAPSHOT_TIMER = Metrics.timer("presenter.readFleetSnapshot");
+    private static final Timer SAVE_FLEET_SNAPSHOT_TIMER = Metrics.timer("presenter.saveFleetSnapshot");
+
+    // Aircraft and task rows read by the queries, rows inserted, updated or deleted
+    private static final Counter ROWS_READ = Metrics.counter("rows.read");
+    private static final Counter ROWS_WRITTEN = Metrics.counter("rows.written");
+
+    /**
+     * A JDBC call run on the database executor.
+     */
+    @FunctionalInterface
+    private interface SqlCall<T> {
+        T call() throws SQLException;
+    }
+
     //It references tto the Aircraft view component that has the role of displaying information to the user
     private AircraftView view;
 
+    // Fleet shared by all presenters, see AircraftCache
+    private final AircraftCache cache = AircraftCache.shared();
+
     //Constructor of the AircraftPresenter using the Aircraft view, updates hte view in the GUI
     //@param view The view component to be updated by the presenter.
     public AircraftPresenter(AircraftView view) {
@@ -42,37 +158,36 @@ public class AircraftPresenter {
     }
 
     //Load all the entries for Aircrafts from the Database and updates the view
+    //This is the full refresh, it also reloads the aircraft cache
     //Establishes a connection to PostgreSQL and retrieve all the records.
     // Populates the view with the aircrafts in the database
     // If there is a database access problem. then an appropriate error message occurs
     public void loadAircraft() {
-        //List of aircrafts
-        List<Aircraft> aircraftList = new ArrayList<>();
-        //Create the connection
-        //Create the statement
-        // Execute the Query to the database and retrieve results
-        try (Connection conn = Database.getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery("SELECT * FROM aircraft")) {
-
-            //Read all the results from the query
-            while (rs.next()) {
-                Aircraft aircraft = new Aircraft(
-                        rs.getInt("id"),
-                        rs.getString("model"),
-                        rs.getString("tail_number")
-                );
-                //Add the results to the list
-                aircraftList.add(aircraft);
-            }
+        try {
             // Show the results from the query
-            view.showAircraftList(aircraftList);
+            view.showAircraftList(timed(LOAD_AIRCRAFT_TIMER, this::queryAircraft));
         //If needed throw and exception
         } catch (SQLException e) {
             view.showMessage("Error loading aircraft: " + e.getMessage());
         }
     }
 
+    /**
+     * Non-blocking {@link #loadAircraft()}: queries in the background and shows the list on the EDT.
+     *
+     * @return completes on the EDT with the list shown, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<List<Aircraft>> loadAircraftAsync() {
+        return onDatabase(LOAD_AIRCRAFT_TIMER, this::queryAircraft)
+                .whenCompleteAsync((aircraftList, error) -> {
+                    if (error == null) {
+                        view.showAircraftList(aircraftList);
+                    } else {
+                        showError("Error loading aircraft: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
     /**
      * Updates the view reference for delayed initialization.
      *
@@ -83,74 +198,97 @@ public class AircraftPresenter {
     }
 
     // Add a new aircraft entry to the database based on the user input
-    //Refresh the table when a new aircraft is added
+    //Add the new row to the view when a new aircraft is added
     //If a database insertion error occurs please throw an appropriate error
     //@param model The model name of the new aircraft.
     //@param tailNumber The unique registration number (tail number) of the new aircraft.
     public void addAircraft(String model, String tailNumber) {
-        //Initiate the connection to the database
-        try (Connection conn = Database.getConnection();
-             //Create the statement and excecute the statement
-             PreparedStatement pstmt = conn.prepareStatement(
-                     "INSERT INTO aircraft (model, tail_number) VALUES (?, ?)", Statement.RETURN_GENERATED_KEYS)) {
-            //Based on the user input in the first ? add the model and in the second ? add the tail number
-            //Excecute the statement to update the database
-            pstmt.setString(1, model);
-            pstmt.setString(2, tailNumber);
-            pstmt.executeUpdate();
+        //Insert the aircraft through a pooled connection
+        try {
+            Aircraft added = timed(ADD_AIRCRAFT_TIMER, () -> insertAircraft(model, tailNumber));
 
             //Show the appropriate message
             view.showMessage("Aircraft added successfully.");
-            loadAircraft();
+            view.aircraftAdded(added);
         //Throw an error when needed
         } catch (SQLException e) {
             view.showMessage("Error adding aircraft: " + e.getMessage());
         }
     }
 
+    /**
+     * Non-blocking {@link #addAircraft(String, String)}. The new aircraft is added to the view.
+     *
+     * @return completes on the EDT once the message was shown and the view was updated
+     */
+    public CompletableFuture<Void> addAircraftAsync(String model, String tailNumber) {
+        return onDatabase(ADD_AIRCRAFT_TIMER, () -> insertAircraft(model, tailNumber))
+                .handleAsync((added, error) -> {
+                    if (error == null) {
+                        view.showMessage("Aircraft added successfully.");
+                        view.aircraftAdded(added);
+                    } else {
+                        showError("Error adding aircraft: ", error);
+                    }
+                    return null;
+                }, PresenterExecutors.EDT);
+    }
+
     // Updates the model and tail number for the Aircraft
     public void updateAircraft(int id, String newModel, String newTailNumber){
-        // Establish the connection with the database and also query the database to update the information
-        try(Connection conn = Database.getConnection();
-            PreparedStatement pstmt =
-                    conn.prepareStatement("UPDATE aircraft SET model = ?, tail_number = ? WHERE id = ?"))
+        // Query the database to update the information
+        try
         {
-         // Get the data from the user from the GUI
-         // In the first ? add the model provided by the user
-         // In the second ? add the tailnumber provided by the user
-         pstmt.setString(1, newModel);
-         pstmt.setString(2, newTailNumber);
-         pstmt.setInt(3, id);
          // Check if the update has happened to show the appropriate message
-         int rowsUpdated = pstmt.executeUpdate();
+         int rowsUpdated = timed(UPDATE_AIRCRAFT_TIMER, () -> updateAircraftRow(id, newModel, newTailNumber));
 
          if(rowsUpdated > 0){
              view.showMessage("Aircraft updated successfully.");
+             view.aircraftUpdated(new Aircraft(id, newModel, newTailNumber));
          } else{
              view.showMessage("Aircraft not found for update.");
+             // Deleted meanwhile, take it off the list too
+             view.aircraftRemoved(id);
           }
-         // load the list of aircrafts and update the view
-         loadAircraft();
         } catch (SQLException e){
             view.showMessage("Error updating aircraft " + e.getMessage());
         }
     }
 
+    /**
+     * Non-blocking {@link #updateAircraft(int, String, String)}. Only the changed row of the view is updated.
+     *
+     * @return completes on the EDT once the message was shown and the view was updated
+     */
+    public CompletableFuture<Void> updateAircraftAsync(int id, String newModel, String newTailNumber) {
+        return onDatabase(UPDATE_AIRCRAFT_TIMER, () -> updateAircraftRow(id, newModel, newTailNumber))
+                .handleAsync((rowsUpdated, error) -> {
+                    if (error != null) {
+                        showError("Error updating aircraft ", error);
+                    } else if (rowsUpdated > 0) {
+                        view.showMessage("Aircraft updated successfully.");
+                        view.aircraftUpdated(new Aircraft(id, newModel, newTailNumber));
+                    } else {
+                        view.showMessage("Aircraft not found for update.");
+                        view.aircraftRemoved(id);
+                    }
+                    return null;
+                }, PresenterExecutors.EDT);
+    }
+
     /**
      * Deletes an aircraft from the database by ID.
-     * Triggers full view reload to reflect the change.
+     * Removes only that row from the view.
      *
      * @param id Aircraft ID to delete
      */
     public void deleteAircraft(int id){
-        //Establish the connection and Query the database to delete the aircraft
-        try(Connection conn = Database.getConnection();
-            PreparedStatement pstmt = conn.prepareStatement("DELETE FROM aircraft WHERE id = ?"))
+        //Query the database to delete the aircraft
+        try
         {
             // Based on the Aircraft chosen in the GUI delete it from the Database and View
-            pstmt.setInt(1, id);
             //Check if the action was implemented
-            int rowsDeleted = pstmt.executeUpdate();
+            int rowsDeleted = timed(DELETE_AIRCRAFT_TIMER, () -> deleteAircraftRow(id));
 
             // Show the appropriate message
             if (rowsDeleted > 0) {
@@ -158,12 +296,67 @@ public class AircraftPresenter {
             } else {
                 view.showMessage("Aircraft not found for deletion.");
             }
-            loadAircraft();
+            // Gone from the database either way
+            view.aircraftRemoved(id);
         } catch (SQLException e) {
             view.showMessage("Error deleting aircraft: " + e.getMessage());
         }
     }
 
+    /**
+     * Non-blocking {@link #deleteAircraft(int)}. Only the deleted row is removed from the view.
+     *
+     * @return completes on the EDT once the message was shown and the view was updated
+     */
+    public CompletableFuture<Void> deleteAircraftAsync(int id) {
+        return onDatabase(DELETE_AIRCRAFT_TIMER, () -> deleteAircraftRow(id))
+                .handleAsync((rowsDeleted, error) -> {
+                    if (error != null) {
+                        showError("Error deleting aircraft: ", error);
+                    } else {
+                        view.showMessage(rowsDeleted > 0 ? "Aircraft deleted successfully." : "Aircraft not found for deletion.");
+                        view.aircraftRemoved(id);
+                    }
+                    return null;
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Applies changes reported by the {@link org.example.db.ChangeFeed}: the changed aircraft
+     * are read again by id and patched into the cache and the view, deleted ones are removed.
+     * A resync, a batch of all aircraft or more than {@value #MAX_PATCHED_AIRCRAFT} changed aircraft
+     * (e.g. a bulk import on another terminal) reloads the whole list. Can be called from any thread.
+     *
+     * @param batch coalesced changes of other terminals (and this one, applying them again is harmless)
+     * @return completes on the EDT once the view was updated, failures are logged, not shown
+     */
+    public CompletableFuture<Void> applyChanges(ChangeBatch batch) {
+        Set<Integer> ids = batch.getAircraftIds();
+        if (batch.isAllAircraft() || ids.size() > MAX_PATCHED_AIRCRAFT) {
+            return loadAircraftAsync().handle((aircraftList, error) -> null);
+        }
+        if (ids.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return onDatabase(APPLY_CHANGES_TIMER, () -> refreshAircraft(ids))
+                .handleAsync((current, error) -> {
+                    if (error != null) {
+                        // Background refresh, no dialog for the user, the next change or reload catches up
+                        log.warn("Cannot apply database changes {}", batch, error);
+                    } else if (view != null) {
+                        for (Integer id : ids) {
+                            Aircraft aircraft = current.get(id);
+                            if (aircraft == null) {
+                                view.aircraftRemoved(id);
+                            } else {
+                                view.aircraftUpdated(aircraft);
+                            }
+                        }
+                    }
+                    return null;
+                }, PresenterExecutors.EDT);
+    }
+
     // ==================== MAINTENANCE TASK OPERATIONS ====================
     // ==================== MAINTENANCE TASK OPERATIONS ====================
     // ==================== MAINTENANCE TASK OPERATIONS ====================
@@ -176,78 +369,412 @@ public class AircraftPresenter {
      *
      * @param aircraftId ID of the aircraft to associate the task with
      * @param taskDescription The description of the task
-     * @param dueDate Due date for the task (as java.sql.Date)
+     * @param dueDate Due date for the task
      */
- public void addMaintenanceTask(int aircraftId, String taskDescription, Date dueDate) {
+ public void addMaintenanceTask(int aircraftId, String taskDescription, LocalDate dueDate) {
      // Establish connection to the database
      // Query the database to insert the task information and create a new task
-     try (Connection conn = Database.getConnection();
-          PreparedStatement pstmt = conn.prepareStatement(
-                  "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) VALUES (?, ?, ?, 'Pending')")) {
-         //Based on the User input in the first ? add the aircraftId, based on the 2 ? add the task description
-         //For the due date we have a certain day format to be used
-         pstmt.setInt(1, aircraftId);
-         pstmt.setString(2, taskDescription);
-         pstmt.setDate(3, new java.sql.Date(dueDate.getTime()));
-         pstmt.executeUpdate();
+     try {
+         timed(ADD_MAINTENANCE_TASK_TIMER, () -> {
+             insertMaintenanceTask(aircraftId, taskDescription, dueDate);
+             return null;
+         });
          view.showMessage("Maintenance task added successfully.");
      } catch (SQLException e) {
          view.showMessage("Error adding maintenance task: " + e.getMessage());
      }
  }
 
+    /**
+     * Non-blocking {@link #addMaintenanceTask(int, String, LocalDate)}.
+     *
+     * @return completes on the EDT once the message was shown, exceptionally if the insert failed
+     */
+    public CompletableFuture<Void> addMaintenanceTaskAsync(int aircraftId, String taskDescription, LocalDate dueDate) {
+        return onDatabase(ADD_MAINTENANCE_TASK_TIMER, () -> {
+            insertMaintenanceTask(aircraftId, taskDescription, dueDate);
+            return (Void) null;
+        }).whenCompleteAsync((ignored, error) -> {
+            if (error == null) {
+                view.showMessage("Maintenance task added successfully.");
+            } else {
+                showError("Error adding maintenance task: ", error);
+            }
+        }, PresenterExecutors.EDT);
+    }
+
     /**
      * Retrieves and returns all maintenance tasks from the database, joined with aircraft info.
      *
      * @return List of MaintenanceTask objects sorted by due date
      */
     public List<MaintenanceTask> loadMaintenanceTasks() {
-        // Create a list of the maintenance Tasks based on the Data Strucutre ArrayList
-        List<MaintenanceTask> taskList = new ArrayList<>();
-        //Establish connection and also create a query
-        try (Connection conn = Database.getConnection();
-             Statement stmt = conn.createStatement();
-             // This query retrieves all maintenance tasks and their linked aircraft information (model + tail number),
-             // ordered by task due date from earliest to latest.
-             ResultSet rs = stmt.executeQuery(
-                     "SELECT mt.id, mt.aircraft_id, a.model, a.tail_number, mt.task_description, mt.due_date, mt.status " +
-                             "FROM maintenance_task mt JOIN aircraft a ON mt.aircraft_id = a.id ORDER BY mt.due_date ASC")) {
+        try {
+            return timed(LOAD_MAINTENANCE_TASKS_TIMER, this::queryMaintenanceTasks);
+        } catch (SQLException e) {
+            view.showMessage("Error loading maintenance tasks: " + e.getMessage());
+            // Same as before: an empty list when the database cannot be read
+            return new ArrayList<>();
+        }
+    }
 
-            // Show all the tasks in the database
-            while (rs.next()) {
-                // Concatenate the Model and the tail number to create the display name
-                String displayName = rs.getString("model") + " (" + rs.getString("tail_number") + ")";
-                MaintenanceTask task = new MaintenanceTask(
-                        rs.getInt("id"),
-                        rs.getInt("aircraft_id"),
-                        displayName,
-                        rs.getString("task_description"),
-                        rs.getDate("due_date"),
-                        rs.getString("status")
-                );
-                // Add the task to the list of tasks
-                taskList.add(task);
-            }
+    /**
+     * Non-blocking {@link #loadMaintenanceTasks()}.
+     *
+     * @return completes on the EDT with the tasks, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<List<MaintenanceTask>> loadMaintenanceTasksAsync() {
+        return onDatabase(LOAD_MAINTENANCE_TASKS_TIMER, this::queryMaintenanceTasks)
+                .whenCompleteAsync((tasks, error) -> {
+                    if (error != null) {
+                        showError("Error loading maintenance tasks: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Loads one page of maintenance tasks in (due date, id) order.
+     * Only the rows of the page are read, whatever the size of the task history.
+     *
+     * @param query  filters and page size
+     * @param cursor position to continue from, null for the first page
+     * @return the page with the cursors of its neighbours, empty if the database cannot be read
+     */
+    public TaskPage loadTaskPage(TaskQuery query, TaskCursor cursor) {
+        try {
+            return timed(LOAD_TASK_PAGE_TIMER, () -> queryTaskPage(query, cursor));
         } catch (SQLException e) {
             view.showMessage("Error loading maintenance tasks: " + e.getMessage());
+            return new TaskPage(new ArrayList<>(), null, null);
         }
-        return taskList;
+    }
+
+    /**
+     * Non-blocking {@link #loadTaskPage(TaskQuery, TaskCursor)}.
+     *
+     * @return completes on the EDT with the page, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<TaskPage> loadTaskPageAsync(TaskQuery query, TaskCursor cursor) {
+        return onDatabase(LOAD_TASK_PAGE_TIMER, () -> queryTaskPage(query, cursor))
+                .whenCompleteAsync((page, error) -> {
+                    if (error != null) {
+                        showError("Error loading maintenance tasks: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Counts the tasks matching the filters of the query.
+     *
+     * @param query filters, the page size and sort order are ignored
+     * @return number of matching tasks, 0 if the database cannot be read
+     */
+    public int countTasks(TaskQuery query) {
+        try {
+            return timed(COUNT_TASKS_TIMER, () -> queryTaskCount(query));
+        } catch (SQLException e) {
+            view.showMessage("Error loading maintenance tasks: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Non-blocking {@link #countTasks(TaskQuery)}.
+     *
+     * @return completes on the EDT with the count, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<Integer> countTasksAsync(TaskQuery query) {
+        return onDatabase(COUNT_TASKS_TIMER, () -> queryTaskCount(query))
+                .whenCompleteAsync((count, error) -> {
+                    if (error != null) {
+                        showError("Error loading maintenance tasks: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Loads a window of tasks in the sort order of the query, for tables that load rows as
+     * they are scrolled into view.
+     *
+     * When the row before the window is known ({@code after}) the window is read from its
+     * sort key on (keyset), which costs the same anywhere in the list. Otherwise the rows
+     * before the window are skipped with OFFSET, used when the user jumps far ahead.
+     *
+     * @param query  filters and sort order, the page size is ignored
+     * @param offset position of the first row of the window, used when after is null
+     * @param limit  rows in the window
+     * @param after  the row just before the window, or null
+     * @return the rows, fewer than limit at the end of the list
+     */
+    public List<MaintenanceTask> loadTaskRows(TaskQuery query, int offset, int limit, MaintenanceTask after) {
+        try {
+            return timed(LOAD_TASK_ROWS_TIMER, () -> queryTaskRows(query, offset, limit, after));
+        } catch (SQLException e) {
+            view.showMessage("Error loading maintenance tasks: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Non-blocking {@link #loadTaskRows(TaskQuery, int, int, MaintenanceTask)}.
+     *
+     * @return completes on the EDT with the rows, or exceptionally; failures are logged, not shown,
+     *         because a scrolling table requests many windows
+     */
+    public CompletableFuture<List<MaintenanceTask>> loadTaskRowsAsync(TaskQuery query, int offset, int limit, MaintenanceTask after) {
+        return onDatabase(LOAD_TASK_ROWS_TIMER, () -> queryTaskRows(query, offset, limit, after))
+                .whenCompleteAsync((rows, error) -> {
+                    if (error != null) {
+                        log.warn("Cannot load task rows {} at offset {}", query, offset, error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Computes the dashboard KPIs in the database.
+     * The cost depends on the number of open and recently completed tasks, not on the history.
+     *
+     * @return total aircraft, pending tasks and tasks completed this month, zeros if the database cannot be read
+     */
+    public FleetKpis loadFleetKpis() {
+        try {
+            return timed(LOAD_FLEET_KPIS_TIMER, this::queryFleetKpis);
+        } catch (SQLException e) {
+            view.showMessage("Error loading dashboard figures: " + e.getMessage());
+            return new FleetKpis(0, 0, 0);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #loadFleetKpis()}.
+     *
+     * @return completes on the EDT with the KPIs, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<FleetKpis> loadFleetKpisAsync() {
+        return onDatabase(LOAD_FLEET_KPIS_TIMER, this::queryFleetKpis)
+                .whenCompleteAsync((kpis, error) -> {
+                    if (error != null) {
+                        showError("Error loading dashboard figures: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Computes the task figures of one aircraft in the database.
+     * Only the tasks of that aircraft are read.
+     *
+     * @param aircraftId aircraft to summarize
+     * @return the figures, all zero if the aircraft has no tasks or the database cannot be read
+     */
+    public AircraftTaskStats loadAircraftTaskStats(int aircraftId) {
+        try {
+            return timed(LOAD_TASK_STATS_TIMER, () -> queryTaskStats(List.of(aircraftId))).get(aircraftId);
+        } catch (SQLException e) {
+            view.showMessage("Error loading aircraft details: " + e.getMessage());
+            return AircraftTaskStats.empty(aircraftId);
+        }
+    }
+
+    /**
+     * Non-blocking {@link #loadAircraftTaskStats(int)}.
+     *
+     * @return completes on the EDT with the figures, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<AircraftTaskStats> loadAircraftTaskStatsAsync(int aircraftId) {
+        return onDatabase(LOAD_TASK_STATS_TIMER, () -> queryTaskStats(List.of(aircraftId)).get(aircraftId))
+                .whenCompleteAsync((stats, error) -> {
+                    if (error != null) {
+                        showError("Error loading aircraft details: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Computes the task figures of several aircraft with one query.
+     *
+     * @param aircraftIds aircraft to summarize
+     * @return figures by aircraft id, one entry per requested id, empty if the database cannot be read
+     */
+    public Map<Integer, AircraftTaskStats> loadAircraftTaskStats(Collection<Integer> aircraftIds) {
+        try {
+            return timed(LOAD_TASK_STATS_TIMER, () -> queryTaskStats(aircraftIds));
+        } catch (SQLException e) {
+            view.showMessage("Error loading aircraft details: " + e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Non-blocking {@link #loadAircraftTaskStats(Collection)}.
+     *
+     * @return completes on the EDT with the figures by id, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<Map<Integer, AircraftTaskStats>> loadAircraftTaskStatsAsync(Collection<Integer> aircraftIds) {
+        // Copied on the calling thread, the caller may change its collection afterwards
+        List<Integer> ids = new ArrayList<>(aircraftIds);
+        return onDatabase(LOAD_TASK_STATS_TIMER, () -> queryTaskStats(ids))
+                .whenCompleteAsync((stats, error) -> {
+                    if (error != null) {
+                        showError("Error loading aircraft details: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * Loads every task into a {@link TaskColumnStore} for fleet analytics. The load reads the
+     * whole table once, the questions are then answered in memory without a query each.
+     *
+     * @return the store, empty if the database cannot be read
+     */
+    public TaskColumnStore loadTaskColumnStore() {
+        try {
+            return timed(LOAD_TASK_COLUMN_STORE_TIMER, this::queryTaskColumnStore);
+        } catch (SQLException e) {
+            view.showMessage("Error loading fleet analytics: " + e.getMessage());
+            return new TaskColumnStore.Builder().build();
+        }
+    }
+
+    /**
+     * Non-blocking {@link #loadTaskColumnStore()}.
+     *
+     * @return completes on the EDT with the store, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<TaskColumnStore> loadTaskColumnStoreAsync() {
+        return onDatabase(LOAD_TASK_COLUMN_STORE_TIMER, this::queryTaskColumnStore)
+                .whenCompleteAsync((store, error) -> {
+                    if (error != null) {
+                        showError("Error loading fleet analytics: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    /**
+     * A checked snapshot with the dashboard figures computed from it, ready to be rendered.
+     */
+    private record ReadSnapshot(FleetSnapshot snapshot, FleetKpis kpis) {
+    }
+
+    /**
+     * Reads and checks a {@link FleetSnapshot} file and computes its dashboard figures in the
+     * background, then renders it on the EDT. The checksum covers the whole file and the figures
+     * scan every task, at the size of a large fleet both take far longer than a frame.
+     * The view ignores the snapshot if the database data was shown first.
+     * A missing, outdated or damaged file only means a slower start, it is logged and not shown.
+     *
+     * @param file snapshot file
+     * @return completes on the EDT after the render, with the snapshot or null if there is none that can be used
+     */
+    public CompletableFuture<FleetSnapshot> showFleetSnapshotAsync(Path file) {
+        return CompletableFuture.supplyAsync(() -> readFleetSnapshot(file), PresenterExecutors.DATABASE)
+                .thenApplyAsync(read -> {
+                    if (read == null) {
+                        return null;
+                    }
+                    if (view != null) {
+                        view.showSnapshot(read.snapshot().aircraft(), read.kpis(), read.snapshot().createdAt());
+                    }
+                    return read.snapshot();
+                }, PresenterExecutors.EDT);
+    }
+
+    private static ReadSnapshot readFleetSnapshot(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        long start = System.nanoTime();
+        try {
+            FleetSnapshot snapshot = FleetSnapshot.read(file);
+            ReadSnapshot read = new ReadSnapshot(snapshot, snapshot.kpis(ZonedDateTime.now()));
+            READ_FLEET_SNAPSHOT_TIMER.recordSince(start);
+            return read;
+        } catch (IOException e) {
+            log.warn("Ignoring fleet snapshot {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the current aircraft and tasks to a {@link FleetSnapshot} file in the background,
+     * the next start renders it before the database answers. Nothing is read or written if the
+     * previous snapshot is still current (see {@link FleetSnapshot}), so a start of an unchanged
+     * fleet does not read the whole task table.
+     * A failure only costs the fast start, it is logged and not shown to the user.
+     *
+     * @param file     snapshot file, replaced when the new snapshot is complete
+     * @param previous snapshot shown at startup, null if there was none
+     * @return completes with true when the file was written, false if it was current, or exceptionally with the failure
+     */
+    public CompletableFuture<Boolean> saveFleetSnapshotAsync(Path file, FleetSnapshot previous) {
+        return onDatabase(SAVE_FLEET_SNAPSHOT_TIMER, () -> {
+                    try {
+                        return FleetSnapshot.save(file, previous);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .whenComplete((ignored, error) -> {
+                    if (error != null) {
+                        log.warn("Cannot write fleet snapshot {}", file, error);
+                    }
+                });
     }
 
     /**
      * Loads and returns all aircrafts without directly displaying them.
      * Used in dropdowns, data selectors, views and GUIs.
+     * Served from the aircraft cache once it is loaded.
      *
      * @return List of aircraft from database
      */
     public List<Aircraft> getAircraftList() {
+        try {
+            return cachedAircraft();
+            // If a database error occurs, display the error message to the user
+        } catch (SQLException e) {
+            view.showMessage("Error loading aircraft list: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Non-blocking {@link #getAircraftList()}.
+     *
+     * @return completes on the EDT with the aircraft, or exceptionally after the error message was shown
+     */
+    public CompletableFuture<List<Aircraft>> getAircraftListAsync() {
+        return onDatabase(this::cachedAircraft)
+                .whenCompleteAsync((aircraftList, error) -> {
+                    if (error != null) {
+                        showError("Error loading aircraft list: ", error);
+                    }
+                }, PresenterExecutors.EDT);
+    }
+
+    // ==================== JDBC ACCESS ====================
+
+    /**
+     * @return the cached fleet, loaded from the database on first use
+     */
+    private List<Aircraft> cachedAircraft() throws SQLException {
+        return cache.isLoaded() ? cache.snapshot() : timed(LOAD_AIRCRAFT_TIMER, this::queryAircraft);
+    }
+
+    /**
+     * Reads all aircraft and refreshes the cache with them.
+     *
+     * @return List of aircraft from database
+     */
+    private List<Aircraft> queryAircraft() throws SQLException {
+        // Changes written through while the query runs make this result stale for the cache
+        long generation = cache.generation();
         // Initialize a list to store the aircraft objects returned from the database
         List<Aircraft> aircraftList = new ArrayList<>();
         // Establish connection in the database, use a statement/query and run it in the database
         try (Connection conn = Database.getConnection();
              Statement stmt = conn.createStatement();
              // Query to get results
-             ResultSet rs = stmt.executeQuery("SELECT * FROM aircraft")) {
+             ResultSet rs = stmt.executeQuery(SELECT_AIRCRAFT)) {
             // For all the resutls from the query, read them and Construct an Aircraft object from the current row's
             while (rs.next()) {
                 aircraftList.add(new Aircraft(
@@ -256,12 +783,462 @@ public class AircraftPresenter {
                         rs.getString("tail_number") // Fetsch the tail number
                 ));
             }
-            // If a database error occurs, display the error message to the user
-        } catch (SQLException e) {
-            view.showMessage("Error loading aircraft list: " + e.getMessage());
         }
+        cache.replaceAll(aircraftList, generation);
+        ROWS_READ.add(aircraftList.size());
         // Return the complete list of Aircraft
         return aircraftList;
     }
 
+    /**
+     * Reads the given aircraft and writes them through to the cache, ids that no longer
+     * exist are removed from it.
+     *
+     * @return the aircraft that still exist, by id
+     */
+    private Map<Integer, Aircraft> refreshAircraft(Set<Integer> ids) throws SQLException {
+        Map<Integer, Aircraft> current = new HashMap<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_AIRCRAFT_BY_IDS)) {
+            pstmt.setArray(1, conn.createArrayOf("integer", ids.toArray()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Aircraft aircraft = new Aircraft(rs.getInt("id"), rs.getString("model"), rs.getString("tail_number"));
+                    current.put(aircraft.id(), aircraft);
+                }
+            }
+        }
+        ROWS_READ.add(current.size());
+        for (Integer id : ids) {
+            Aircraft aircraft = current.get(id);
+            if (aircraft == null) {
+                cache.remove(id);
+            } else {
+                cache.put(aircraft);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Inserts an aircraft and writes it through to the cache.
+     *
+     * @return the stored aircraft with its generated id
+     */
+    private Aircraft insertAircraft(String model, String tailNumber) throws SQLException {
+        //Initiate the connection to the database
+        try (Connection conn = Database.getConnection();
+             //Create the statement and excecute the statement
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_AIRCRAFT, Statement.RETURN_GENERATED_KEYS)) {
+            //Based on the user input in the first ? add the model and in the second ? add the tail number
+            //Excecute the statement to update the database
+            pstmt.setString(1, model);
+            pstmt.setString(2, tailNumber);
+            ROWS_WRITTEN.add(pstmt.executeUpdate());
+
+            // The id assigned by the SERIAL column, no reload needed to learn it
+            try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                if (!keys.next()) {
+                    throw new SQLException("No id returned for the new aircraft " + tailNumber);
+                }
+                Aircraft added = new Aircraft(keys.getInt("id"), model, tailNumber);
+                cache.put(added);
+                return added;
+            }
+        }
+    }
+
+    private int updateAircraftRow(int id, String newModel, String newTailNumber) throws SQLException {
+        // Establish the connection with the database and also query the database to update the information
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(UPDATE_AIRCRAFT)) {
+            // In the first ? add the model provided by the user
+            // In the second ? add the tailnumber provided by the user
+            pstmt.setString(1, newModel);
+            pstmt.setString(2, newTailNumber);
+            pstmt.setInt(3, id);
+            int rowsUpdated = pstmt.executeUpdate();
+            ROWS_WRITTEN.add(rowsUpdated);
+
+            // Write through: the new values, or nothing when the aircraft no longer exists
+            if (rowsUpdated > 0) {
+                cache.put(new Aircraft(id, newModel, newTailNumber));
+            } else {
+                cache.remove(id);
+            }
+            return rowsUpdated;
+        }
+    }
+
+    private int deleteAircraftRow(int id) throws SQLException {
+        //Establish the connection and Query the database to delete the aircraft
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(DELETE_AIRCRAFT)) {
+            pstmt.setInt(1, id);
+            int rowsDeleted = pstmt.executeUpdate();
+            ROWS_WRITTEN.add(rowsDeleted);
+            cache.remove(id);
+            return rowsDeleted;
+        }
+    }
+
+    private void insertMaintenanceTask(int aircraftId, String taskDescription, LocalDate dueDate) throws SQLException {
+        // Establish connection to the database
+        // Query the database to insert the task information and create a new task
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_TASK)) {
+            //Based on the User input in the first ? add the aircraftId, based on the 2 ? add the task description
+            //The due date is sent as a DATE, no time zone conversion
+            pstmt.setInt(1, aircraftId);
+            pstmt.setString(2, taskDescription);
+            pstmt.setObject(3, dueDate);
+            ROWS_WRITTEN.add(pstmt.executeUpdate());
+        }
+    }
+
+    /**
+     * Reads all maintenance tasks joined with aircraft info.
+     *
+     * @return List of MaintenanceTask objects sorted by due date
+     */
+    private List<MaintenanceTask> queryMaintenanceTasks() throws SQLException {
+        // Create a list of the maintenance Tasks based on the Data Strucutre ArrayList
+        List<MaintenanceTask> taskList = new ArrayList<>();
+        // One Aircraft instance per aircraft, shared by its tasks
+        Map<Integer, Aircraft> aircraftById = new HashMap<>();
+        //Establish connection and also create a query
+        // This query retrieves all maintenance tasks and their linked aircraft information (model + tail number),
+        // ordered by task due date from earliest to latest.
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_TASKS)) {
+
+            // Show all the tasks in the database
+            while (rs.next()) {
+                // Add the task to the list of tasks
+                taskList.add(mapTask(rs, aircraftById));
+            }
+        }
+        ROWS_READ.add(taskList.size());
+        return taskList;
+    }
+
+    /**
+     * Reads one page with keyset pagination: the page continues after (or before) the
+     * (due_date, id) key of the cursor instead of skipping rows with OFFSET, so the
+     * database walks the (due_date, id) index from that key and stops after one page.
+     */
+    private TaskPage queryTaskPage(TaskQuery query, TaskCursor cursor) throws SQLException {
+        boolean forward = cursor == null || cursor.forward();
+        StringBuilder sql = new StringBuilder(SELECT_TASK_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, query);
+
+        // Row value comparison matches the (due_date, id) index order
+        if (cursor != null) {
+            sql.append(forward ? " AND (mt.due_date, mt.id) > (?, ?)" : " AND (mt.due_date, mt.id) < (?, ?)");
+            params.add(cursor.dueDate());
+            params.add(cursor.id());
+        }
+        sql.append(forward ? " ORDER BY mt.due_date, mt.id" : " ORDER BY mt.due_date DESC, mt.id DESC");
+        // One extra row tells whether there is another page in the reading direction
+        sql.append(" LIMIT ?");
+        params.add(query.getPageSize() + 1);
+
+        List<MaintenanceTask> tasks = queryTasks(sql.toString(), params, query.getPageSize() + 1);
+
+        boolean more = tasks.size() > query.getPageSize();
+        if (more) {
+            tasks.remove(tasks.size() - 1);
+        }
+        if (!forward) {
+            // Read backwards, shown in ascending order
+            Collections.reverse(tasks);
+        }
+
+        if (tasks.isEmpty()) {
+            // Nothing left in this direction, the way back includes the cursor row itself
+            if (cursor == null) {
+                return new TaskPage(tasks, null, null);
+            }
+            return forward
+                    ? new TaskPage(tasks, null, new TaskCursor(cursor.dueDate(), cursor.id() + 1, false))
+                    : new TaskPage(tasks, new TaskCursor(cursor.dueDate(), cursor.id() - 1, true), null);
+        }
+
+        MaintenanceTask first = tasks.get(0);
+        MaintenanceTask last = tasks.get(tasks.size() - 1);
+        boolean hasNext = forward ? more : true;
+        boolean hasPrevious = forward ? cursor != null : more;
+        return new TaskPage(tasks,
+                hasNext ? new TaskCursor(last.dueDate(), last.id(), true) : null,
+                hasPrevious ? new TaskCursor(first.dueDate(), first.id(), false) : null);
+    }
+
+    private int queryTaskCount(TaskQuery query) throws SQLException {
+        StringBuilder sql = new StringBuilder(COUNT_TASKS);
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, query);
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rs.next();
+                return rs.getInt(1);
+            }
+        }
+    }
+
+    /**
+     * Reads a window in the sort order of the query, see {@link #loadTaskRows}.
+     */
+    private List<MaintenanceTask> queryTaskRows(TaskQuery query, int offset, int limit, MaintenanceTask after) throws SQLException {
+        String sortColumn = sortColumn(query.getSort());
+        String direction = query.isAscending() ? " ASC" : " DESC";
+        StringBuilder sql = new StringBuilder(SELECT_TASK_COLUMNS);
+        List<Object> params = new ArrayList<>();
+        appendFilters(sql, params, query);
+
+        if (after != null) {
+            // Continue after the sort key of the previous row, ties broken by id
+            sql.append(" AND (").append(sortColumn).append(", mt.id)").append(query.isAscending() ? " > (?, ?)" : " < (?, ?)");
+            params.add(sortValue(query.getSort(), after));
+            params.add(after.id());
+        }
+        sql.append(" ORDER BY ").append(sortColumn).append(direction).append(", mt.id").append(direction);
+        sql.append(" LIMIT ?");
+        params.add(limit);
+        if (after == null && offset > 0) {
+            sql.append(" OFFSET ?");
+            params.add(offset);
+        }
+        return queryTasks(sql.toString(), params, limit);
+    }
+
+    /**
+     * Appends the optional filters of the query as a WHERE clause, only the ones that are set.
+     */
+    private static void appendFilters(StringBuilder sql, List<Object> params, TaskQuery query) {
+        sql.append(" WHERE TRUE");
+        if (query.getAircraftId() != null) {
+            sql.append(" AND mt.aircraft_id = ?");
+            params.add(query.getAircraftId());
+        }
+        if (query.getStatus() != null) {
+            sql.append(" AND mt.status = ?");
+            params.add(query.getStatus().label());
+        }
+        if (query.getDueFrom() != null) {
+            sql.append(" AND mt.due_date >= ?");
+            params.add(query.getDueFrom());
+        }
+        if (query.getDueTo() != null) {
+            sql.append(" AND mt.due_date <= ?");
+            params.add(query.getDueTo());
+        }
+    }
+
+    /**
+     * Runs a task query with positional parameters.
+     */
+    private List<MaintenanceTask> queryTasks(String sql, List<Object> params, int expectedRows) throws SQLException {
+        List<MaintenanceTask> tasks = new ArrayList<>(expectedRows);
+        Map<Integer, Aircraft> aircraftById = new HashMap<>();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            bind(pstmt, params);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    tasks.add(mapTask(rs, aircraftById));
+                }
+            }
+        }
+        ROWS_READ.add(tasks.size());
+        return tasks;
+    }
+
+    private static void bind(PreparedStatement pstmt, List<Object> params) throws SQLException {
+        for (int i = 0; i < params.size(); i++) {
+            pstmt.setObject(i + 1, params.get(i));
+        }
+    }
+
+    /**
+     * SQL expression of a sort column. AIRCRAFT matches {@link Aircraft#displayName()}.
+     */
+    private static String sortColumn(TaskSort sort) {
+        switch (sort) {
+            case ID:
+                return "mt.id";
+            case AIRCRAFT:
+                return "(a.model || ' (' || a.tail_number || ')')";
+            case DESCRIPTION:
+                return "mt.task_description";
+            case STATUS:
+                return "mt.status";
+            case DUE_DATE:
+            default:
+                return "mt.due_date";
+        }
+    }
+
+    /**
+     * Value of the sort column for a loaded task, the keyset of the next window.
+     */
+    private static Object sortValue(TaskSort sort, MaintenanceTask task) {
+        switch (sort) {
+            case ID:
+                return task.id();
+            case AIRCRAFT:
+                return task.aircraftDisplayName();
+            case DESCRIPTION:
+                return task.taskDescription();
+            case STATUS:
+                return task.status().label();
+            case DUE_DATE:
+            default:
+                return task.dueDate();
+        }
+    }
+
+    /**
+     * Loads the analytics store, see {@link TaskColumnStore#load()}.
+     */
+    private TaskColumnStore queryTaskColumnStore() throws SQLException {
+        TaskColumnStore store = TaskColumnStore.load();
+        ROWS_READ.add(store.size());
+        return store;
+    }
+
+    private FleetKpis queryFleetKpis() throws SQLException {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(SELECT_KPIS)) {
+            // Aggregates always return exactly one row
+            rs.next();
+            return new FleetKpis(
+                    rs.getLong("total_aircraft"),
+                    rs.getLong("pending_tasks"),
+                    rs.getLong("completed_this_month"));
+        }
+    }
+
+    /**
+     * Aggregates the tasks of the given aircraft, aircraft without tasks get empty figures.
+     */
+    private Map<Integer, AircraftTaskStats> queryTaskStats(Collection<Integer> aircraftIds) throws SQLException {
+        Map<Integer, AircraftTaskStats> statsById = new HashMap<>();
+        for (Integer id : aircraftIds) {
+            statsById.put(id, AircraftTaskStats.empty(id));
+        }
+        if (statsById.isEmpty()) {
+            return statsById;
+        }
+
+        try (Connection conn = Database.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(SELECT_TASK_STATS)) {
+            // One array parameter, the statement is the same for one or many aircraft
+            pstmt.setArray(1, conn.createArrayOf("integer", statsById.keySet().toArray()));
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int aircraftId = rs.getInt("aircraft_id");
+                    java.sql.Date nextDue = rs.getDate("next_due");
+                    statsById.put(aircraftId, new AircraftTaskStats(
+                            aircraftId,
+                            rs.getLong("total"),
+                            rs.getLong("pending"),
+                            rs.getLong("completed"),
+                            rs.getLong("overdue"),
+                            nextDue == null ? null : nextDue.toLocalDate()));
+                }
+            }
+        }
+        return statsById;
+    }
+
+    /**
+     * Builds a task from the current row of a task query.
+     *
+     * @param aircraftById aircraft already met by this query, tasks of one aircraft share its instance
+     */
+    private MaintenanceTask mapTask(ResultSet rs, Map<Integer, Aircraft> aircraftById) throws SQLException {
+        int aircraftId = rs.getInt("aircraft_id");
+        Aircraft aircraft = aircraftById.get(aircraftId);
+        if (aircraft == null) {
+            // First task of this aircraft, the model and tail number are read only once
+            aircraft = sharedAircraft(new Aircraft(aircraftId, rs.getString("model"), rs.getString("tail_number")));
+            aircraftById.put(aircraftId, aircraft);
+        }
+        return new MaintenanceTask(
+                rs.getInt("id"),
+                aircraft,
+                rs.getString("task_description"),
+                rs.getObject("due_date", LocalDate.class),
+                TaskStatus.fromText(rs.getString("status"))
+        );
+    }
+
+    /**
+     * @return the cached instance when it is equal to the aircraft read, so tasks and the
+     * fleet list hold the same object, otherwise the aircraft read
+     */
+    private Aircraft sharedAircraft(Aircraft read) {
+        Aircraft cached = cache.get(read.id());
+        return read.equals(cached) ? cached : read;
+    }
+
+    // ==================== ASYNC PLUMBING ====================
+
+    /**
+     * Runs a JDBC call and records its duration, also when it fails.
+     */
+    private static <T> T timed(Timer timer, SqlCall<T> call) throws SQLException {
+        long start = System.nanoTime();
+        try {
+            return call.call();
+        } finally {
+            timer.recordSince(start);
+        }
+    }
+
+    /**
+     * Runs a timed JDBC call on the database executor. The timer starts on the executor
+     * thread, the time spent in the executor queue is not included.
+     *
+     * @return completes on the executor thread with the result or the SQLException
+     */
+    private static <T> CompletableFuture<T> onDatabase(Timer timer, SqlCall<T> call) {
+        return onDatabase(() -> timed(timer, call));
+    }
+
+    /**
+     * Runs a JDBC call on the database executor.
+     *
+     * @return completes on the executor thread with the result or the SQLException
+     */
+    private static <T> CompletableFuture<T> onDatabase(SqlCall<T> call) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        PresenterExecutors.DATABASE.execute(() -> {
+            try {
+                future.complete(call.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Shows a failed operation to the user. Runs on the EDT.
+     */
+    private void showError(String prefix, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (view == null) {
+            // The view is bound after construction, do not lose errors of very early calls
+            log.error(prefix, cause);
+            return;
+        }
+        view.showMessage(prefix + cause.getMessage());
+    }
+
 }// End of class
\ No newline at end of file
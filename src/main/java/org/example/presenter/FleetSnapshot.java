@@ -0,0 +1,517 @@
+package org.example.presenter;
+
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.model.Aircraft;
+import org.example.model.FleetKpis;
+import org.example.model.TaskStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : FleetSnapshot.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Binary file with the aircraft and tasks of the last session, read at startup.
+// Safety Level   : DAL C (cached data is shown as such and replaced by the database state)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Certification Notes:
+//   - The file is checked (magic, version, length, CRC-32) before any value is used.
+//   - A new file is written next to the old one and renamed over it, a crash leaves the old file.
+// ========================================================================
+
+/**
+ * FleetSnapshot: the aircraft and maintenance tasks of one database snapshot, stored in a
+ * file that is mapped into memory ({@link MappedByteBuffer}) instead of being parsed.
+ *
+ * The main window renders the snapshot of the previous session as soon as it is read and
+ * checked in the background, then the presenter reads the database, replaces the shown data
+ * and writes a new snapshot if the data changed since the old one.
+ *
+ * Whether the data changed is told by the change marker: the value of the sequence
+ * {@code fleet_change_seq}, advanced by every statement that changes aircraft or tasks
+ * (migration V7). The marker is read before the data, so a snapshot may miss a change whose
+ * statement ran but whose transaction had not yet committed; a snapshot older than
+ * {@code snapshot.maxAgeHours} is therefore rewritten whatever its marker.
+ *
+ * File format, version 2, big-endian:
+ * <pre>
+ * offset  header (72 bytes)
+ *  0      int    magic "AMTS"
+ *  4      int    format version
+ *  8      long   creation time, epoch milliseconds
+ * 16      int    aircraft count
+ * 20      int    task count n
+ * 24      int    description count
+ * 28      int    reserved, 0
+ * 32      long   offset of the aircraft section
+ * 40      long   offset of the task columns (multiple of 8)
+ * 48      long   offset of the description dictionary
+ * 56      long   file length
+ * 64      long   change marker, -1 if unknown
+ *         aircraft section: per aircraft int id, string model, string tail number
+ *         task columns: long[n] completed_at (epoch ms, Long.MIN_VALUE for none), int[n] ids,
+ *                       int[n] aircraft ids, int[n] due dates (epoch day), int[n] description codes,
+ *                       byte[n] status (TaskStatus ordinal)
+ *         description dictionary: one string per code
+ *         trailer: long CRC-32 of everything before it
+ * </pre>
+ * Strings are an int byte length followed by UTF-8. A reader rejects any other version, the
+ * application then starts without a snapshot and writes a current one.
+ *
+ * While a snapshot is open its file stays mapped. Windows does not allow replacing a mapped
+ * file, the new snapshot is then written on the next start.
+ */
+public final class FleetSnapshot {
+
+    // "AMTS", Aircraft Maintenance Tracker Snapshot
+    static final int MAGIC = 0x414D5453;
+
+    // Incremented on every change of the layout
+    static final int VERSION = 2;
+
+    // Change marker of a database without fleet_change_seq, never matches
+    static final long UNKNOWN_MARKER = -1;
+
+    private static final int HEADER_SIZE = 72;
+    private static final int TRAILER_SIZE = 8;
+
+    // Bytes per task in the column section
+    private static final int BYTES_PER_TASK = 8 + 4 + 4 + 4 + 4 + 1;
+
+    // Stands for a task that is not completed in the completed_at column
+    private static final long NOT_COMPLETED = Long.MIN_VALUE;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    // Same rows as the TaskColumnStore load, tasks without an aircraft are left out
+    private static final String SELECT_CHANGE_MARKER = "SELECT pg_sequence_last_value(to_regclass('fleet_change_seq'))";
+    private static final String SELECT_AIRCRAFT = "SELECT id, model, tail_number FROM aircraft ORDER BY id";
+    private static final String COUNT_TASKS = "SELECT count(*) FROM maintenance_task WHERE aircraft_id IS NOT NULL";
+    private static final String SELECT_TASKS =
+            "SELECT id, aircraft_id, task_description, due_date, status, completed_at FROM maintenance_task " +
+            "WHERE aircraft_id IS NOT NULL ORDER BY id";
+
+    private final Instant createdAt;
+    private final long changeMarker;
+    private final List<Aircraft> aircraft;
+    private final int taskCount;
+    private final int descriptionCount;
+    private final ByteBuffer buffer;
+    private final int tasksOffset;
+    private final int descriptionsOffset;
+
+    private FleetSnapshot(Instant createdAt, long changeMarker, List<Aircraft> aircraft, int taskCount, int descriptionCount,
+                          ByteBuffer buffer, int tasksOffset, int descriptionsOffset) {
+        this.createdAt = createdAt;
+        this.changeMarker = changeMarker;
+        this.aircraft = aircraft;
+        this.taskCount = taskCount;
+        this.descriptionCount = descriptionCount;
+        this.buffer = buffer;
+        this.tasksOffset = tasksOffset;
+        this.descriptionsOffset = descriptionsOffset;
+    }
+
+    /**
+     * Maps and checks a snapshot file. The aircraft are decoded, the tasks are read from the
+     * mapped file when they are used. The checksum covers the whole file, at the size of a
+     * large fleet this takes a noticeable time and must not run on the event dispatch thread.
+     *
+     * @param file snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read, is not a snapshot, has another version or is damaged
+     */
+    public static FleetSnapshot read(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid snapshot size " + size + ": " + file);
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a fleet snapshot: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IOException("Snapshot version " + version + " is not supported, expected " + VERSION + ": " + file);
+        }
+        int size = buffer.capacity();
+        if (buffer.getLong(56) != size) {
+            throw new IOException("Snapshot is truncated: " + file);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, size - TRAILER_SIZE));
+        if (crc.getValue() != buffer.getLong(size - TRAILER_SIZE)) {
+            throw new IOException("Snapshot checksum mismatch: " + file);
+        }
+
+        int aircraftCount = buffer.getInt(16);
+        int taskCount = buffer.getInt(20);
+        int descriptionCount = buffer.getInt(24);
+        ByteBuffer section = buffer.duplicate().position((int) buffer.getLong(32));
+        List<Aircraft> aircraft = new ArrayList<>(aircraftCount);
+        for (int i = 0; i < aircraftCount; i++) {
+            aircraft.add(new Aircraft(section.getInt(), getString(section), getString(section)));
+        }
+        return new FleetSnapshot(Instant.ofEpochMilli(buffer.getLong(8)), buffer.getLong(64), Collections.unmodifiableList(aircraft),
+                taskCount, descriptionCount, buffer, (int) buffer.getLong(40), (int) buffer.getLong(48));
+    }
+
+    /**
+     * Reads the aircraft and tasks from the database and writes them as a snapshot, unless the
+     * previous snapshot is still current. All reads run in one repeatable read transaction, so
+     * the task count matches the streamed tasks.
+     *
+     * @param file     snapshot file, replaced when the snapshot is complete
+     * @param previous snapshot read at startup, null if there was none
+     * @return true if the file was written, false if the previous snapshot is current
+     * @throws SQLException if the database cannot be read
+     * @throws IOException if the file cannot be written
+     */
+    static boolean save(Path file, FleetSnapshot previous) throws SQLException, IOException {
+        DatabaseConfig config = DatabaseConfig.load();
+        int fetchSize = config.getInt("analytics.fetchSize", 50_000);
+        Duration maxAge = Duration.ofHours(config.getLong("snapshot.maxAgeHours", 24));
+        try (Connection conn = Database.getConnection()) {
+            boolean previousAutoCommit = conn.getAutoCommit();
+            int previousIsolation = conn.getTransactionIsolation();
+            // The driver only uses a cursor inside a transaction
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+            try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                long changeMarker;
+                try (ResultSet rs = stmt.executeQuery(SELECT_CHANGE_MARKER)) {
+                    rs.next();
+                    // Null without migration V7 or before the first change
+                    changeMarker = rs.getObject(1) == null ? UNKNOWN_MARKER : rs.getLong(1);
+                }
+                if (previous != null && previous.isCurrent(changeMarker, maxAge)) {
+                    // Nothing changed since the previous snapshot, the tables are not read
+                    conn.commit();
+                    return false;
+                }
+
+                List<Aircraft> aircraft = new ArrayList<>();
+                try (ResultSet rs = stmt.executeQuery(SELECT_AIRCRAFT)) {
+                    while (rs.next()) {
+                        aircraft.add(new Aircraft(rs.getInt(1), rs.getString(2), rs.getString(3)));
+                    }
+                }
+                int taskCount;
+                try (ResultSet rs = stmt.executeQuery(COUNT_TASKS)) {
+                    rs.next();
+                    taskCount = Math.toIntExact(rs.getLong(1));
+                }
+                stmt.setFetchSize(fetchSize);
+                try (Writer writer = new Writer(file, aircraft, taskCount, changeMarker);
+                     ResultSet rs = stmt.executeQuery(SELECT_TASKS)) {
+                    while (rs.next()) {
+                        Timestamp completedAt = rs.getTimestamp(6);
+                        writer.addTask(rs.getInt(1), rs.getInt(2), rs.getString(3), rs.getObject(4, LocalDate.class),
+                                TaskStatus.fromText(rs.getString(5)), completedAt == null ? null : completedAt.toInstant());
+                    }
+                    conn.commit();
+                    writer.commit();
+                }
+                return true;
+            } catch (SQLException | IOException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setReadOnly(false);
+                conn.setTransactionIsolation(previousIsolation);
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        }
+    }
+
+    /**
+     * @return when the data was read from the database
+     */
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return value of {@code fleet_change_seq} when the data was read, {@link #UNKNOWN_MARKER} if unknown
+     */
+    public long changeMarker() {
+        return changeMarker;
+    }
+
+    /**
+     * @return true if the database is still at the marker of this snapshot and the snapshot is younger than maxAge
+     */
+    boolean isCurrent(long databaseMarker, Duration maxAge) {
+        return changeMarker != UNKNOWN_MARKER && changeMarker == databaseMarker
+                && createdAt.isAfter(Instant.now().minus(maxAge));
+    }
+
+    /**
+     * @return the aircraft ordered by id
+     */
+    public List<Aircraft> aircraft() {
+        return aircraft;
+    }
+
+    /**
+     * @return number of tasks
+     */
+    public int taskCount() {
+        return taskCount;
+    }
+
+    /**
+     * Computes the dashboard figures from the task columns, as the database would have at the
+     * time of the snapshot.
+     *
+     * @param now current time, its month and zone define "completed this month"
+     * @return total aircraft, pending tasks and tasks completed since the start of the month
+     */
+    public FleetKpis kpis(ZonedDateTime now) {
+        long monthStart = now.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).toInstant().toEpochMilli();
+        byte pendingCode = (byte) TaskStatus.PENDING.ordinal();
+        int statusOffset = statusOffset();
+        long pending = 0;
+        long completedThisMonth = 0;
+        for (int row = 0; row < taskCount; row++) {
+            if (buffer.get(statusOffset + row) == pendingCode) {
+                pending++;
+            } else if (buffer.getLong(tasksOffset + 8 * row) >= monthStart) {
+                completedThisMonth++;
+            }
+        }
+        return new FleetKpis(aircraft.size(), pending, completedThisMonth);
+    }
+
+    /**
+     * Copies the tasks into a {@link TaskColumnStore}, fleet analytics without a database load.
+     *
+     * @return the store with the tasks and aircraft of the snapshot
+     */
+    public TaskColumnStore toTaskColumnStore() {
+        String[] descriptions = new String[descriptionCount];
+        ByteBuffer section = buffer.duplicate().position(descriptionsOffset);
+        for (int code = 0; code < descriptionCount; code++) {
+            descriptions[code] = getString(section);
+        }
+
+        TaskColumnStore.Builder builder = new TaskColumnStore.Builder();
+        aircraft.forEach(builder::addAircraft);
+        int ids = tasksOffset + 8 * taskCount;
+        int aircraftIds = ids + 4 * taskCount;
+        int dueDays = aircraftIds + 4 * taskCount;
+        int descriptionCodes = dueDays + 4 * taskCount;
+        int statuses = statusOffset();
+        for (int row = 0; row < taskCount; row++) {
+            builder.addTask(buffer.getInt(ids + 4 * row), buffer.getInt(aircraftIds + 4 * row),
+                    descriptions[buffer.getInt(descriptionCodes + 4 * row)],
+                    LocalDate.ofEpochDay(buffer.getInt(dueDays + 4 * row)), STATUSES[buffer.get(statuses + row)]);
+        }
+        return builder.build();
+    }
+
+    private int statusOffset() {
+        return tasksOffset + (BYTES_PER_TASK - 1) * taskCount;
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void putString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes a snapshot: the task count is known up front, the tasks are put straight into
+     * their columns of the mapped file as they are streamed from the database.
+     * The file appears under its name only after {@link #commit()}. Not thread safe.
+     */
+    public static final class Writer implements Closeable {
+        private final Path file;
+        private final Path tempFile;
+        private final FileChannel channel;
+        private final byte[] aircraftSection;
+        private final int aircraftCount;
+        private final int taskCount;
+        private final long changeMarker;
+        private final int tasksOffset;
+        private final MappedByteBuffer columns;
+
+        private final List<String> descriptions = new ArrayList<>();
+        private final Map<String, Integer> codeByDescription = new HashMap<>();
+        private int rows;
+        private boolean committed;
+
+        /**
+         * Writer of a snapshot without a change marker, it is always rewritten.
+         *
+         * @see #Writer(Path, List, int, long)
+         */
+        public Writer(Path file, List<Aircraft> aircraft, int taskCount) throws IOException {
+            this(file, aircraft, taskCount, UNKNOWN_MARKER);
+        }
+
+        /**
+         * @param file         snapshot file, replaced by {@link #commit()}
+         * @param aircraft     all aircraft
+         * @param taskCount    number of tasks that will be added
+         * @param changeMarker value of {@code fleet_change_seq} read before the data
+         * @throws IOException if the temporary file cannot be created or the snapshot would exceed 2 GB
+         */
+        public Writer(Path file, List<Aircraft> aircraft, int taskCount, long changeMarker) throws IOException {
+            this.file = file;
+            this.changeMarker = changeMarker;
+            this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            this.aircraftCount = aircraft.size();
+            this.taskCount = taskCount;
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                for (Aircraft a : aircraft) {
+                    out.writeInt(a.id());
+                    putString(out, a.model());
+                    putString(out, a.tailNumber());
+                }
+            }
+            this.aircraftSection = bytes.toByteArray();
+            // The long column starts on a multiple of 8
+            this.tasksOffset = (HEADER_SIZE + aircraftSection.length + 7) & ~7;
+            long columnsEnd = tasksOffset + (long) BYTES_PER_TASK * taskCount;
+            if (columnsEnd > Integer.MAX_VALUE / 2) {
+                throw new IOException("Too many tasks for a snapshot: " + taskCount);
+            }
+
+            this.channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                this.columns = channel.map(FileChannel.MapMode.READ_WRITE, tasksOffset, (long) BYTES_PER_TASK * taskCount);
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+
+        /**
+         * @param completedAt completion time, null if the task is not completed
+         * @throws IllegalStateException if more tasks are added than announced
+         */
+        public void addTask(int id, int aircraftId, String description, LocalDate dueDate, TaskStatus status, Instant completedAt) {
+            if (rows == taskCount) {
+                throw new IllegalStateException("More than the announced " + taskCount + " tasks");
+            }
+            Integer code = codeByDescription.get(description);
+            if (code == null) {
+                code = descriptions.size();
+                descriptions.add(description);
+                codeByDescription.put(description, code);
+            }
+            int row = rows++;
+            int n = taskCount;
+            columns.putLong(8 * row, completedAt == null ? NOT_COMPLETED : completedAt.toEpochMilli());
+            columns.putInt(8 * n + 4 * row, id);
+            columns.putInt(12 * n + 4 * row, aircraftId);
+            columns.putInt(16 * n + 4 * row, Math.toIntExact(dueDate.toEpochDay()));
+            columns.putInt(20 * n + 4 * row, code);
+            columns.put(24 * n + row, (byte) status.ordinal());
+        }
+
+        /**
+         * Writes the remaining sections and the checksum, then renames the file into place.
+         *
+         * @throws IOException if the file cannot be written
+         * @throws IllegalStateException if fewer tasks were added than announced
+         */
+        public void commit() throws IOException {
+            if (rows != taskCount) {
+                throw new IllegalStateException("Only " + rows + " of " + taskCount + " tasks were added");
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                for (String description : descriptions) {
+                    putString(out, description);
+                }
+            }
+            long descriptionsOffset = tasksOffset + (long) BYTES_PER_TASK * taskCount;
+            long length = descriptionsOffset + bytes.size() + TRAILER_SIZE;
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot exceeds 2 GB");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC).putInt(VERSION).putLong(System.currentTimeMillis())
+                    .putInt(aircraftCount).putInt(taskCount).putInt(descriptions.size()).putInt(0)
+                    .putLong(HEADER_SIZE).putLong(tasksOffset).putLong(descriptionsOffset).putLong(length)
+                    .putLong(changeMarker)
+                    .flip();
+            writeFully(header, 0);
+            writeFully(ByteBuffer.wrap(aircraftSection), HEADER_SIZE);
+            writeFully(ByteBuffer.wrap(bytes.toByteArray()), descriptionsOffset);
+            columns.force();
+
+            CRC32 crc = new CRC32();
+            crc.update(channel.map(FileChannel.MapMode.READ_ONLY, 0, length - TRAILER_SIZE));
+            writeFully(ByteBuffer.allocate(TRAILER_SIZE).putLong(crc.getValue()).flip(), length - TRAILER_SIZE);
+            channel.force(true);
+            channel.close();
+
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        /**
+         * Deletes the temporary file unless the snapshot was committed.
+         */
+        @Override
+        public void close() throws IOException {
+            channel.close();
+            if (!committed) {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private void writeFully(ByteBuffer source, long position) throws IOException {
+            while (source.hasRemaining()) {
+                position += channel.write(source, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.presenter;
+
+import org.example.db.DatabaseConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors used by the asynchronous presenter API.
+ *
+ * Database work runs on virtual threads when the JVM provides them (Java 21 and later).
+ * On Java 17 it falls back to a fixed set of daemon threads, one per pooled connection, so
+ * a blocked query never holds more threads than the pool can serve.
+ * Results are delivered to the views on the Swing event dispatch thread.
+ */
+final class PresenterExecutors {
+
+    private static final Logger log = LoggerFactory.getLogger(PresenterExecutors.class);
+
+    // Runs the JDBC calls of the presenter, never the EDT
+    static final ExecutorService DATABASE = createDatabaseExecutor();
+
+    // Runs view updates on the Swing event dispatch thread
+    static final Executor EDT = SwingUtilities::invokeLater;
+
+    private PresenterExecutors() {
+    }
+
+    private static ExecutorService createDatabaseExecutor() {
+        try {
+            // Looked up reflectively because the build targets Java 17
+            ExecutorService virtual = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            log.info("Presenter database calls run on virtual threads");
+            return virtual;
+        } catch (ReflectiveOperationException e) {
+            // No virtual threads on this JVM, size the platform threads like the connection pool
+            int threads = Math.max(1, DatabaseConfig.load().getInt("pool.maximumSize", 10));
+            AtomicInteger ids = new AtomicInteger();
+            log.info("Presenter database calls run on {} platform threads", threads);
+            return Executors.newFixedThreadPool(threads, r -> {
+                Thread t = new Thread(r, "presenter-db-" + ids.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+    }
+}
@@ -0,0 +1,469 @@
+package org.example.presenter;
+
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.model.Aircraft;
+import org.example.model.TaskStatus;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : TaskColumnStore.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Read-only in-memory column store of all maintenance tasks for fleet analytics.
+// Safety Level   : DAL C (figures shown to the user must match the database snapshot)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : A snapshot, loaded in one repeatable read transaction and never updated
+// ========================================================================
+
+/**
+ * TaskColumnStore: every maintenance task held as primitive columns, one array per field.
+ *
+ * Columns (row i is the i-th task in id order):
+ *  - ids: task id
+ *  - aircraft codes: index into the aircraft dictionary, see {@link #aircraft(int)}
+ *  - due days: due date as epoch day ({@link LocalDate#toEpochDay()})
+ *  - status codes: {@link TaskStatus} ordinal
+ *  - description codes: index into the dictionary of distinct descriptions
+ *
+ * A task costs 17 bytes plus its share of the dictionaries, against an object with a string
+ * and a date per task, and a scan reads contiguous arrays. The operators ({@link #count},
+ * {@link #countBy} and the fleet analytics) split the rows into ranges that are scanned in
+ * parallel on the common fork-join pool, the per-range counts are added up.
+ *
+ * The store is a snapshot: it does not follow later changes, load a new one instead.
+ * Instances are immutable and may be shared between threads.
+ */
+public final class TaskColumnStore {
+
+    // Rows scanned by one fork-join leaf, larger ranges are split in two
+    private static final int SPLIT_THRESHOLD = 1 << 16;
+
+    // Status by code, values() would copy the array on every call
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    // Aircraft first, so the dictionary can be built before the tasks refer to it.
+    // Tasks without an aircraft are left out, as the joins of the presenter do.
+    private static final String SELECT_AIRCRAFT = "SELECT id, model, tail_number FROM aircraft ORDER BY id";
+    private static final String SELECT_TASKS =
+            "SELECT id, aircraft_id, task_description, due_date, status FROM maintenance_task " +
+            "WHERE aircraft_id IS NOT NULL ORDER BY id";
+
+    /**
+     * Row predicate of {@link #count(RowFilter)}.
+     */
+    @FunctionalInterface
+    public interface RowFilter {
+        boolean test(int row);
+    }
+
+    /**
+     * Group of a row for {@link #countBy(RowBucket, int)}.
+     */
+    @FunctionalInterface
+    public interface RowBucket {
+        /**
+         * @return bucket of the row from 0 to buckets - 1, or -1 to leave the row out
+         */
+        int bucket(int row);
+    }
+
+    /**
+     * Leaf of a parallel scan: adds the rows from {@code from} (inclusive) to {@code to}
+     * (exclusive) to the counts. The analytics below scan their columns in one loop per range,
+     * the JIT compiles each loop on its own instead of calling a shared row callback.
+     */
+    @FunctionalInterface
+    private interface RangeScan {
+        void scan(int from, int to, long[] counts);
+    }
+
+    // Task columns
+    private final int size;
+    private final int[] ids;
+    private final int[] aircraftCodes;
+    private final int[] dueDays;
+    private final byte[] statusCodes;
+    private final int[] descriptionCodes;
+
+    // Dictionaries, indexed by code
+    private final Aircraft[] aircraft;
+    private final String[] descriptions;
+
+    private TaskColumnStore(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.aircraftCodes = Arrays.copyOf(builder.aircraftCodes, size);
+        this.dueDays = Arrays.copyOf(builder.dueDays, size);
+        this.statusCodes = Arrays.copyOf(builder.statusCodes, size);
+        this.descriptionCodes = Arrays.copyOf(builder.descriptionCodes, size);
+        this.aircraft = builder.aircraft.toArray(new Aircraft[0]);
+        this.descriptions = builder.descriptions.toArray(new String[0]);
+    }
+
+    /**
+     * Reads all aircraft and tasks from the database into a new store. Both tables are read
+     * in one repeatable read transaction, every task finds its aircraft. The tasks are
+     * streamed through a server-side cursor of {@code analytics.fetchSize} rows.
+     *
+     * @return the loaded store
+     * @throws SQLException if the database cannot be read
+     */
+    static TaskColumnStore load() throws SQLException {
+        int fetchSize = DatabaseConfig.load().getInt("analytics.fetchSize", 50_000);
+        Builder builder = new Builder();
+        try (Connection conn = Database.getConnection()) {
+            boolean previousAutoCommit = conn.getAutoCommit();
+            int previousIsolation = conn.getTransactionIsolation();
+            // The driver only uses a cursor inside a transaction
+            conn.setAutoCommit(false);
+            conn.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            conn.setReadOnly(true);
+            try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                try (ResultSet rs = stmt.executeQuery(SELECT_AIRCRAFT)) {
+                    while (rs.next()) {
+                        builder.addAircraft(new Aircraft(rs.getInt(1), rs.getString(2), rs.getString(3)));
+                    }
+                }
+                stmt.setFetchSize(fetchSize);
+                try (ResultSet rs = stmt.executeQuery(SELECT_TASKS)) {
+                    while (rs.next()) {
+                        builder.addTask(rs.getInt(1), rs.getInt(2), rs.getString(3),
+                                rs.getObject(4, LocalDate.class), TaskStatus.fromText(rs.getString(5)));
+                    }
+                }
+                conn.commit();
+            } catch (SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setReadOnly(false);
+                conn.setTransactionIsolation(previousIsolation);
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        }
+        return builder.build();
+    }
+
+    // ==================== COLUMNS ====================
+
+    /**
+     * @return number of tasks
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return number of aircraft in the dictionary, codes run from 0 to this value - 1
+     */
+    public int aircraftCount() {
+        return aircraft.length;
+    }
+
+    /**
+     * @param code aircraft code
+     * @return the aircraft
+     */
+    public Aircraft aircraft(int code) {
+        return aircraft[code];
+    }
+
+    public int id(int row) {
+        return ids[row];
+    }
+
+    public int aircraftCode(int row) {
+        return aircraftCodes[row];
+    }
+
+    /**
+     * @return the due date as epoch day
+     */
+    public int dueDay(int row) {
+        return dueDays[row];
+    }
+
+    public TaskStatus status(int row) {
+        return STATUSES[statusCodes[row]];
+    }
+
+    public String description(int row) {
+        return descriptions[descriptionCodes[row]];
+    }
+
+    // ==================== OPERATORS ====================
+
+    /**
+     * Counts the rows that pass the filter, scanned in parallel.
+     *
+     * @param filter row predicate, called from several threads
+     * @return matching rows
+     */
+    public long count(RowFilter filter) {
+        return scan((from, to, counts) -> {
+            for (int row = from; row < to; row++) {
+                if (filter.test(row)) {
+                    counts[0]++;
+                }
+            }
+        }, 1)[0];
+    }
+
+    /**
+     * Counts the rows per bucket, scanned in parallel (a grouped count).
+     *
+     * @param bucketOf bucket of each row, called from several threads
+     * @param buckets  number of buckets
+     * @return rows per bucket
+     */
+    public long[] countBy(RowBucket bucketOf, int buckets) {
+        return scan((from, to, counts) -> {
+            for (int row = from; row < to; row++) {
+                int bucket = bucketOf.bucket(row);
+                if (bucket >= 0) {
+                    counts[bucket]++;
+                }
+            }
+        }, buckets);
+    }
+
+    /**
+     * Runs a range scan over all rows on the common fork-join pool.
+     *
+     * @return the counts of all ranges added up
+     */
+    private long[] scan(RangeScan rangeScan, int buckets) {
+        if (size == 0) {
+            return new long[buckets];
+        }
+        return ForkJoinPool.commonPool().invoke(new ScanTask(rangeScan, buckets, 0, size));
+    }
+
+    // ==================== FLEET ANALYTICS ====================
+
+    /**
+     * @param today first day that is not overdue
+     * @return pending tasks due before today by aircraft model, models without such tasks are left out
+     */
+    public Map<String, Long> overdueByModel(LocalDate today) {
+        int todayDay = (int) today.toEpochDay();
+        byte pending = (byte) TaskStatus.PENDING.ordinal();
+        long[] byAircraft = scan((from, to, counts) -> {
+            for (int row = from; row < to; row++) {
+                if (statusCodes[row] == pending && dueDays[row] < todayDay) {
+                    counts[aircraftCodes[row]]++;
+                }
+            }
+        }, aircraft.length);
+
+        Map<String, Long> byModel = new TreeMap<>();
+        for (int code = 0; code < byAircraft.length; code++) {
+            if (byAircraft[code] > 0) {
+                byModel.merge(aircraft[code].model(), byAircraft[code], Long::sum);
+            }
+        }
+        return byModel;
+    }
+
+    /**
+     * Histogram of due dates by week. Week 0 holds the tasks due from {@code firstDay} to
+     * {@code firstDay} + 6, week 1 the following seven days and so on.
+     *
+     * @param firstDay first day of week 0
+     * @param weeks    number of weeks
+     * @param status   only tasks with this status, null for all tasks
+     * @return tasks due per week, tasks outside the weeks are not counted
+     */
+    public long[] dueByWeek(LocalDate firstDay, int weeks, TaskStatus status) {
+        int firstDayNumber = (int) firstDay.toEpochDay();
+        int statusCode = status == null ? -1 : status.ordinal();
+        // Days as an offset from firstDay, the range check of both ends is one unsigned compare
+        int dayCount = weeks * 7;
+        return scan((from, to, counts) -> {
+            for (int row = from; row < to; row++) {
+                int day = dueDays[row] - firstDayNumber;
+                if (Integer.compareUnsigned(day, dayCount) < 0 && (statusCode < 0 || statusCodes[row] == statusCode)) {
+                    counts[day / 7]++;
+                }
+            }
+        }, weeks);
+    }
+
+    /**
+     * @return share of completed tasks (0 to 1) by tail number, aircraft without tasks are left out
+     */
+    public Map<String, Double> completionRateByTailNumber() {
+        byte completed = (byte) TaskStatus.COMPLETED.ordinal();
+        int aircraftCount = aircraft.length;
+        // Buckets 0..n-1 count all tasks of an aircraft, n..2n-1 the completed ones
+        long[] counts = scan((from, to, partial) -> {
+            for (int row = from; row < to; row++) {
+                partial[statusCodes[row] == completed ? aircraftCount + aircraftCodes[row] : aircraftCodes[row]]++;
+            }
+        }, 2 * aircraftCount);
+
+        Map<String, Double> rates = new TreeMap<>();
+        for (int code = 0; code < aircraftCount; code++) {
+            long total = counts[code] + counts[aircraftCount + code];
+            if (total > 0) {
+                rates.put(aircraft[code].tailNumber(), (double) counts[aircraftCount + code] / total);
+            }
+        }
+        return rates;
+    }
+
+    /**
+     * Counts the tasks whose description contains the text, ignoring case. The text is
+     * searched once per distinct description, the rows only compare codes.
+     *
+     * @param text text to look for
+     * @return matching tasks
+     */
+    public long countDescriptionContaining(String text) {
+        String needle = text.toLowerCase(Locale.ROOT);
+        boolean[] matches = new boolean[descriptions.length];
+        for (int code = 0; code < descriptions.length; code++) {
+            matches[code] = descriptions[code].toLowerCase(Locale.ROOT).contains(needle);
+        }
+        return scan((from, to, counts) -> {
+            for (int row = from; row < to; row++) {
+                if (matches[descriptionCodes[row]]) {
+                    counts[0]++;
+                }
+            }
+        }, 1)[0];
+    }
+
+    /**
+     * Range scan over a range of rows, split until a range fits one leaf.
+     */
+    private static final class ScanTask extends RecursiveTask<long[]> {
+        private final RangeScan rangeScan;
+        private final int buckets;
+        private final int from;
+        private final int to;
+
+        ScanTask(RangeScan rangeScan, int buckets, int from, int to) {
+            this.rangeScan = rangeScan;
+            this.buckets = buckets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                long[] counts = new long[buckets];
+                rangeScan.scan(from, to, counts);
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            ScanTask left = new ScanTask(rangeScan, buckets, from, middle);
+            left.fork();
+            long[] right = new ScanTask(rangeScan, buckets, middle, to).compute();
+            long[] counts = left.join();
+            for (int i = 0; i < buckets; i++) {
+                counts[i] += right[i];
+            }
+            return counts;
+        }
+    }
+
+    /**
+     * Collects tasks into growing columns, {@link #load()} and tests use it.
+     * Aircraft must be added before their tasks. Not thread safe.
+     */
+    public static final class Builder {
+        private int size;
+        private int[] ids = new int[1024];
+        private int[] aircraftCodes = new int[1024];
+        private int[] dueDays = new int[1024];
+        private byte[] statusCodes = new byte[1024];
+        private int[] descriptionCodes = new int[1024];
+
+        private final List<Aircraft> aircraft = new ArrayList<>();
+        private final Map<Integer, Integer> codeByAircraftId = new HashMap<>();
+        private final List<String> descriptions = new ArrayList<>();
+        private final Map<String, Integer> codeByDescription = new HashMap<>();
+
+        /**
+         * @param aircraft an aircraft of the fleet, given once
+         * @return this builder
+         */
+        public Builder addAircraft(Aircraft aircraft) {
+            if (codeByAircraftId.putIfAbsent(aircraft.id(), this.aircraft.size()) != null) {
+                throw new IllegalArgumentException("Aircraft " + aircraft.id() + " was already added");
+            }
+            this.aircraft.add(aircraft);
+            return this;
+        }
+
+        /**
+         * @param id          task id
+         * @param aircraftId  id of an aircraft added before
+         * @param description task description
+         * @param dueDate     due date
+         * @param status      status
+         * @return this builder
+         * @throws IllegalArgumentException if the aircraft was not added
+         */
+        public Builder addTask(int id, int aircraftId, String description, LocalDate dueDate, TaskStatus status) {
+            Integer aircraftCode = codeByAircraftId.get(aircraftId);
+            if (aircraftCode == null) {
+                throw new IllegalArgumentException("Task " + id + " refers to unknown aircraft " + aircraftId);
+            }
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            aircraftCodes[size] = aircraftCode;
+            dueDays[size] = Math.toIntExact(dueDate.toEpochDay());
+            statusCodes[size] = (byte) status.ordinal();
+            descriptionCodes[size] = descriptionCode(description);
+            size++;
+            return this;
+        }
+
+        /**
+         * @return the store, the builder must not be used afterwards
+         */
+        public TaskColumnStore build() {
+            return new TaskColumnStore(this);
+        }
+
+        private int descriptionCode(String description) {
+            Integer code = codeByDescription.get(description);
+            if (code == null) {
+                code = descriptions.size();
+                descriptions.add(description);
+                codeByDescription.put(description, code);
+            }
+            return code;
+        }
+
+        // Doubles the capacity of every column
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            aircraftCodes = Arrays.copyOf(aircraftCodes, capacity);
+            dueDays = Arrays.copyOf(dueDays, capacity);
+            statusCodes = Arrays.copyOf(statusCodes, capacity);
+            descriptionCodes = Arrays.copyOf(descriptionCodes, capacity);
+        }
+    }
+}
@@ -1,35 +1,26 @@
 package org.example.util;
 
-// For Excel file handling (Apache POI)
-import org.apache.poi.ss.usermodel.*;
-
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.metrics.Metrics;
 import org.example.model.Aircraft;
 
 // For JFileChooser and dialogs
 import javax.swing.*;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.*;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
 // ========================= DO-178C MODULE HEADER =========================
 // Module Name    : AircraftImportHandler.java
 // Application    : Aircraft Maintenance Tracker
 // Description    : Handles import of aircraft data from CSV, XML, and Excel files.
 // Safety Level   : DAL D or C (Data integrity, audit relevance, traceable ingestion)
 // Developed By   : Rafail
-// Last Modified  : 2025-05-02
-// Notes          : Prevents duplicates using tail number checks; provides file I/O interface
+// Last Modified  : 2026-10-17
+// Notes          : Prevents duplicates through the unique tail number index; provides file I/O interface
+//                  Imports run on the ImportPipeline, off the Swing event thread
 // ========================================================================
 
 
@@ -39,22 +30,36 @@ import org.w3c.dom.NodeList;
  *
  * Key responsibilities:
  *  - Read and parse files selected by the user
- *  - Avoid importing duplicate aircraft using tail number
- *  - Insert new entries to database
+ *  - Avoid importing duplicate aircraft using tail number, enforced by the unique index
+ *    on aircraft.tail_number so concurrent imports from several terminals cannot race
+ *  - Insert new entries to database in batches through the ImportPipeline
+ *    (parser thread, validation thread, N writer threads)
  *
  * Security and DO-178C Notes:
- *  - Prevents duplicate insertions with tail number constraints
+ *  - Prevents duplicate insertions with tail number constraints (INSERT ... ON CONFLICT DO NOTHING)
  *  - Lacks file schema validation (improvement point)
  *  - Inputs from users must be sanitized and logged in higher DAL systems
  */
 public class AircraftImportHandler {
 
+    // Statement reused for every imported aircraft, the unique tail number index skips existing aircraft
+    private static final String INSERT_SQL =
+            "INSERT INTO aircraft (model, tail_number) VALUES (?, ?) ON CONFLICT (tail_number) DO NOTHING";
+
+    // Bloom filter sizing when import.dedup.expectedRows is not configured
+    private static final long DEFAULT_EXPECTED_ROWS = 1_000_000;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
     /**
      * Launches a file picker and routes to format-specific import logic.
      * Only allows import from known extensions (csv, xml, xlsx).
-     * The user is allowed to choose only between these formats
+     * The user is allowed to choose only between these formats.
+     * The import itself runs in the background, this method returns as soon as it has started.
+     *
+     * @param parentFrame owner of the dialogs
+     * @param onComplete  run on the Swing event thread when the import has finished, may be null
      */
-    public static void importAircraftFromFile(JFrame parentFrame) {
+    public static void importAircraftFromFile(JFrame parentFrame, Runnable onComplete) {
         //Open the file to choose a dialog
         JFileChooser fileChooser = new JFileChooser();
         //Show the dialog
@@ -68,187 +73,154 @@ public class AircraftImportHandler {
             String fileName = file.getName().toLowerCase();
 
             // based on the file extention the algorithm chooses the right function
-            try {
-                // Checks if the extention is csv
-                if (fileName.endsWith(".csv")) {
-                    importFromCSV(file); // launches the function for csv and passes the file there
-                } else if (fileName.endsWith(".xml")) { // checks if the extention is xml
-                    importFromXML(file); // launches the function for xml and passes the file there
-                } else if (fileName.endsWith(".xlsx")) { // checks if the extention is xlsx
-                    importFromExcel(file); // launches the excel import function and passes the file there
-                } else {
-                    // If the file has another extention there this message appears to the user
-                    JOptionPane.showMessageDialog(parentFrame, "Unsupported file format.");
-                }
-             // Throw an error if there is any problem with importing this file content
-            } catch (Exception e) {
-                JOptionPane.showMessageDialog(parentFrame, "Import failed: " + e.getMessage());
+            // Checks if the extention is csv
+            if (fileName.endsWith(".csv")) {
+                // launches the function for csv and passes the file there
+                BackgroundImport.start(parentFrame, "CSV import complete", "Import failed", () -> importFile(file), onComplete);
+            } else if (fileName.endsWith(".xml")) { // checks if the extention is xml
+                BackgroundImport.start(parentFrame, "XML import complete", "Import failed", () -> importFile(file), onComplete);
+            } else if (fileName.endsWith(".xlsx")) { // checks if the extention is xlsx
+                BackgroundImport.start(parentFrame, "Excel import complete", "Import failed", () -> importFile(file), onComplete);
+            } else {
+                // If the file has another extention there this message appears to the user
+                JOptionPane.showMessageDialog(parentFrame, "Unsupported file format.");
             }
         }
     }
 
+    /**
+     * Imports aircraft from a file, for the file chooser and for scripted or scheduled imports
+     * without any dialog. The format is chosen by the extension. Completed imports are
+     * recorded in the {@code import.aircraft.<format>} timer and the {@code rows.written} counter of {@link Metrics}.
+     *
+     * @param file .csv, .xml or .xlsx file
+     * @return rows written, rows skipped and throughput
+     * @throws IllegalArgumentException if the extension is not supported
+     * @throws Exception if file or database operations fail
+     */
+    public static ImportResult importFile(File file) throws Exception {
+        String fileName = file.getName().toLowerCase();
+        ImportResult result;
+        String format;
+        if (fileName.endsWith(".csv")) {
+            result = importFromCSV(file);
+            format = "csv";
+        } else if (fileName.endsWith(".xml")) {
+            result = importFromXML(file);
+            format = "xml";
+        } else if (fileName.endsWith(".xlsx")) {
+            result = importFromExcel(file);
+            format = "xlsx";
+        } else {
+            throw new IllegalArgumentException("Unsupported file format: " + file.getName());
+        }
+        // Completed imports only, a failed one is reported to the user
+        Metrics.timer("import.aircraft." + format).record(result.getElapsedNanos());
+        Metrics.counter("rows.written").add(result.getRowsWritten());
+        return result;
+    }
+
     // ----------------------- CSV Import -----------------------
 
     /**
-     * Imports aircraft entries from a CSV file with header.
+     * Imports aircraft entries from a CSV file with header (RFC 4180, fields may be quoted).
+     * Files above the COPY threshold are bulk loaded through PgCopyImporter.
      *
      * @param file CSV file containing aircraft data
+     * @return rows written and throughput
      * @throws Exception if file or database operations fail
      */
-    private static void importFromCSV(File file) throws Exception {
-        // open the file for reading
-        try (BufferedReader reader = new BufferedReader(new FileReader(file));
-             Connection conn = Database.getConnection()) { // establish a database connection
-
-            // Load the current tail number because there cannot be an aircraft with identical tail number
-            Set<String> existingTailNumbers = fetchExistingTailNumbers(conn);
-            String line; // This variable will store each line from the file
-            int lineNum = 0; // Counter and tracke the line number
-
-            // Read each line from the csv file
-            while ((line = reader.readLine()) != null) {
-                lineNum++; // increment the line number
-                if (lineNum == 1) continue; // Skip header row
-                String[] parts = line.split(","); // Split the line into parts by comma
-                if (parts.length != 2) continue; // Those rows without this design skip them
-
-                // Extract and trim the aircraft model
-                String model = parts[0].trim();
-                //Extract and trim the tail number
-                String tailNumber = parts[1].trim();
-
-                // If the tailnumber is not in the DB then insert the aircraft
-                if (!existingTailNumbers.contains(tailNumber)) {
-                    insertAircraft(conn, model, tailNumber); // Insert aircraft into the db
-                    existingTailNumbers.add(tailNumber); // Track the inserted tail numbers to avoid re-adding
+    private static ImportResult importFromCSV(File file) throws Exception {
+        // Large files skip the per-row INSERTs and are streamed with COPY
+        // The size is checked first, a small file never borrows a connection for it
+        if (PgCopyImporter.isEnabledFor(file)) {
+            try (Connection conn = Database.getConnection()) {
+                if (PgCopyImporter.isAvailable(conn)) {
+                    return PgCopyImporter.copyAircraft(conn, file);
                 }
             }
-
-            // Notify the user that the import is completed
-            JOptionPane.showMessageDialog(null, "CSV import complete.");
         }
+
+        return runPipeline("aircraft.csv", sink ->
+                // Memory-map the file and skip the header row, quoted models may contain commas
+                MappedCsvReader.read(file, true, (lineNum, row) ->
+                        // Decode the fields and hand the row to the validation stage
+                        sink.accept(lineNum, row.toArray())));
     }
 
     /**
      * Imports aircraft entries from a XML file with header.
+     * The file is pull-parsed with StAX, one {@code <aircraft>} element at a time.
      *
      * @param file XML file containing aircraft data
+     * @return rows written and throughput
      * @throws Exception if file or database operations fail
      */
-    private static void importFromXML(File file) throws Exception {
-        // Create a factory for the xml parser
-        DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-        // build the document parser from the factory
-        DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-        // Parse the document  and create the DOM representation
-        Document doc = dBuilder.parse(file);
-        // Normalize the structure of the XML document
-        doc.getDocumentElement().normalize();
-
-        // Find all aircraft elements in the Document
-        NodeList aircraftNodes = doc.getElementsByTagName("aircraft");
-        // Open the database connection using the try with resources for safe closure
-        try (Connection conn = Database.getConnection()) {
-            // Load the tail numbers from the DB to check for dublicates inside the database
-            Set<String> existingTailNumbers = fetchExistingTailNumbers(conn);
-
-            // Loop over each element in the XML file
-            for (int i = 0; i < aircraftNodes.getLength(); i++) {
-                // Cast a node to an Element to access child tags
-                Element element = (Element) aircraftNodes.item(i);
-                // Extract model tag content and trim whitespace
-                String model = element.getElementsByTagName("model").item(0).getTextContent().trim();
-                // Extract tailNumber tag content
-                String tailNumber = element.getElementsByTagName("tailNumber").item(0).getTextContent().trim();
-
-                // Insert in the database if only the tailnumber is not already present in the database
-                if (!existingTailNumbers.contains(tailNumber)) {
-                    // Insert aircraft in the database
-                    insertAircraft(conn, model, tailNumber);
-                    // Track duplicates to not re-insert
-                    existingTailNumbers.add(tailNumber);
-                }
-            }
-        }
-
-        // Show confirmation dialog to user
-        JOptionPane.showMessageDialog(null, "XML import complete.");
+    private static ImportResult importFromXML(File file) throws Exception {
+        return runPipeline("aircraft.xml", sink ->
+                // Each aircraft element is handed over as soon as its end tag is read
+                StreamingXmlReader.readRecords(file, "aircraft", Set.of("model", "tailNumber"), (recordNum, fields) ->
+                        sink.accept(recordNum, new String[]{fields.get("model"), fields.get("tailNumber")})));
     }
 
     /**
      * Imports aircraft entries from a Excel file with header.
+     * The workbook is streamed and never fully loaded.
      *
      * @param file Excel file containing aircraft data
+     * @return rows written and throughput
      * @throws Exception if file or database operations fail
      */
-    private static void importFromExcel(File file) throws Exception {
-        // Open the input stream, initialize Excel workbook and Database connection
-        try (FileInputStream fis = new FileInputStream(file);
-             // Apache POI workbook object
-             Workbook workbook = new XSSFWorkbook(fis);
-             // Connect to the database
-             Connection conn = Database.getConnection()) {
-
-            // Load the first worksheet
-            Sheet sheet = workbook.getSheetAt(0);
-
-            // Load the tailnumbers from the database to avoid duplicates
-            Set<String> existingTailNumbers = fetchExistingTailNumbers(conn);
-            // Used to skip the first row
-            boolean headerSkipped = false;
-
-            // Iterate over each row in the Excel sheet
-            for (Row row : sheet) {
-                // Skip the header row
-                if (!headerSkipped) {
-                    headerSkipped = true;
-                    continue;
-                }
-
-                // Read the cell for model and tail number
-                Cell modelCell = row.getCell(0);
-                Cell tailNumberCell = row.getCell(1);
-
-                // If either value is missing skip the row
-                if (modelCell == null || tailNumberCell == null) continue;
-
-                // Extract and clean the values
-                String model = modelCell.getStringCellValue().trim();
-                String tailNumber = tailNumberCell.getStringCellValue().trim();
-
-                // Only insert if tail number is new
-                if (!existingTailNumbers.contains(tailNumber)) {
-                    insertAircraft(conn, model, tailNumber);
-                    existingTailNumbers.add(tailNumber);
-                }
-            }
-        }
-
-        // Notify the user that import is completed
-        JOptionPane.showMessageDialog(null, "Excel import complete.");
-    }
-
-
-    private static Set<String> fetchExistingTailNumbers(Connection conn) throws Exception {
-        // Set to store unique tail numbers
-        Set<String> tailNumbers = new HashSet<>();
-        // Excecute SQL SELECT query to retrieve all existing tail numbers
-        ResultSet rs = conn.createStatement().executeQuery("SELECT tail_number FROM aircraft");
-        // Populate set from result set
-        while (rs.next()) {
-            tailNumbers.add(rs.getString("tail_number"));
-        }
-        // return the set of tail numbers
-        return tailNumbers;
+    private static ImportResult importFromExcel(File file) throws Exception {
+        return runPipeline("aircraft.xlsx", sink ->
+                // Each row of the first worksheet goes to the pipeline as soon as it is parsed
+                StreamingXlsxReader.readFirstSheet(file, true, (rowNum, cells) ->
+                        sink.accept(rowNum + 1, new String[]{
+                                StreamingXlsxReader.cell(cells, 0), StreamingXlsxReader.cell(cells, 1)})));
     }
 
-    private static void insertAircraft(Connection conn, String model, String tailNumber) throws Exception {
-        // Prepare an SQL statement to add aircraft data
-        PreparedStatement stmt = conn.prepareStatement("INSERT INTO aircraft (model, tail_number) VALUES (?, ?)");
-        // Set model and tail number parameters
-        stmt.setString(1, model);
-        stmt.setString(2, tailNumber);
-        // Excecute the insert operation
-        stmt.executeUpdate();
+    /**
+     * Runs the import pipeline for aircraft records of the form [model, tailNumber].
+     *
+     * @param format import and file format reported to Flight Recorder, e.g. aircraft.csv
+     * @param source parser of the selected file
+     * @return rows written, rows skipped and throughput
+     * @throws Exception if any stage fails
+     */
+    private static ImportResult runPipeline(String format, ImportPipeline.RecordSource source) throws Exception {
+        // Duplicates of aircraft already in the table are dropped by the unique index (ON CONFLICT),
+        // only the tail numbers of this file are tracked here
+        DatabaseConfig config = DatabaseConfig.load();
+        BloomFilter bloomFilter = Boolean.parseBoolean(config.get("import.dedup.bloomFilter", "false"))
+                ? new BloomFilter(config.getLong("import.dedup.expectedRows", DEFAULT_EXPECTED_ROWS), BLOOM_FALSE_POSITIVE_RATE)
+                : null;
+        Set<String> fileTailNumbers = new HashSet<>();
+
+        ImportPipeline<Aircraft> pipeline = new ImportPipeline<>(INSERT_SQL,
+                // Validation stage, single threaded so the duplicate check is exact
+                (position, fields) -> {
+                    // Those rows without the model,tailNumber design skip them
+                    if (fields.length != 2) return null;
+
+                    // Extract and trim the aircraft model and tail number
+                    String model = ImportPipeline.field(fields, 0);
+                    String tailNumber = ImportPipeline.field(fields, 1);
+
+                    // If either value is missing skip the row
+                    if (model == null || tailNumber == null) return null;
+
+                    // If the tailnumber already appeared in the file skip the aircraft
+                    // With the Bloom filter the set is not used, possible duplicates are held back instead
+                    if (bloomFilter == null && !fileTailNumbers.add(tailNumber)) return null;
+                    return new Aircraft(0, model, tailNumber);
+                },
+                // Writer stage: set model and tail number parameters
+                (stmt, aircraft) -> {
+                    stmt.setString(1, aircraft.model());
+                    stmt.setString(2, aircraft.tailNumber());
+                },
+                // Tail numbers the filter may have seen are written last so ON CONFLICT drops the repeats
+                bloomFilter == null ? null : aircraft -> bloomFilter.put(aircraft.tailNumber()));
+        return pipeline.run(format, source);
     }
-}
\ No newline at end of file
+}
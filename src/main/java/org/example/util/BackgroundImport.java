@@ -0,0 +1,59 @@
+package org.example.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Runs an import off the Swing event dispatch thread.
+ * The work runs on a SwingWorker thread, the result or error message and the
+ * completion callback are delivered back on the EDT so the UI stays responsive
+ * while large files are parsed and written.
+ */
+final class BackgroundImport {
+
+    private static final Logger log = LoggerFactory.getLogger(BackgroundImport.class);
+
+    private BackgroundImport() {
+    }
+
+    /**
+     * Starts the import and returns immediately.
+     *
+     * @param parentFrame    owner of the result dialog
+     * @param successPrefix  message shown before the import statistics, e.g. "CSV import complete"
+     * @param failurePrefix  message shown before the error, e.g. "Import failed"
+     * @param work           the import itself, runs on a background thread
+     * @param onComplete     run on the EDT after success or failure, may be null
+     */
+    static void start(JFrame parentFrame, String successPrefix, String failurePrefix,
+                      Callable<ImportResult> work, Runnable onComplete) {
+        new SwingWorker<ImportResult, Void>() {
+            @Override
+            protected ImportResult doInBackground() throws Exception {
+                return work.call();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    JOptionPane.showMessageDialog(parentFrame, successPrefix + ": " + get() + ".");
+                } catch (ExecutionException e) {
+                    // Show the cause thrown by the import, not the wrapper
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.error(failurePrefix, cause);
+                    JOptionPane.showMessageDialog(parentFrame, failurePrefix + ": " + cause.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    if (onComplete != null) {
+                        onComplete.run();
+                    }
+                }
+            }
+        }.execute();
+    }
+}
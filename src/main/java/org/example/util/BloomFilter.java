@@ -0,0 +1,118 @@
+package org.example.util;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : BloomFilter.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Fixed-size probabilistic set used to pre-screen duplicate keys during imports.
+// Safety Level   : DAL D (only decides the write order, the database decides uniqueness)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : False positives are possible, false negatives are not
+// ========================================================================
+
+/**
+ * BloomFilter: Answers "definitely not seen" or "possibly seen" for String keys in a
+ * bit array whose size is fixed when the filter is created.
+ *
+ * The memory used does not depend on how many keys are added: about 1.2 MB for one
+ * million keys at a 1% false positive rate. Adding more keys than expected only raises
+ * the false positive rate.
+ *
+ * Not thread safe, the import pipeline uses it from the validator thread only.
+ */
+public final class BloomFilter {
+
+    // Bit array, 64 bits per word
+    private final long[] words;
+
+    // Number of usable bits
+    private final long numBits;
+
+    // Number of bits set per key
+    private final int numHashes;
+
+    /**
+     * Sizes the filter for the expected number of keys.
+     *
+     * @param expectedKeys      number of keys the filter is sized for, at least 1
+     * @param falsePositiveRate wanted rate of "possibly seen" answers for new keys, between 0 and 1
+     */
+    public BloomFilter(long expectedKeys, double falsePositiveRate) {
+        if (expectedKeys < 1) {
+            throw new IllegalArgumentException("expectedKeys must be positive: " + expectedKeys);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1: " + falsePositiveRate);
+        }
+        // Optimal sizes: m = -n ln(p) / ln(2)^2 and k = m / n ln(2)
+        long bits = (long) Math.ceil(-expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new long[Math.toIntExact((Math.max(bits, 64) + 63) / 64)];
+        this.numBits = (long) words.length * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / expectedKeys * Math.log(2)));
+    }
+
+    /**
+     * @param key key to look up
+     * @return false if the key was never added, true if it possibly was
+     */
+    public boolean mightContain(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= numHashes; i++) {
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % numBits;
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds a key and tells whether it was possibly added before.
+     *
+     * @param key key to add
+     * @return false if the key is definitely new, true if it possibly was added before
+     */
+    public boolean put(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        boolean present = true;
+        for (int i = 1; i <= numHashes; i++) {
+            // Double hashing, k indexes derived from one 64-bit hash
+            long bit = Integer.toUnsignedLong(h1 + i * h2) % numBits;
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((words[word] & mask) == 0) {
+                present = false;
+                words[word] |= mask;
+            }
+        }
+        return present;
+    }
+
+    /**
+     * @return size of the bit array in bytes
+     */
+    public long getSizeInBytes() {
+        return (long) words.length * Long.BYTES;
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars followed by the MurmurHash3 finalizer.
+     */
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
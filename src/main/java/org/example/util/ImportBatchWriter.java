@@ -0,0 +1,227 @@
+package org.example.util;
+
+import org.example.db.DatabaseConfig;
+import org.example.jfr.ImportBatchEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ImportBatchWriter.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Batched, transactional JDBC write path shared by the import handlers.
+// Safety Level   : DAL C (partial imports must never be left half-written)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : One reusable PreparedStatement per import, commits per chunk
+//                  Rows the database did not insert (ON CONFLICT DO NOTHING) are counted as skipped
+//                  Every committed chunk is reported as an ImportBatchEvent to Java Flight Recorder
+// ========================================================================
+
+/**
+ * ImportBatchWriter: Writes imported rows through a single reusable PreparedStatement.
+ *
+ * Rows are queued with {@code addBatch} and sent with {@code executeBatch} every
+ * {@code batchSize} rows. Autocommit is switched off for the whole import and every
+ * executed chunk is committed explicitly, so a 200k-row file costs 200k/batchSize
+ * round trips and commits instead of 200k of each.
+ *
+ * The update count of every row is checked: a statement that inserted nothing, such as
+ * {@code INSERT ... ON CONFLICT DO NOTHING} hitting an existing key, is reported as skipped.
+ *
+ * If the import fails, or the writer is closed without {@link #finish()}, the chunk
+ * in progress is rolled back and the connection is restored to autocommit mode.
+ * Chunks committed before the failure stay in the database and are reported by
+ * {@link #getCommittedRows()}.
+ */
+public class ImportBatchWriter implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportBatchWriter.class);
+
+    // Rows per executeBatch/commit when nothing is configured
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Sets the parameters of the statement for one row.
+     */
+    @FunctionalInterface
+    public interface RowBinder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    // Connection used for the import, owned by the caller
+    private final Connection conn;
+
+    // Statement reused for every row of the import
+    private final PreparedStatement stmt;
+
+    // Number of rows per chunk
+    private final int batchSize;
+
+    // Autocommit mode to restore when the import is over
+    private final boolean previousAutoCommit;
+
+    // Import reported in the Flight Recorder events, e.g. aircraft.csv
+    private final String format;
+
+    // Size of the source records queued in the current chunk
+    private long pendingBytes;
+
+    // Rows queued in the current chunk
+    private int pendingRows;
+
+    // Rows already committed
+    private long committedRows;
+
+    // Rows of committed chunks the database did not insert
+    private long skippedRows;
+
+    // Start time of the import used for the throughput report
+    private final long startNanos = System.nanoTime();
+
+    // Set once finish() has committed the last chunk
+    private boolean finished;
+
+    /**
+     * Prepares the statement and opens the explicit transaction.
+     *
+     * @param conn      active DB connection
+     * @param sql       parameterized INSERT statement
+     * @param batchSize rows per executeBatch and commit
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public ImportBatchWriter(Connection conn, String sql, int batchSize) throws SQLException {
+        this(conn, sql, batchSize, null);
+    }
+
+    /**
+     * Prepares the statement and opens the explicit transaction.
+     *
+     * @param conn      active DB connection
+     * @param sql       parameterized INSERT statement
+     * @param batchSize rows per executeBatch and commit
+     * @param format    import reported in the {@link ImportBatchEvent}s, e.g. aircraft.csv, may be null
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public ImportBatchWriter(Connection conn, String sql, int batchSize, String format) throws SQLException {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        this.conn = conn;
+        this.batchSize = batchSize;
+        this.format = format;
+        this.previousAutoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        this.stmt = conn.prepareStatement(sql);
+    }
+
+    /**
+     * Reads the batch size from the {@code import.batchSize} configuration key.
+     *
+     * @return the configured batch size or {@link #DEFAULT_BATCH_SIZE}
+     */
+    public static int configuredBatchSize() {
+        return DatabaseConfig.load().getInt("import.batchSize", DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Queues one row and sends the chunk when it is full.
+     *
+     * @param binder sets the statement parameters for the row
+     * @throws SQLException if the chunk cannot be written
+     */
+    public void addRow(RowBinder binder) throws SQLException {
+        binder.bind(stmt);
+        stmt.addBatch();
+        if (++pendingRows >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Adds the size of source records to the chunk in progress, reported with its
+     * {@link ImportBatchEvent}.
+     *
+     * @param bytes size of the records queued since the last call
+     */
+    public void addSourceBytes(long bytes) {
+        pendingBytes += bytes;
+    }
+
+    /**
+     * Sends the queued rows and commits them.
+     */
+    private void flush() throws SQLException {
+        if (pendingRows == 0) {
+            return;
+        }
+        ImportBatchEvent event = new ImportBatchEvent();
+        event.begin();
+        int[] updateCounts = stmt.executeBatch();
+        conn.commit();
+        long written = 0;
+        for (int count : updateCounts) {
+            // SUCCESS_NO_INFO (-2) means the row was executed but the driver did not report a count
+            if (count != 0) {
+                written++;
+            }
+        }
+        committedRows += written;
+        skippedRows += updateCounts.length - written;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.format = format;
+            event.rows = written;
+            event.skippedRows = updateCounts.length - written;
+            event.bytes = pendingBytes;
+            event.commit();
+        }
+        pendingRows = 0;
+        pendingBytes = 0;
+    }
+
+    /**
+     * Writes the last chunk and ends the transaction.
+     *
+     * @return rows written, rows skipped by the database and throughput of the import
+     * @throws SQLException if the last chunk cannot be written
+     */
+    public ImportResult finish() throws SQLException {
+        flush();
+        finished = true;
+        ImportResult result = new ImportResult(committedRows, skippedRows, System.nanoTime() - startNanos);
+        log.info("Import finished: {}", result);
+        return result;
+    }
+
+    /**
+     * @return rows committed so far
+     */
+    public long getCommittedRows() {
+        return committedRows;
+    }
+
+    /**
+     * Rolls back the chunk in progress if the import did not finish, restores the
+     * autocommit mode and closes the statement.
+     */
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (!finished) {
+                conn.rollback();
+                log.warn("Import aborted, chunk in progress rolled back after {} committed rows", committedRows);
+            }
+        } finally {
+            try {
+                stmt.close();
+            } finally {
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package org.example.util;
+
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : ImportPipeline.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Multi-stage import engine: reader -> validator -> N JDBC writers.
+// Safety Level   : DAL C (bulk data ingestion, failure must stop every stage)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Bounded queues between the stages give back-pressure, the first
+//                  failure in any stage aborts the whole pipeline
+// ========================================================================
+
+/**
+ * ImportPipeline: Runs a file import on three stages connected by bounded queues.
+ *
+ * <ol>
+ *   <li>Reader: a {@link RecordSource} parses the file (CSV, XML or XLSX) into raw records.</li>
+ *   <li>Validator: a single thread turns raw records into rows, drops malformed records and
+ *       applies stateful rules such as duplicate detection. One thread keeps those rules
+ *       deterministic.</li>
+ *   <li>Writers: N threads, each with its own pooled connection and {@link ImportBatchWriter},
+ *       insert the rows in batches and commit per chunk.</li>
+ * </ol>
+ *
+ * Records travel between the stages in chunks to keep queue overhead low. When the writers
+ * cannot keep up the queues fill and the reader blocks, so memory stays bounded whatever the
+ * file size. If any stage fails, the others stop, the writers roll back their open chunk and
+ * the first failure is rethrown by {@link #run(String, RecordSource)}.
+ *
+ * Optionally the validator stage can hold back rows that may be duplicates of earlier
+ * rows (see {@link #ImportPipeline(String, RecordValidator, RowBinder, Predicate)}). They are
+ * written by one writer after the parallel writers have committed, so two writers never
+ * insert the same key concurrently and a conflict clause in the statement can drop them.
+ *
+ * A pipeline instance runs a single import.
+ *
+ * @param <T> validated row type handed to the writers
+ */
+public class ImportPipeline<T> {
+
+    private static final Logger log = LoggerFactory.getLogger(ImportPipeline.class);
+
+    // Records per chunk passed between stages
+    private static final int CHUNK_SIZE = 256;
+
+    // Poll interval used to notice that another stage failed
+    private static final long POLL_MILLIS = 100;
+
+    // End-of-stream markers, compared by reference
+    private static final List<?> END = new ArrayList<>(0);
+    private static final RowChunk<?> END_ROWS = new RowChunk<>(new ArrayList<>(0), 0);
+
+    // Names the pipeline threads so they can be told apart in thread dumps
+    private static final AtomicInteger PIPELINE_IDS = new AtomicInteger();
+
+    /**
+     * Stage 1: parses the file and pushes every raw record into the sink.
+     */
+    @FunctionalInterface
+    public interface RecordSource {
+        void read(RecordSink sink) throws Exception;
+    }
+
+    /**
+     * Receives raw records from a {@link RecordSource}. Blocks while the pipeline is full.
+     */
+    @FunctionalInterface
+    public interface RecordSink {
+        /**
+         * @param position line, row or record number used in error messages
+         * @param fields   raw field values in the file's column order, may contain nulls.
+         *                 The array is kept, sources must pass a new array per record.
+         * @throws InterruptedException if the pipeline was aborted
+         */
+        void accept(int position, String[] fields) throws InterruptedException;
+    }
+
+    /**
+     * Stage 2: converts a raw record into a row.
+     */
+    @FunctionalInterface
+    public interface RecordValidator<T> {
+        /**
+         * @return the row to write, or null to skip the record (malformed or duplicate)
+         * @throws Exception to abort the import
+         */
+        T validate(int position, String[] fields) throws Exception;
+    }
+
+    /**
+     * Stage 3: sets the statement parameters for a row.
+     */
+    @FunctionalInterface
+    public interface RowBinder<T> {
+        void bind(PreparedStatement stmt, T row) throws SQLException;
+    }
+
+    /**
+     * Raw record with its position in the file.
+     */
+    private static class RawRecord {
+        final int position;
+        final String[] fields;
+
+        RawRecord(int position, String[] fields) {
+            this.position = position;
+            this.fields = fields;
+        }
+
+        /**
+         * @return approximate size of the record in the file: its characters and one separator per field
+         */
+        long size() {
+            long size = 0;
+            for (String field : fields) {
+                size += (field == null ? 0 : field.length()) + 1;
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Validated rows on their way to a writer, with the size of the records they came from.
+     */
+    private static class RowChunk<T> {
+        final List<T> rows;
+        final long sourceBytes;
+
+        RowChunk(List<T> rows, long sourceBytes) {
+            this.rows = rows;
+            this.sourceBytes = sourceBytes;
+        }
+    }
+
+    // INSERT statement executed by the writers
+    private final String sql;
+
+    private final RecordValidator<T> validator;
+    private final RowBinder<T> binder;
+
+    // Selects rows written after the parallel stage, null when every row is written in parallel
+    private final Predicate<T> deferral;
+
+    // Number of writer threads (and pooled connections)
+    private final int writers;
+
+    // Chunks each queue can hold before the producer blocks
+    private final int queueChunks;
+
+    // Rows per executeBatch/commit of each writer
+    private final int batchSize;
+
+    // First failure of any stage, set once
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+    /**
+     * Creates a pipeline with the configured number of writers, queue capacity and batch size
+     * ({@code import.writers}, {@code import.queueCapacity}, {@code import.batchSize}).
+     *
+     * @param sql       parameterized INSERT statement
+     * @param validator stage 2 conversion
+     * @param binder    stage 3 parameter binding
+     */
+    public ImportPipeline(String sql, RecordValidator<T> validator, RowBinder<T> binder) {
+        this(sql, validator, binder, null);
+    }
+
+    /**
+     * Creates a pipeline that writes the rows matching {@code deferral} last, on a single writer.
+     *
+     * @param sql       parameterized INSERT statement
+     * @param validator stage 2 conversion
+     * @param binder    stage 3 parameter binding
+     * @param deferral  evaluated on the validator thread for every row, true to hold the row back.
+     *                  The held back rows are kept in memory until the end of the import.
+     */
+    public ImportPipeline(String sql, RecordValidator<T> validator, RowBinder<T> binder, Predicate<T> deferral) {
+        DatabaseConfig config = DatabaseConfig.load();
+        // Default: one writer per core, but leave half of the pool to the rest of the application
+        int poolSize = config.getInt("pool.maximumSize", 10);
+        int defaultWriters = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), poolSize / 2));
+        this.sql = sql;
+        this.validator = validator;
+        this.binder = binder;
+        this.deferral = deferral;
+        this.writers = Math.max(1, config.getInt("import.writers", defaultWriters));
+        this.queueChunks = Math.max(1, config.getInt("import.queueCapacity", 8192) / CHUNK_SIZE);
+        this.batchSize = config.getInt("import.batchSize", ImportBatchWriter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Runs the import to completion.
+     *
+     * @param format import reported in the Flight Recorder events of the writers, e.g. aircraft.csv
+     * @param source stage 1 parser of the file
+     * @return rows written, rows skipped by validation or by the database and throughput
+     * @throws Exception the first failure of any stage
+     */
+    public ImportResult run(String format, RecordSource source) throws Exception {
+        long start = System.nanoTime();
+        BlockingQueue<List<RawRecord>> parsed = new ArrayBlockingQueue<>(queueChunks);
+        BlockingQueue<RowChunk<T>> validated = new ArrayBlockingQueue<>(queueChunks);
+        LongAdder written = new LongAdder();
+        LongAdder skipped = new LongAdder();
+        // Only touched by the validator thread until all stages have finished
+        List<T> deferred = new ArrayList<>();
+        long[] deferredBytes = {0};
+
+        int pipelineId = PIPELINE_IDS.incrementAndGet();
+        AtomicInteger threadIds = new AtomicInteger();
+        ExecutorService threads = Executors.newFixedThreadPool(2 + writers, r -> {
+            Thread t = new Thread(r, "import-" + pipelineId + "-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        List<Future<?>> stages = new ArrayList<>();
+        try {
+            // Stage 1: reader
+            stages.add(threads.submit(() -> {
+                ChunkingSink sink = new ChunkingSink(parsed);
+                try {
+                    source.read(sink);
+                    sink.flush();
+                } catch (Exception e) {
+                    fail(e);
+                } finally {
+                    put(parsed, end());
+                }
+            }));
+
+            // Stage 2: validator
+            stages.add(threads.submit(() -> {
+                try {
+                    List<RawRecord> chunk;
+                    while ((chunk = take(parsed)) != null && chunk != END) {
+                        List<T> rows = new ArrayList<>(chunk.size());
+                        long bytes = 0;
+                        for (RawRecord record : chunk) {
+                            T row = validateRecord(record);
+                            if (row == null) {
+                                skipped.increment();
+                            } else if (deferral != null && deferral.test(row)) {
+                                deferred.add(row);
+                                deferredBytes[0] += record.size();
+                            } else {
+                                rows.add(row);
+                                bytes += record.size();
+                            }
+                        }
+                        if (!rows.isEmpty() && !put(validated, new RowChunk<>(rows, bytes))) {
+                            return;
+                        }
+                    }
+                } catch (Exception e) {
+                    fail(e);
+                } finally {
+                    // One end marker per writer
+                    for (int i = 0; i < writers; i++) {
+                        put(validated, endRows());
+                    }
+                }
+            }));
+
+            // Stage 3: writers, each on its own pooled connection
+            for (int i = 0; i < writers; i++) {
+                stages.add(threads.submit(() -> {
+                    try (Connection conn = Database.getConnection();
+                         ImportBatchWriter writer = new ImportBatchWriter(conn, sql, batchSize, format)) {
+                        RowChunk<T> chunk;
+                        while ((chunk = take(validated)) != END_ROWS) {
+                            if (chunk == null) {
+                                // Another stage failed, close() rolls back the open chunk
+                                return;
+                            }
+                            writer.addSourceBytes(chunk.sourceBytes);
+                            for (T row : chunk.rows) {
+                                writer.addRow(stmt -> binder.bind(stmt, row));
+                            }
+                        }
+                        if (failure.get() == null) {
+                            ImportResult result = writer.finish();
+                            written.add(result.getRowsWritten());
+                            skipped.add(result.getRowsSkipped());
+                        }
+                    } catch (Exception e) {
+                        fail(e);
+                    }
+                }));
+            }
+
+            for (Future<?> stage : stages) {
+                stage.get();
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+
+        Exception error = failure.get();
+        if (error != null) {
+            throw error;
+        }
+
+        // Held back rows go last, on one connection
+        if (!deferred.isEmpty()) {
+            try (Connection conn = Database.getConnection();
+                 ImportBatchWriter writer = new ImportBatchWriter(conn, sql, batchSize, format)) {
+                writer.addSourceBytes(deferredBytes[0]);
+                for (T row : deferred) {
+                    writer.addRow(stmt -> binder.bind(stmt, row));
+                }
+                ImportResult result = writer.finish();
+                written.add(result.getRowsWritten());
+                skipped.add(result.getRowsSkipped());
+            }
+        }
+        ImportResult result = new ImportResult(written.sum(), skipped.sum(), System.nanoTime() - start);
+        log.info("Pipeline import with {} writers finished: {}", writers, result);
+        return result;
+    }
+
+    /**
+     * Runs the validator on one record and adds the position to any failure.
+     */
+    private T validateRecord(RawRecord record) throws Exception {
+        try {
+            return validator.validate(record.position, record.fields);
+        } catch (IllegalArgumentException e) {
+            // Includes NumberFormatException and invalid dates
+            throw new IllegalArgumentException("Record " + record.position + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records the first failure, later failures are logged only.
+     */
+    private void fail(Exception e) {
+        if (!failure.compareAndSet(null, e)) {
+            log.debug("Additional import failure after abort", e);
+        }
+    }
+
+    /**
+     * Blocking put that gives up when another stage failed.
+     *
+     * @return false if the pipeline was aborted
+     */
+    private <E> boolean put(BlockingQueue<E> queue, E item) {
+        try {
+            while (!queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failure.get() != null) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+            return false;
+        }
+    }
+
+    /**
+     * Blocking take that gives up when another stage failed.
+     *
+     * @return the next item, or null if the pipeline was aborted
+     */
+    private <E> E take(BlockingQueue<E> queue) {
+        try {
+            E item;
+            while ((item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                if (failure.get() != null) {
+                    return null;
+                }
+            }
+            return item;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> List<E> end() {
+        return (List<E>) END;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> RowChunk<E> endRows() {
+        return (RowChunk<E>) END_ROWS;
+    }
+
+    /**
+     * Sink of stage 1 that groups records into chunks before queuing them.
+     */
+    private class ChunkingSink implements RecordSink {
+        private final BlockingQueue<List<RawRecord>> queue;
+        private List<RawRecord> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        ChunkingSink(BlockingQueue<List<RawRecord>> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void accept(int position, String[] fields) throws InterruptedException {
+            chunk.add(new RawRecord(position, fields));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() throws InterruptedException {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            if (!put(queue, chunk)) {
+                throw new InterruptedException("Import aborted");
+            }
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Returns a field of a raw record.
+     *
+     * @param fields raw record
+     * @param index  zero based column
+     * @return the trimmed value, or null if the field is missing or blank
+     */
+    public static String field(String[] fields, int index) {
+        if (index >= fields.length || fields[index] == null) {
+            return null;
+        }
+        String value = fields[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+}
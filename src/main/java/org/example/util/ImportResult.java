@@ -0,0 +1,66 @@
+package org.example.util;
+
+/**
+ * Outcome of a bulk import: how many rows were written and how fast.
+ * Shown to the user in the import completion message.
+ *
+ * @author Rafail
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class ImportResult {
+
+    // Rows written to the database
+    private final long rowsWritten;
+
+    // Rows not written because they were malformed or duplicates
+    private final long rowsSkipped;
+
+    // Wall clock duration of the import in nanoseconds
+    private final long elapsedNanos;
+
+    /**
+     * @param rowsWritten  rows written to the database
+     * @param elapsedNanos duration of the import
+     */
+    public ImportResult(long rowsWritten, long elapsedNanos) {
+        this(rowsWritten, 0, elapsedNanos);
+    }
+
+    /**
+     * @param rowsWritten  rows written to the database
+     * @param rowsSkipped  rows dropped as malformed or duplicate
+     * @param elapsedNanos duration of the import
+     */
+    public ImportResult(long rowsWritten, long rowsSkipped, long elapsedNanos) {
+        this.rowsWritten = rowsWritten;
+        this.rowsSkipped = rowsSkipped;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten;
+    }
+
+    public long getRowsSkipped() {
+        return rowsSkipped;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return rows written per second, 0 if nothing was written
+     */
+    public double getRowsPerSecond() {
+        return elapsedNanos <= 0 ? 0.0 : rowsWritten * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        String summary = String.format("%d rows in %.2f s (%.0f rows/s)",
+                rowsWritten, elapsedNanos / 1_000_000_000.0, getRowsPerSecond());
+        return rowsSkipped == 0 ? summary : summary + ", " + rowsSkipped + " skipped";
+    }
+}
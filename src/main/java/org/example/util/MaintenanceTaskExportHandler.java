@@ -0,0 +1,304 @@
+package org.example.util;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.example.db.Database;
+import org.example.db.DatabaseConfig;
+import org.example.metrics.Metrics;
+
+import javax.swing.*;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : MaintenanceTaskExportHandler.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Exports the maintenance tasks with their aircraft to CSV and Excel files.
+// Safety Level   : DAL C (audit data must be complete and unaltered)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Certification Notes:
+//   - The export reads one consistent snapshot (single statement, read only transaction).
+//   - Rows are streamed from a server-side cursor, memory does not grow with the table.
+//   - The file is written under a temporary name and renamed once complete, a failed
+//     export never leaves a truncated file under the chosen name.
+// ========================================================================
+
+/**
+ * MaintenanceTaskExportHandler:
+ * Writes every maintenance task joined with its aircraft to a file for auditors.
+ * - CSV (RFC 4180, UTF-8) written straight from the result set
+ * - Excel (.xlsx) through a streaming SXSSF workbook that keeps a fixed window of rows in memory
+ *
+ * The query runs with autocommit off and a fetch size, so the PostgreSQL driver reads the
+ * result through a server-side cursor, {@code export.fetchSize} rows at a time, instead of
+ * loading the whole result before the first row is returned.
+ */
+public class MaintenanceTaskExportHandler {
+
+    // Ordered by id so repeated exports of unchanged data are identical, read through the primary key
+    private static final String SELECT_SQL =
+            "SELECT mt.id, mt.aircraft_id, a.model, a.tail_number, mt.task_description, mt.due_date, mt.status, mt.completed_at " +
+            "FROM maintenance_task mt JOIN aircraft a ON mt.aircraft_id = a.id ORDER BY mt.id";
+
+    // Column titles of both formats, in SELECT order
+    private static final String[] HEADERS = {
+            "taskId", "aircraftId", "model", "tailNumber", "description", "dueDate", "status", "completedAt"};
+
+    /**
+     * Receives the exported rows one at a time from the open result set.
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws IOException, SQLException;
+    }
+
+    /**
+     * Writes the content of a file to the temporary file it is given.
+     */
+    @FunctionalInterface
+    private interface FileContent {
+        long write(Path temp) throws Exception;
+    }
+
+    /**
+     * Opens a save dialog and exports to CSV or Excel depending on the file extension
+     * (.csv or .xlsx, CSV when there is none).
+     * The export runs in the background, this method returns as soon as it has started.
+     */
+    public static void exportTasksToFile(JFrame parentFrame) {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setSelectedFile(new File("maintenance_tasks.csv"));
+        int result = fileChooser.showSaveDialog(parentFrame);
+        if (result != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File file = fileChooser.getSelectedFile();
+        String fileName = file.getName().toLowerCase();
+        if (fileName.endsWith(".xlsx")) {
+            BackgroundImport.start(parentFrame, "Excel task export complete", "Task export failed", () -> exportToExcel(file), null);
+        } else if (fileName.endsWith(".csv")) {
+            BackgroundImport.start(parentFrame, "CSV task export complete", "Task export failed", () -> exportToCSV(file), null);
+        } else if (fileName.indexOf('.') < 0) {
+            File csvFile = new File(file.getParentFile(), file.getName() + ".csv");
+            BackgroundImport.start(parentFrame, "CSV task export complete", "Task export failed", () -> exportToCSV(csvFile), null);
+        } else {
+            JOptionPane.showMessageDialog(parentFrame, "Unsupported file format.");
+        }
+    }
+
+    /**
+     * Exports all tasks to a CSV file, overwriting it.
+     *
+     * @param file target file
+     * @return rows written to the file and the duration
+     * @throws Exception if the database or the file cannot be accessed
+     */
+    public static ImportResult exportToCSV(File file) throws Exception {
+        long start = System.nanoTime();
+        long rows = writeAtomically(file, temp -> {
+            try (Writer out = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(temp), StandardCharsets.UTF_8), 64 * 1024)) {
+                writeCsvRecord(out, HEADERS);
+                String[] values = new String[HEADERS.length];
+                return streamTasks(rs -> {
+                    // Text as sent by the server: dates as YYYY-MM-DD, completedAt as an ISO-like timestamp
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getString(i + 1);
+                    }
+                    writeCsvRecord(out, values);
+                });
+            }
+        });
+        return recorded("csv", new ImportResult(rows, System.nanoTime() - start));
+    }
+
+    /**
+     * Exports all tasks to an Excel file, overwriting it. Sheets hold at most 1,048,575 data
+     * rows each (the .xlsx limit), further rows continue on a new sheet.
+     *
+     * @param file target file
+     * @return rows written to the file and the duration
+     * @throws Exception if the database or the file cannot be accessed
+     */
+    public static ImportResult exportToExcel(File file) throws Exception {
+        long start = System.nanoTime();
+        long rows = writeAtomically(file, temp -> writeWorkbook(temp));
+        return recorded("xlsx", new ImportResult(rows, System.nanoTime() - start));
+    }
+
+    /**
+     * Streams the tasks into a workbook and writes it to the file.
+     *
+     * @return number of rows
+     */
+    private static long writeWorkbook(Path file) throws Exception {
+        int rowWindow = DatabaseConfig.load().getInt("export.xlsx.rowWindow", 100);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowWindow);
+        // Rows flushed out of the window go to a compressed temp file instead of the heap
+        workbook.setCompressTempFiles(true);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy-mm-dd"));
+            int maxRowIndex = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+
+            // Single element arrays are the state changed by the row callback
+            Sheet[] sheet = {newSheet(workbook, 1)};
+            int[] rowIndex = {1};
+            long rows = streamTasks(rs -> {
+                if (rowIndex[0] > maxRowIndex) {
+                    sheet[0] = newSheet(workbook, workbook.getNumberOfSheets() + 1);
+                    rowIndex[0] = 1;
+                }
+                Row row = sheet[0].createRow(rowIndex[0]++);
+                row.createCell(0).setCellValue(rs.getInt(1));
+                row.createCell(1).setCellValue(rs.getInt(2));
+                row.createCell(2).setCellValue(rs.getString(3));
+                row.createCell(3).setCellValue(rs.getString(4));
+                row.createCell(4).setCellValue(rs.getString(5));
+                row.createCell(5).setCellValue(rs.getDate(6).toLocalDate());
+                row.getCell(5).setCellStyle(dateStyle);
+                row.createCell(6).setCellValue(rs.getString(7));
+                String completedAt = rs.getString(8);
+                if (completedAt != null) {
+                    row.createCell(7).setCellValue(completedAt);
+                }
+            });
+            workbook.write(out);
+            return rows;
+        } finally {
+            // Deletes the temp files of the flushed rows
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Writes the export to a temporary file in the target directory and moves it over the
+     * target once it is complete. The temporary file is deleted if the export fails, an existing
+     * target is then left as it was.
+     *
+     * @return number of rows written
+     */
+    private static long writeAtomically(File file, FileContent content) throws Exception {
+        Path target = file.toPath().toAbsolutePath();
+        // Same directory, so the rename stays on one file system and can be atomic
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName() + ".", ".tmp");
+        try {
+            long rows = content.write(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            return rows;
+        } finally {
+            // Only still there if the export or the move failed
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Runs the export query through a server-side cursor and hands each row to the writer.
+     *
+     * @param writer receives every row, the result set must not be kept
+     * @return number of rows
+     */
+    private static long streamTasks(RowWriter writer) throws IOException, SQLException {
+        int fetchSize = DatabaseConfig.load().getInt("export.fetchSize", 10_000);
+        try (Connection conn = Database.getConnection()) {
+            // The driver only uses a cursor inside a transaction, with autocommit it reads the whole result first
+            boolean previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            conn.setReadOnly(true);
+            try (Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                stmt.setFetchSize(fetchSize);
+                long rows = 0;
+                try (ResultSet rs = stmt.executeQuery(SELECT_SQL)) {
+                    while (rs.next()) {
+                        writer.write(rs);
+                        rows++;
+                    }
+                }
+                conn.commit();
+                return rows;
+            } catch (IOException | SQLException | RuntimeException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setReadOnly(false);
+                conn.setAutoCommit(previousAutoCommit);
+            }
+        }
+    }
+
+    /**
+     * Records a completed export in the {@code export.tasks.<format>} timer and the
+     * {@code rows.read} counter of {@link Metrics}.
+     *
+     * @return the result, unchanged
+     */
+    private static ImportResult recorded(String format, ImportResult result) {
+        Metrics.timer("export.tasks." + format).record(result.getElapsedNanos());
+        Metrics.counter("rows.read").add(result.getRowsWritten());
+        return result;
+    }
+
+    /**
+     * Creates a sheet with the header row.
+     */
+    private static Sheet newSheet(SXSSFWorkbook workbook, int number) {
+        Sheet sheet = workbook.createSheet(number == 1 ? "Maintenance Tasks" : "Maintenance Tasks " + number);
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < HEADERS.length; i++) {
+            header.createCell(i).setCellValue(HEADERS[i]);
+        }
+        return sheet;
+    }
+
+    /**
+     * Writes one CSV record. Fields with a comma, quote or line break are quoted (RFC 4180),
+     * null is written as an empty field.
+     */
+    private static void writeCsvRecord(Writer out, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (needsQuotes(value)) {
+                out.write('"');
+                out.write(value.replace("\"", "\"\""));
+                out.write('"');
+            } else {
+                out.write(value);
+            }
+        }
+        out.write("\r\n");
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
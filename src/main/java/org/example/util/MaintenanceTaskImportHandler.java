@@ -1,19 +1,15 @@
 package org.example.util;
 
-// Excel Handling
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.example.db.Database;
+import org.example.metrics.Metrics;
+import org.example.model.TaskStatus;
 
 // UI for file dialog
 import javax.swing.*;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.*;
+import java.math.BigDecimal;
 import java.sql.*;
-import java.text.SimpleDateFormat;
 import java.util.*;
-import org.w3c.dom.*;
 
 // ========================= DO-178C MODULE HEADER =========================
 // Module Name    : MaintenanceTaskImportHandler.java
@@ -21,10 +17,11 @@ import org.w3c.dom.*;
 // Description    : Handles bulk import of maintenance tasks from CSV, Excel, and XML files.
 // Safety Level   : DAL C (task status impacts operational safety)
 // Developed By   : Rafail
-// Last Modified  : 2025-05-02
+// Last Modified  : 2026-10-17
 // Certification Notes:
 //   - File parsing and database insertion must ensure data validity.
 //   - Logging should support audit trail for certification traceability.
+//   - Rows are parsed, validated and written on the ImportPipeline, off the Swing event thread.
 // ========================================================================
 
 
@@ -36,9 +33,32 @@ import org.w3c.dom.*;
  * - Validates aircraft association via aircraft_id (assumed to exist)
  */
 public class MaintenanceTaskImportHandler {
+
+    // Statement reused for every imported task
+    private static final String INSERT_SQL =
+            "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) VALUES (?, ?, ?, ?)";
+
+    /**
+     * A validated task row on its way to the writer stage.
+     */
+    private static class TaskRow {
+        final int aircraftId;
+        final String description;
+        final java.sql.Date dueDate;
+        final TaskStatus status;
+
+        TaskRow(int aircraftId, String description, java.sql.Date dueDate, TaskStatus status) {
+            this.aircraftId = aircraftId;
+            this.description = description;
+            this.dueDate = dueDate;
+            this.status = status;
+        }
+    }
+
     /**
      * Opens a file chooser dialog and selects the appropriate import method
      * based on file extension (.csv, .xml, .xlsx).
+     * The import runs in the background, this method returns as soon as it has started.
      */
     public static void importTasksFromFile(JFrame parentFrame) {
         // Open file chooser dialog
@@ -54,99 +74,108 @@ public class MaintenanceTaskImportHandler {
             String fileName = file.getName().toLowerCase();
 
             // For each type of file delegate it into the appropriate importer function
-            try {
-                if (fileName.endsWith(".csv")) {
-                    importFromCSV(file);
-                } else if (fileName.endsWith(".xml")) {
-                    importFromXML(file);
-                } else if (fileName.endsWith(".xlsx")) {
-                    importFromExcel(file);
-                } else {
-                    // If the file format is not CSV, XML or XLSX write this message
-                    JOptionPane.showMessageDialog(parentFrame, "Unsupported file format.");
-                }
-            } catch (Exception e) {
-                // When the task fails and the file cannot be imported write
-                JOptionPane.showMessageDialog(parentFrame, "Task import failed: " + e.getMessage());
+            // When the task fails and the file cannot be imported "Task import failed" is shown
+            if (fileName.endsWith(".csv")) {
+                BackgroundImport.start(parentFrame, "CSV task import complete", "Task import failed", () -> importFile(file), null);
+            } else if (fileName.endsWith(".xml")) {
+                BackgroundImport.start(parentFrame, "XML task import complete", "Task import failed", () -> importFile(file), null);
+            } else if (fileName.endsWith(".xlsx")) {
+                BackgroundImport.start(parentFrame, "Excel task import complete", "Task import failed", () -> importFile(file), null);
+            } else {
+                // If the file format is not CSV, XML or XLSX write this message
+                JOptionPane.showMessageDialog(parentFrame, "Unsupported file format.");
             }
         }
     }
 
     /**
-     * Reads tasks from CSV file and inserts them into the database.
+     * Imports tasks from a file, for the file chooser and for scripted or scheduled imports
+     * without any dialog. The format is chosen by the extension. Completed imports are
+     * recorded in the {@code import.tasks.<format>} timer and the {@code rows.written} counter of {@link Metrics}.
      *
-     * Format: aircraftId,description,dueDate,status
+     * @param file .csv, .xml or .xlsx file
+     * @return rows written, rows skipped and throughput
+     * @throws IllegalArgumentException if the extension is not supported
+     * @throws Exception if file or database operations fail
      */
-    private static void importFromCSV(File file) throws Exception {
-        // Open the file for reading
-        try (BufferedReader reader = new BufferedReader(new FileReader(file));
-             // Establish the database connection
-             Connection conn = Database.getConnection()) {
-
-            String line; // This variable will store each line from the file
-            int lineNum = 0; // Counter and tracker the line number
-
-            while ((line = reader.readLine()) != null) {
-                if (++lineNum == 1) continue; // Skip header
-                String[] parts = line.split(","); // Split the rows by a comma
-                if (parts.length != 4) continue; // Skip the wrongly formed lines
-
-                int aircraftId = Integer.parseInt(parts[0].trim()); // take the aircraft id
-                String description = parts[1].trim(); // take from the file the task description
-                String dueDateStr = parts[2].trim(); // take the due date
-                String status = parts[3].trim(); // take the status
-
-                // Insert them into the necessary database
-                insertTask(conn, aircraftId, description, dueDateStr, status);
-            }
+    public static ImportResult importFile(File file) throws Exception {
+        String fileName = file.getName().toLowerCase();
+        ImportResult result;
+        String format;
+        if (fileName.endsWith(".csv")) {
+            result = importFromCSV(file);
+            format = "csv";
+        } else if (fileName.endsWith(".xml")) {
+            result = importFromXML(file);
+            format = "xml";
+        } else if (fileName.endsWith(".xlsx")) {
+            result = importFromExcel(file);
+            format = "xlsx";
+        } else {
+            throw new IllegalArgumentException("Unsupported file format: " + file.getName());
         }
-
-        JOptionPane.showMessageDialog(null, "CSV task import complete.");
+        // Completed imports only, a failed one is reported to the user
+        Metrics.timer("import.tasks." + format).record(result.getElapsedNanos());
+        Metrics.counter("rows.written").add(result.getRowsWritten());
+        return result;
     }
 
     /**
-     * Reads tasks from Excel (.xlsx) file using Apache POI and inserts them into the database.
-     * Expects same format as CSV.
+     * Reads tasks from CSV file and inserts them into the database.
+     *
+     * Format: aircraftId,description,dueDate,status (RFC 4180, e.g. 1,"Inspect flaps, slats",2025-06-01,Pending)
+     * Files above the COPY threshold are bulk loaded through PgCopyImporter.
      */
-    private static void importFromExcel(File file) throws Exception {
-        // Open the input stream
-        try (FileInputStream fis = new FileInputStream(file);
-             // Apache Poi workbook object
-             Workbook workbook = new XSSFWorkbook(fis);
-             // Initiate the database connection
-             Connection conn = Database.getConnection()) {
-
-            // Read the first sheet from the file
-            Sheet sheet = workbook.getSheetAt(0);
-            // Varialbe to check if the header is skipped
-            boolean headerSkipped = false;
-
-            // Skip the first row header
-            for (Row row : sheet) {
-                if (!headerSkipped) {
-                    headerSkipped = true;
-                    continue;
+    private static ImportResult importFromCSV(File file) throws Exception {
+        // Large files skip the per-row INSERTs and are streamed with COPY
+        // The size is checked first, a small file never borrows a connection for it
+        if (PgCopyImporter.isEnabledFor(file)) {
+            try (Connection conn = Database.getConnection()) {
+                if (PgCopyImporter.isAvailable(conn)) {
+                    return PgCopyImporter.copyTasks(conn, file);
                 }
-                // Get the aircraft id
-                int aircraftId = (int) row.getCell(0).getNumericCellValue();
-                // Get the description
-                String description = row.getCell(1).getStringCellValue().trim();
-                // Get the dueDate
-                String dueDateStr = row.getCell(2).getStringCellValue().trim();
-                // Get the status
-                String status = row.getCell(3).getStringCellValue().trim();
-
-                // Insert all of them into the database
-                insertTask(conn, aircraftId, description, dueDateStr, status);
             }
         }
 
-        // Show this message to the user for the successfull process
-        JOptionPane.showMessageDialog(null, "Excel task import complete.");
+        return runPipeline("tasks.csv", sink ->
+                // Memory-map the file and skip the header, descriptions in quotes may contain commas
+                MappedCsvReader.read(file, true, (lineNum, row) -> sink.accept(lineNum, row.toArray())));
+    }
+
+    /**
+     * Reads tasks from Excel (.xlsx) file using Apache POI's streaming event API and inserts them into the database.
+     * Expects same format as CSV. Rows are inserted while the sheet is parsed, memory does not grow with the file.
+     */
+    private static ImportResult importFromExcel(File file) throws Exception {
+        return runPipeline("tasks.xlsx", sink ->
+                // Read the first sheet from the file and skip the first row header
+                StreamingXlsxReader.readFirstSheet(file, true, (rowNum, cells) ->
+                        // Numeric cells (aircraft id) are delivered as their displayed text, e.g. "1.0"
+                        sink.accept(rowNum + 1, new String[]{
+                                wholeNumber(StreamingXlsxReader.cell(cells, 0)), StreamingXlsxReader.cell(cells, 1),
+                                StreamingXlsxReader.cell(cells, 2), StreamingXlsxReader.cell(cells, 3)})));
+    }
+
+    /**
+     * Drops the decimal places of a spreadsheet number that is a whole number, "1.0" becomes "1".
+     * Any other value is returned unchanged and rejected by the validation, "1.5" is no aircraft id.
+     *
+     * @param value displayed text of a cell, may be null
+     * @return the value as a whole number when it is one, else the value itself
+     */
+    private static String wholeNumber(String value) {
+        if (value == null || value.indexOf('.') < 0) {
+            return value;
+        }
+        try {
+            return new BigDecimal(value).toBigIntegerExact().toString();
+        } catch (NumberFormatException | ArithmeticException e) {
+            return value;
+        }
     }
 
     /**
-     * Reads tasks from XML file and inserts them into the database.
+     * Reads tasks from XML file with a StAX pull parser and inserts them into the database.
      * Expected XML format:
      * <task>
      *   <aircraftId>1</aircraftId>
@@ -155,62 +184,79 @@ public class MaintenanceTaskImportHandler {
      *   <status>Pending</status>
      * </task>
      */
-    private static void importFromXML(File file) throws Exception {
-        // Create a factory from the XML parser
-        DocumentBuilder builder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
-        // Build the document parser from the factory
-        Document doc = builder.parse(file);
-        // Get all the task elements
-        NodeList taskNodes = doc.getElementsByTagName("task");
-
-        // Establish a connection with the database
-        try (Connection conn = Database.getConnection()) {
-            // Iterate all the tasks and return the number of task elements
-            for (int i = 0; i < taskNodes.getLength(); i++) {
-                // Get the current task node and cast it into an Element so its children can be accessed by the tag name
-                Element task = (Element) taskNodes.item(i);
-
-                // retrieve the aircraft id and the content of this item
-                int aircraftId = Integer.parseInt(task.getElementsByTagName("aircraftId").item(0).getTextContent().trim());
-                // Extract the description from the file and trim the whitespace
-                String description = task.getElementsByTagName("description").item(0).getTextContent().trim();
-                // Extract the dueDateStr and trim the whitespace
-                String dueDateStr = task.getElementsByTagName("dueDate").item(0).getTextContent().trim();
-                // Extract the status and trim the whitespace
-                String status = task.getElementsByTagName("status").item(0).getTextContent().trim();
-
-                // Insert the task into the database
-                insertTask(conn, aircraftId, description, dueDateStr, status);
-            }
-        }
+    private static ImportResult importFromXML(File file) throws Exception {
+        return runPipeline("tasks.xml", sink ->
+                // Pull-parse the task elements one at a time, the document is never built in memory
+                StreamingXmlReader.readRecords(file, "task", Set.of("aircraftId", "description", "dueDate", "status"), (recordNum, fields) ->
+                        sink.accept(recordNum, new String[]{
+                                fields.get("aircraftId"), fields.get("description"),
+                                fields.get("dueDate"), fields.get("status")})));
+    }
+
+    /**
+     * Runs the import pipeline for task records of the form [aircraftId, description, dueDate, status].
+     *
+     * @param format import and file format reported to Flight Recorder, e.g. tasks.csv
+     * @param source parser of the selected file
+     * @return rows written, rows skipped and throughput
+     * @throws Exception if any stage fails, e.g. a non numeric aircraft id or an invalid date
+     */
+    private static ImportResult runPipeline(String format, ImportPipeline.RecordSource source) throws Exception {
+        ImportPipeline<TaskRow> pipeline = new ImportPipeline<>(INSERT_SQL,
+                MaintenanceTaskImportHandler::validateTask,
+                MaintenanceTaskImportHandler::bindTask);
+        return pipeline.run(format, source);
+    }
+
+    /**
+     * Validation stage: converts a raw record into a task row.
+     *
+     * @param position line, row or record number
+     * @param fields   raw values aircraftId, description, dueDate (YYYY-MM-DD), status
+     * @return the row, or null for wrongly formed records which are skipped
+     * @throws IllegalArgumentException if the aircraft id is not a whole number, or the date or the status cannot be parsed
+     */
+    private static TaskRow validateTask(int position, String[] fields) {
+        // Skip the wrongly formed lines
+        if (fields.length != 4) return null;
+
+        String aircraftIdStr = ImportPipeline.field(fields, 0); // take the aircraft id
+        String description = ImportPipeline.field(fields, 1); // take from the file the task description
+        String dueDateStr = ImportPipeline.field(fields, 2); // take the due date
+        String status = ImportPipeline.field(fields, 3); // take the status
+        if (aircraftIdStr == null || description == null || dueDateStr == null || status == null) return null;
 
-        // Show this message if the transaction is completed and the XML is imported successfully
-        JOptionPane.showMessageDialog(null, "XML task import complete.");
+        // Only whole numbers, a fraction such as "1.5" must not land on aircraft 1
+        int aircraftId;
+        try {
+            aircraftId = Integer.parseInt(aircraftIdStr);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid aircraft id '" + aircraftIdStr + "', expected a whole number", e);
+        }
+        java.sql.Date dueDate;
+        try {
+            dueDate = java.sql.Date.valueOf(dueDateStr);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid due date '" + dueDateStr + "', expected YYYY-MM-DD", e);
+        }
+        // Stored as the canonical label, "done" and "OPEN" become Completed and Pending
+        return new TaskRow(aircraftId, description, dueDate, TaskStatus.fromText(status));
     }
 
     /**
-     * Inserts a single maintenance task record into the database.
+     * Writer stage: sets the parameters of the shared insert statement for one task.
      *
-     * @param conn         Active DB connection
-     * @param aircraftId   Foreign key ID of the aircraft
-     * @param description  Maintenance task description
-     * @param dueDateStr   Date string (YYYY-MM-DD format)
-     * @param status       Task status ("Pending", "Complete")
+     * @param stmt statement of the writer
+     * @param task validated task
      */
-    private static void insertTask(Connection conn, int aircraftId, String description, String dueDateStr, String status) throws Exception {
-        // Statement to use for inserting the data into the database
-        PreparedStatement stmt = conn.prepareStatement(
-                "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) VALUES (?, ?, ?, ?)"
-        );
+    private static void bindTask(PreparedStatement stmt, TaskRow task) throws SQLException {
         // Where the first ? place the value of the aircraftID
-        stmt.setInt(1, aircraftId);
+        stmt.setInt(1, task.aircraftId);
         // Where the second ? place the value of the description
-        stmt.setString(2, description);
+        stmt.setString(2, task.description);
         // Where the third ? is place the value of the date
-        stmt.setDate(3, java.sql.Date.valueOf(dueDateStr));
+        stmt.setDate(3, task.dueDate);
         // Where the fourth ? is place the value of status
-        stmt.setString(4, status);
-        // Excecute the query and update the database
-        stmt.executeUpdate();
+        stmt.setString(4, task.status.label());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,329 @@
+package org.example.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : MappedCsvReader.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Memory-mapped RFC 4180 CSV tokenizer for the bulk imports.
+// Safety Level   : DAL C (bulk data ingestion)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Quoted fields may contain commas, doubled quotes and line breaks
+// ========================================================================
+
+/**
+ * MappedCsvReader: Reads a UTF-8 CSV file through {@link FileChannel#map} and scans the
+ * mapped bytes for delimiters.
+ *
+ * {@code readLine().split(",")} copies every line into a String and then into one String per
+ * field, and it breaks quoted values such as {@code "Inspect flaps, slats"} into two columns.
+ * This reader only records the byte offsets of the fields while scanning and decodes a field
+ * into a String when {@link CsvRow#get(int)} is called, without the intermediate line String.
+ * The import handlers decode every field with {@link CsvRow#toArray()}: the row is reused for the
+ * next record while the validation stage runs on another thread, so the values must be copied.
+ *
+ * Format rules (RFC 4180):
+ *  - Fields are separated by commas, records by CRLF or LF
+ *  - A field enclosed in double quotes may contain commas, line breaks and doubled quotes ({@code ""})
+ *  - Blank lines are ignored, a leading UTF-8 byte order mark is skipped
+ *
+ * Files larger than the mapping window are mapped window by window, a record that crosses the
+ * end of a window is re-read from the start of the next one.
+ */
+public class MappedCsvReader {
+
+    // Bytes mapped at once, bounds the address space used for very large files
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+    private static final byte CR = '\r';
+    private static final byte LF = '\n';
+
+    /**
+     * Receives the records of the file in order.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param lineNum one based line on which the record starts
+         * @param row     fields of the record. The row is reused for the next record and must not be kept.
+         * @throws Exception to abort the import
+         */
+        void handleRow(int lineNum, CsvRow row) throws Exception;
+    }
+
+    /**
+     * Streams the records of the file.
+     *
+     * @param file       CSV file selected by the user
+     * @param skipHeader true to skip the first record (column titles)
+     * @param handler    callback invoked once per record
+     * @throws IOException if the file cannot be read or a quoted field is never closed
+     * @throws Exception   if the handler fails
+     */
+    public static void read(File file, boolean skipHeader, RowHandler handler) throws Exception {
+        read(file, skipHeader, handler, WINDOW_SIZE);
+    }
+
+    static void read(File file, boolean skipHeader, RowHandler handler, long mapWindow) throws Exception {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long windowStart = 0;
+            int lineNum = 1;
+            boolean headerPending = skipHeader;
+            CsvRow row = new CsvRow();
+
+            while (windowStart < fileSize) {
+                int windowSize = (int) Math.min(mapWindow, fileSize - windowStart);
+                boolean lastWindow = windowStart + windowSize == fileSize;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize);
+
+                int pos = windowStart == 0 ? skipByteOrderMark(buffer) : 0;
+                while (pos < windowSize) {
+                    // -1 means the record continues past the window
+                    int next = row.parse(buffer, pos, windowSize, lastWindow, lineNum);
+                    if (next < 0) {
+                        break;
+                    }
+                    int recordLine = lineNum;
+                    lineNum += row.lineBreaks;
+                    pos = next;
+
+                    if (row.isBlank()) {
+                        continue;
+                    }
+                    if (headerPending) {
+                        headerPending = false;
+                        continue;
+                    }
+                    handler.handleRow(recordLine, row);
+                }
+
+                if (pos == 0 && !lastWindow) {
+                    throw new IOException("CSV record at line " + lineNum + " is larger than " + mapWindow + " bytes");
+                }
+                // Continue with the first record that was not complete in this window
+                windowStart += pos;
+                if (lastWindow) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int skipByteOrderMark(ByteBuffer buffer) {
+        if (buffer.limit() >= 3
+                && buffer.get(0) == (byte) 0xEF && buffer.get(1) == (byte) 0xBB && buffer.get(2) == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * One record of the file, holding the byte range of each field in the mapped buffer.
+     */
+    public static final class CsvRow {
+
+        // Mapped window the offsets refer to
+        private ByteBuffer buffer;
+
+        // Start and end offset per field: [start0, end0, start1, end1, ...]
+        private int[] bounds = new int[32];
+
+        // True when the field contains a quote and must be unescaped on decoding
+        private boolean[] quoted = new boolean[16];
+
+        // Number of fields in the record
+        private int size;
+
+        // Line terminators consumed by the record, including those inside quoted fields
+        private int lineBreaks;
+
+        // Reused decode buffer
+        private byte[] scratch = new byte[256];
+
+        CsvRow() {
+        }
+
+        /**
+         * @return number of fields in the record
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Decodes one field.
+         *
+         * @param index zero based column
+         * @return the unquoted value, never null for an existing column
+         * @throws IndexOutOfBoundsException if the record has fewer fields
+         */
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Field " + index + " of a record with " + size + " fields");
+            }
+            int start = bounds[2 * index];
+            int end = bounds[2 * index + 1];
+            int length = end - start;
+            ensureScratch(length);
+
+            if (!quoted[index]) {
+                buffer.get(start, scratch, 0, length);
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            // Drop the enclosing quotes and turn "" into "
+            int out = 0;
+            boolean inQuotes = false;
+            for (int i = start; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b == QUOTE) {
+                    if (inQuotes && i + 1 < end && buffer.get(i + 1) == QUOTE) {
+                        scratch[out++] = QUOTE;
+                        i++;
+                    } else {
+                        inQuotes = !inQuotes;
+                    }
+                } else {
+                    scratch[out++] = b;
+                }
+            }
+            return new String(scratch, 0, out, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Decodes every field into a new array, for consumers that keep the values.
+         *
+         * @return the field values in column order
+         */
+        public String[] toArray() {
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = get(i);
+            }
+            return values;
+        }
+
+        /**
+         * Writes the record as it is in the file, quotes and all, followed by a LF. Used to pass
+         * the records of the file on to a COPY in CSV format without decoding them.
+         *
+         * @param out receives the bytes of the record
+         * @throws IOException if the stream fails
+         */
+        void writeRecord(OutputStream out) throws IOException {
+            int start = bounds[0];
+            int length = bounds[2 * size - 1] - start;
+            ensureScratch(length);
+            buffer.get(start, scratch, 0, length);
+            out.write(scratch, 0, length);
+            out.write(LF);
+        }
+
+        /**
+         * @return true for an empty line
+         */
+        boolean isBlank() {
+            return size == 1 && bounds[0] == bounds[1];
+        }
+
+        /**
+         * Scans one record starting at {@code pos}.
+         *
+         * @param buffer  mapped window
+         * @param pos     offset of the first byte of the record
+         * @param limit   end of the window
+         * @param atEof   true when the window ends at the end of the file
+         * @param lineNum line of the record, used in error messages
+         * @return offset after the record terminator, or -1 if the record does not end inside the window
+         * @throws IOException if the file ends inside a quoted field
+         */
+        int parse(ByteBuffer buffer, int pos, int limit, boolean atEof, int lineNum) throws IOException {
+            this.buffer = buffer;
+            size = 0;
+            lineBreaks = 0;
+
+            int fieldStart = pos;
+            boolean inQuotes = false;
+            boolean fieldQuoted = false;
+
+            for (int i = pos; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (inQuotes) {
+                    if (b == QUOTE) {
+                        if (i + 1 == limit && !atEof) {
+                            // Cannot tell "" from a closing quote yet
+                            return -1;
+                        }
+                        if (i + 1 < limit && buffer.get(i + 1) == QUOTE) {
+                            i++;
+                        } else {
+                            inQuotes = false;
+                        }
+                    } else if (b == LF) {
+                        lineBreaks++;
+                    }
+                } else if (b == QUOTE) {
+                    inQuotes = true;
+                    fieldQuoted = true;
+                } else if (b == COMMA) {
+                    addField(fieldStart, i, fieldQuoted);
+                    fieldStart = i + 1;
+                    fieldQuoted = false;
+                } else if (b == LF || b == CR) {
+                    addField(fieldStart, i, fieldQuoted);
+                    lineBreaks++;
+                    if (b == CR) {
+                        if (i + 1 < limit) {
+                            if (buffer.get(i + 1) == LF) {
+                                i++;
+                            }
+                        } else if (!atEof) {
+                            // The LF of a CRLF may be in the next window
+                            return -1;
+                        }
+                    }
+                    return i + 1;
+                }
+            }
+
+            if (!atEof) {
+                return -1;
+            }
+            if (inQuotes) {
+                throw new IOException("Unterminated quoted field in CSV record at line " + lineNum);
+            }
+            // Last record without a trailing line break
+            addField(fieldStart, limit, fieldQuoted);
+            return limit;
+        }
+
+        private void addField(int start, int end, boolean fieldQuoted) {
+            if (size == quoted.length) {
+                quoted = Arrays.copyOf(quoted, size * 2);
+                bounds = Arrays.copyOf(bounds, size * 4);
+            }
+            bounds[2 * size] = start;
+            bounds[2 * size + 1] = end;
+            quoted[size] = fieldQuoted;
+            size++;
+        }
+
+        private void ensureScratch(int length) {
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+        }
+    }
+}
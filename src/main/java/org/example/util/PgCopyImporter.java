@@ -0,0 +1,212 @@
+package org.example.util;
+
+import org.example.db.DatabaseConfig;
+import org.example.jfr.ImportBatchEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : PgCopyImporter.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : PostgreSQL COPY fast path for large aircraft and task CSV files.
+// Safety Level   : DAL C (bulk data ingestion, all-or-nothing per file)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : The records are streamed into a temporary staging table and merged
+//                  with a single set-based INSERT ... SELECT, skipping the same rows as the row path
+// ========================================================================
+
+/**
+ * PgCopyImporter: Bulk loads CSV files through the driver's COPY API ({@link PGCopyOutputStream}).
+ *
+ * Instead of one INSERT per row the records are streamed to the server with
+ * {@code COPY ... FROM STDIN} into a temporary staging table that only lives for the
+ * transaction. One set-based statement then moves the rows into {@code aircraft} or
+ * {@code maintenance_task}. The whole file is one transaction: either every row is
+ * imported or, on any error (bad aircraft id, bad date, unknown status or aircraft), none is.
+ *
+ * A file is imported the same way whichever side of the threshold it is on. The records are
+ * scanned by {@link MappedCsvReader} and passed on undecoded, so blank lines and records with
+ * the wrong number of fields are skipped like the row path skips them, and the merge skips
+ * rows with a missing or blank value like {@link ImportPipeline#field(String[], int)} does.
+ *
+ * Used by the import handlers for CSV files of at least {@code import.copy.thresholdBytes}
+ * bytes (default 8 MB, {@code 0} always, {@code -1} never).
+ */
+public class PgCopyImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(PgCopyImporter.class);
+
+    // Files from this size on are loaded with COPY when nothing is configured
+    private static final long DEFAULT_THRESHOLD_BYTES = 8L * 1024 * 1024;
+
+    // Characters trimmed from every value, the whitespace String.trim() removes in practice
+    private static final String TRIM = "E' \\t\\r\\n'";
+
+    // Staging table for aircraft files, line_no keeps the file order for the dedup rule
+    private static final String AIRCRAFT_STAGING =
+            "CREATE TEMP TABLE aircraft_import_staging (" +
+            " line_no BIGSERIAL, model TEXT, tail_number TEXT) ON COMMIT DROP";
+
+    // Staging table for task files, all columns are text so casting happens in the merge
+    private static final String TASK_STAGING =
+            "CREATE TEMP TABLE task_import_staging (" +
+            " line_no BIGSERIAL, aircraft_id TEXT, task_description TEXT, due_date TEXT, status TEXT) ON COMMIT DROP";
+
+    // Tail-number dedup rule: first occurrence in the file wins, tail numbers already in the fleet are
+    // skipped by the unique index, also when another terminal imports the same aircraft concurrently.
+    // Rows with a blank model or tail number are skipped before the rule, as in the row path.
+    private static final String AIRCRAFT_MERGE =
+            "INSERT INTO aircraft (model, tail_number) " +
+            "SELECT s.model, s.tail_number FROM (" +
+            "  SELECT DISTINCT ON (t.tail_number) t.model, t.tail_number, t.line_no FROM (" +
+            "    SELECT " + trimmed("model") + " AS model, " + trimmed("tail_number") + " AS tail_number, line_no" +
+            "    FROM aircraft_import_staging) t" +
+            "  WHERE t.model IS NOT NULL AND t.tail_number IS NOT NULL" +
+            "  ORDER BY t.tail_number, t.line_no) s " +
+            "ORDER BY s.line_no " +
+            "ON CONFLICT (tail_number) DO NOTHING";
+
+    // Rows with a blank value are skipped, the others are cast in one pass and a bad id or date aborts
+    // the whole file like the row path does. Statuses are mapped like TaskStatus.fromText, an unknown
+    // one fails the status check constraint.
+    private static final String TASK_MERGE =
+            "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) " +
+            "SELECT t.aircraft_id::int, t.task_description, t.due_date::date, " +
+            " CASE lower(t.status) " +
+            "  WHEN 'pending' THEN 'Pending' WHEN 'open' THEN 'Pending' " +
+            "  WHEN 'completed' THEN 'Completed' WHEN 'complete' THEN 'Completed' WHEN 'done' THEN 'Completed' " +
+            "  ELSE t.status END " +
+            "FROM (" +
+            "  SELECT " + trimmed("aircraft_id") + " AS aircraft_id, " + trimmed("task_description") + " AS task_description, " +
+            "   " + trimmed("due_date") + " AS due_date, " + trimmed("status") + " AS status, line_no" +
+            "  FROM task_import_staging) t " +
+            "WHERE t.aircraft_id IS NOT NULL AND t.task_description IS NOT NULL" +
+            " AND t.due_date IS NOT NULL AND t.status IS NOT NULL " +
+            "ORDER BY t.line_no";
+
+    /**
+     * @return SQL of a staged column trimmed, NULL when nothing is left
+     */
+    private static String trimmed(String column) {
+        return "nullif(btrim(" + column + ", " + TRIM + "), '')";
+    }
+
+    /**
+     * Decides whether a file is large enough to be worth the COPY path.
+     *
+     * @param file CSV file selected by the user
+     * @return true if the COPY path is enabled for this file size
+     */
+    public static boolean isEnabledFor(File file) {
+        long threshold = DatabaseConfig.load().getLong("import.copy.thresholdBytes", DEFAULT_THRESHOLD_BYTES);
+        return threshold >= 0 && file.length() >= threshold;
+    }
+
+    /**
+     * Checks that the connection is a PostgreSQL connection that supports COPY.
+     *
+     * @param conn active DB connection (possibly a pool proxy)
+     * @return true if {@link PGConnection} can be unwrapped
+     */
+    public static boolean isAvailable(Connection conn) {
+        try {
+            return conn.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Loads an aircraft CSV file (header + model,tailNumber) with COPY.
+     *
+     * @param conn active DB connection
+     * @param file CSV file containing aircraft data
+     * @return rows inserted after the dedup rule and throughput
+     * @throws Exception if the file cannot be read or the transaction fails
+     */
+    public static ImportResult copyAircraft(Connection conn, File file) throws Exception {
+        return copy(conn, file, "aircraft.csv", AIRCRAFT_STAGING,
+                "COPY aircraft_import_staging (model, tail_number) FROM STDIN WITH (FORMAT csv, ENCODING 'UTF8')",
+                2, AIRCRAFT_MERGE);
+    }
+
+    /**
+     * Loads a task CSV file (header + aircraftId,description,dueDate,status) with COPY.
+     *
+     * @param conn active DB connection
+     * @param file CSV file containing task data
+     * @return rows inserted and throughput
+     * @throws Exception if the file cannot be read or the transaction fails
+     */
+    public static ImportResult copyTasks(Connection conn, File file) throws Exception {
+        return copy(conn, file, "tasks.csv", TASK_STAGING,
+                "COPY task_import_staging (aircraft_id, task_description, due_date, status) FROM STDIN WITH (FORMAT csv, ENCODING 'UTF8')",
+                4, TASK_MERGE);
+    }
+
+    /**
+     * Runs staging table creation, COPY and merge in one transaction, reported as one
+     * {@link ImportBatchEvent}. The header and records without {@code columns} fields are not staged.
+     */
+    private static ImportResult copy(Connection conn, File file, String format, String stagingDdl, String copySql,
+                                     int columns, String mergeSql) throws Exception {
+        long start = System.nanoTime();
+        ImportBatchEvent event = new ImportBatchEvent();
+        event.begin();
+        boolean previousAutoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (Statement stmt = conn.createStatement()) {
+            // Temporary table, dropped automatically at commit or rollback
+            stmt.execute(stagingDdl);
+
+            // Stream the well formed records to the server as they are in the file
+            long[] malformed = {0};
+            long staged;
+            PGCopyOutputStream out = new PGCopyOutputStream(conn.unwrap(PGConnection.class), copySql, 1 << 16);
+            try {
+                MappedCsvReader.read(file, true, (lineNum, row) -> {
+                    if (row.size() == columns) {
+                        row.writeRecord(out);
+                    } else {
+                        malformed[0]++;
+                    }
+                });
+                staged = out.endCopy();
+            } finally {
+                if (out.isActive()) {
+                    out.cancelCopy();
+                }
+            }
+
+            // One set-based statement moves the staged rows into the real table
+            long inserted = stmt.executeUpdate(mergeSql);
+            conn.commit();
+
+            event.format = format;
+            event.copy = true;
+            event.rows = inserted;
+            event.skippedRows = malformed[0] + staged - inserted;
+            event.bytes = file.length();
+            event.commit();
+
+            // Skipped: records with the wrong number of fields, and staged rows that were not merged
+            // because of a blank value, a tail number repeated in the file or already in the fleet
+            ImportResult result = new ImportResult(inserted, malformed[0] + staged - inserted, System.nanoTime() - start);
+            log.info("COPY import of {}: {} rows staged, {}", file.getName(), staged, result);
+            return result;
+        } catch (Exception e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(previousAutoCommit);
+        }
+    }
+}
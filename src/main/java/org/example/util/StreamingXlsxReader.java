@@ -0,0 +1,172 @@
+package org.example.util;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : StreamingXlsxReader.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Constant-memory reader for the first sheet of an .xlsx file.
+// Safety Level   : DAL C (bulk data ingestion)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Built on POI's SAX event API (XSSFReader + XSSFSheetXMLHandler)
+// ========================================================================
+
+/**
+ * StreamingXlsxReader: Reads an Excel workbook row by row without building the workbook DOM.
+ *
+ * {@code new XSSFWorkbook(fis)} materializes every cell of every sheet in the heap, which
+ * for a 50 MB planning spreadsheet exceeds a 2 GB heap. This reader parses the sheet XML
+ * with SAX and hands every row to a {@link RowHandler} as soon as its end tag is read, so
+ * only the current row (plus the shared-strings table) is kept in memory.
+ *
+ * Cell values are delivered as the text Excel would display (numbers without a trailing
+ * ".0", string cells resolved through the shared-strings table). Missing cells are null.
+ */
+public class StreamingXlsxReader {
+
+    /**
+     * Receives the rows of the sheet in file order.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        /**
+         * @param rowNum zero based row number in the sheet
+         * @param cells  cell values by column index, null for empty cells.
+         *               The list is reused for the next row and must not be kept.
+         * @throws Exception to abort the import
+         */
+        void handleRow(int rowNum, List<String> cells) throws Exception;
+    }
+
+    /**
+     * Streams the rows of the first sheet of the workbook.
+     *
+     * @param file       .xlsx file selected by the user
+     * @param skipHeader true to skip the first row of the sheet (column titles)
+     * @param handler    callback invoked once per row
+     * @throws Exception if the file cannot be parsed or the handler fails
+     */
+    public static void readFirstSheet(File file, boolean skipHeader, RowHandler handler) throws Exception {
+        // Read only access, the file is never rewritten
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            // Lookup table for string cells, cells only store an index into it
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            RowCollector collector = new RowCollector(handler, skipHeader);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, null, sharedStrings, collector, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (HandlerFailure e) {
+                // Unwrap the exception thrown by the row handler
+                throw e.cause;
+            }
+        }
+    }
+
+    /**
+     * Returns a cell of a row delivered to a {@link RowHandler}.
+     *
+     * @param cells  the row
+     * @param column zero based column index
+     * @return the trimmed value, or null if the cell is missing or blank
+     */
+    public static String cell(List<String> cells, int column) {
+        if (column >= cells.size() || cells.get(column) == null) {
+            return null;
+        }
+        String value = cells.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Collects the cells of the current row and passes the finished row on.
+     */
+    private static class RowCollector implements SheetContentsHandler {
+
+        private final RowHandler handler;
+
+        // Set while the first row still has to be dropped
+        private boolean skipNextRow;
+
+        // Cells of the row currently being parsed, reused across rows
+        private final List<String> cells = new ArrayList<>();
+
+        // Column of the next cell when the file omits cell references
+        private int nextColumn;
+
+        RowCollector(RowHandler handler, boolean skipHeader) {
+            this.handler = handler;
+            this.skipNextRow = skipHeader;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (skipNextRow) {
+                skipNextRow = false;
+                return;
+            }
+            try {
+                handler.handleRow(rowNum, cells);
+            } catch (Exception e) {
+                throw new HandlerFailure(e);
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            // Pad skipped (empty) cells with null so indexes match the sheet columns
+            while (cells.size() < column) {
+                cells.add(null);
+            }
+            cells.add(formattedValue);
+            nextColumn = column + 1;
+        }
+    }
+
+    /**
+     * Carries a checked exception of the row handler through the SAX parser.
+     */
+    private static class HandlerFailure extends RuntimeException {
+        private final Exception cause;
+
+        HandlerFailure(Exception cause) {
+            super(cause);
+            this.cause = cause;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : StreamingXmlReader.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Constant-memory StAX reader for record oriented XML feeds.
+// Safety Level   : DAL C (bulk data ingestion, untrusted input)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : DTDs and external entities are disabled (no XXE, no DTD fetches)
+// ========================================================================
+
+/**
+ * StreamingXmlReader: Pull-parses an XML file and emits one record at a time.
+ *
+ * A record is every element with the given name (e.g. {@code <aircraft>} or {@code <task>}),
+ * its fields are the text of the child elements with the requested names:
+ * <pre>
+ * &lt;task&gt;
+ *   &lt;aircraftId&gt;1&lt;/aircraftId&gt;
+ *   &lt;description&gt;Check engine&lt;/description&gt;
+ * &lt;/task&gt;
+ * </pre>
+ * Unlike a DocumentBuilder DOM, only the fields of the current record are held in memory,
+ * so multi-gigabyte feeds are read with constant heap.
+ */
+public class StreamingXmlReader {
+
+    /**
+     * Receives the records of the file in document order.
+     */
+    @FunctionalInterface
+    public interface RecordHandler {
+        /**
+         * @param recordNum one based position of the record in the file
+         * @param fields    trimmed field values by element name, missing fields are absent.
+         *                  The map is reused for the next record and must not be kept.
+         * @throws Exception to abort the import
+         */
+        void handleRecord(int recordNum, Map<String, String> fields) throws Exception;
+    }
+
+    /**
+     * Creates a StAX factory that never resolves DTDs or external entities.
+     * A feed with a DOCTYPE cannot make the parser stall on a network fetch or read local files.
+     *
+     * @return the hardened factory
+     */
+    static XMLInputFactory newSecureFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setXMLResolver((publicId, systemId, baseUri, namespace) -> {
+            throw new javax.xml.stream.XMLStreamException("External entity not allowed: " + systemId);
+        });
+        return factory;
+    }
+
+    /**
+     * Streams all records of the file to the handler.
+     *
+     * @param file          XML file selected by the user
+     * @param recordElement local name of the record element
+     * @param fieldNames    local names of the child elements to collect
+     * @param handler       callback invoked once per record
+     * @throws Exception if the file is not well formed or the handler fails
+     */
+    public static void readRecords(File file, String recordElement, Set<String> fieldNames,
+                                   RecordHandler handler) throws Exception {
+        XMLInputFactory factory = newSecureFactory();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file), 1 << 16)) {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            try {
+                Map<String, String> fields = new HashMap<>();
+                boolean inRecord = false;
+                int recordNum = 0;
+
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        if (name.equals(recordElement)) {
+                            // A new record starts, forget the previous one
+                            inRecord = true;
+                            fields.clear();
+                        } else if (inRecord && fieldNames.contains(name)) {
+                            // First occurrence wins, like getElementsByTagName(name).item(0)
+                            String value = reader.getElementText().trim();
+                            fields.putIfAbsent(name, value);
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT
+                            && inRecord && reader.getLocalName().equals(recordElement)) {
+                        // The record is complete, hand it to the write path
+                        inRecord = false;
+                        handler.handleRecord(++recordNum, fields);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+}
@@ -1,20 +1,20 @@
 package org.example.view;
 
 import org.example.model.Aircraft;
-import org.example.model.MaintenanceTask;
-import org.example.presenter.AircraftPresenter;
+import org.example.model.AircraftTaskStats;
 
 import javax.swing.*;
 import java.awt.*;
 import java.text.SimpleDateFormat;
 import java.util.Date;
-import java.util.List;
 
 /**
  * AircraftDetailView displays summary information about a selected aircraft,
  * including model, tail number, current date, and a breakdown of its maintenance tasks.
  *
  * This dialog supports traceability by summarizing status-relevant maintenance data per aircraft.
+ * The figures are computed by the database for this aircraft only
+ * (see {@link org.example.presenter.AircraftPresenter#loadAircraftTaskStatsAsync(int)}).
  */
 public class AircraftDetailView extends JDialog {
 
@@ -23,34 +23,31 @@ public class AircraftDetailView extends JDialog {
      *
      * @param parent the parent frame
      * @param aircraft the selected Aircraft object
-     * @param allTasks list of all maintenance tasks for filtering
+     * @param stats the task figures of the selected aircraft
      */
-    public AircraftDetailView(JFrame parent, Aircraft aircraft, List<MaintenanceTask> allTasks) {
+    public AircraftDetailView(JFrame parent, Aircraft aircraft, AircraftTaskStats stats) {
         super(parent, "Individual Aircraft Details", true); // It is the title of the Window
-        setSize(400, 300); // Size of the window
+        setSize(400, 380); // Size of the window
         setLocationRelativeTo(parent); // Center the box on the screen
 
         // Create a basic panel with a vertical layout
-        JPanel panel = new JPanel(new GridLayout(6, 1, 10, 10));
+        JPanel panel = new JPanel(new GridLayout(8, 1, 10, 10));
         // add the necessary padding
         panel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
 
         // Name the button and display th necessary information
-        JLabel modelLabel = new JLabel("Aircraft Model: " + aircraft.getModel());
+        JLabel modelLabel = new JLabel("Aircraft Model: " + aircraft.model());
         // Display the tailNumberLabel and also the tail number
-        JLabel tailNumberLabel = new JLabel("Tail Number: " + aircraft.getTailNumber());
+        JLabel tailNumberLabel = new JLabel("Tail Number: " + aircraft.tailNumber());
 
         // Simulate current date as "Date of Entry"
         JLabel dateOfEntryLabel = new JLabel("Date of Entry: " + new SimpleDateFormat("yyyy-MM-dd").format(new Date()));
 
-        // Filter and count tasks related to this aircraft
-        long total = allTasks.stream().filter(t -> t.getAircraftId() == aircraft.getId()).count();
-        long completed = allTasks.stream().filter(t -> t.getAircraftId() == aircraft.getId() && "Completed".equalsIgnoreCase(t.getStatus())).count();
-        long pending = total - completed;
-
         // Display maintenance task counts
-        JLabel taskTotalLabel = new JLabel("Total Maintenance Tasks: " + total);
-        JLabel statusSummaryLabel = new JLabel("Status Summary: " + pending + " Pending / " + completed + " Completed");
+        JLabel taskTotalLabel = new JLabel("Total Maintenance Tasks: " + stats.total());
+        JLabel statusSummaryLabel = new JLabel("Status Summary: " + stats.pending() + " Pending / " + stats.completed() + " Completed");
+        JLabel overdueLabel = new JLabel("Overdue Tasks: " + stats.overdue());
+        JLabel nextDueLabel = new JLabel("Next Due Date: " + (stats.nextDueDate() == null ? "None" : stats.nextDueDate()));
 
         // Add the User Interface components to the panel
         panel.add(modelLabel);
@@ -58,6 +55,8 @@ public class AircraftDetailView extends JDialog {
         panel.add(dateOfEntryLabel);
         panel.add(taskTotalLabel);
         panel.add(statusSummaryLabel);
+        panel.add(overdueLabel);
+        panel.add(nextDueLabel);
 
         // Close the button and dismiss the dialog
         JButton closeButton = new JButton("Close");
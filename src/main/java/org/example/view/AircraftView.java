@@ -1,7 +1,9 @@
 package org.example.view;
 
 import org.example.model.Aircraft;
+import org.example.model.FleetKpis;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -21,7 +23,24 @@ public interface AircraftView {
     //@param aircraftList List of Aircraft objects to be shown in the user interface.
     void showAircraftList(List<Aircraft> aircraftList);
 
+    //Displays the aircraft and dashboard figures of the startup snapshot until the database answers
+    //Ignored once showAircraftList has shown the database data
+    //@param createdAt When the snapshot was read from the database, shown to the user.
+    void showSnapshot(List<Aircraft> aircraftList, FleetKpis kpis, Instant createdAt);
+
     //Displays a system message to the user
     //@param message Textual message to be displayed (e.g., notifications, error messages).
     void showMessage(String message);
+
+    //Adds one aircraft to the displayed list, called after it was inserted
+    //@param aircraft The new aircraft with its database id.
+    void aircraftAdded(Aircraft aircraft);
+
+    //Replaces one displayed aircraft, called after it was updated
+    //@param aircraft The aircraft with its new values, matched by id.
+    void aircraftUpdated(Aircraft aircraft);
+
+    //Removes one aircraft from the displayed list, called after it was deleted
+    //@param id The id of the deleted aircraft, unknown ids are ignored.
+    void aircraftRemoved(int id);
 }
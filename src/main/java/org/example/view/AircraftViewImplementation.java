@@ -1,19 +1,27 @@
 package org.example.view;
 
+import org.example.jfr.UiRefreshEvent;
 import org.example.model.Aircraft;
+import org.example.model.FleetKpis;
 import org.example.model.MaintenanceTask;
+import org.example.model.TaskQuery;
 import org.example.presenter.AircraftPresenter;
 import org.example.util.AircraftImportHandler;
+import org.example.util.MaintenanceTaskExportHandler;
 import org.example.util.MaintenanceTaskImportHandler;
 
 import javax.swing.*;
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.sql.Date;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of the AircraftView interface
@@ -26,6 +34,9 @@ import java.util.List;
  * GUI behavior is driven by event listeners on various buttons, enabling full CRUD
  * functionality and maintenance scheduling in an MVP-compliant architecture
  *
+ * The buttons call the asynchronous presenter API, the window stays responsive while
+ * the database works and the results arrive back on the event thread
+ *
  * @author Rafail
  * @version 2.0
  * @since 2025-04-30
@@ -33,6 +44,12 @@ import java.util.List;
 
 public class AircraftViewImplementation extends JFrame implements AircraftView {
 
+    // Window title, while snapshot data is shown its age is appended
+    private static final String TITLE = "Aircraft Maintenance Tracker Power By Rafael Besparas";
+
+    // Time of the snapshot shown in the title
+    private static final DateTimeFormatter SNAPSHOT_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     // Class for managing the business logic of the application
     private AircraftPresenter presenter;
 
@@ -49,8 +66,15 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
     // This allows to connect the GUI selection with the real Aircraft record later in the code
     private List<Aircraft> aircraftData;
 
+    // Position of each shown aircraft in aircraftData and listModel, by id
+    // The change feed looks entries up by id, a scan of the list per changed id would block the EDT
+    private final Map<Integer, Integer> indexById = new HashMap<>();
+
     private boolean honeyTrapMode;
 
+    // Set by the first database list, a snapshot read later must not replace it
+    private boolean databaseDataShown;
+
     // Initializing the GUI Components
     //@param presenter The AircraftPresenter instance of the business logic between model and view.
     public AircraftViewImplementation(AircraftPresenter presenter, boolean honeyTrapMode) {
@@ -65,7 +89,7 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
     // The data is forwarded to the presenter  for validation and storage
     private void setupUI() {
         //Title to be displayed in the GUI
-        setTitle("Aircraft Maintenance Tracker Power By Rafael Besparas");
+        setTitle(TITLE);
         //Size of GUI
         setSize(600, 500);
         //Exit the QUI. When the user clicks the button X close the application
@@ -89,7 +113,7 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
             String tailNumber = JOptionPane.showInputDialog("Enter Tail Number:");
             //Check if both fields have been completed and have a value
             if (model != null && tailNumber != null) {
-                presenter.addAircraft(model, tailNumber);
+                presenter.addAircraftAsync(model, tailNumber);
             }
         });
 
@@ -101,10 +125,10 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
             int selectedIndex = aircraftList.getSelectedIndex();
             if (selectedIndex != -1) {
                 Aircraft selectedAircraft = aircraftData.get(selectedIndex);
-                String newModel = JOptionPane.showInputDialog("Enter new Model:", selectedAircraft.getModel());
-                String newTailNumber = JOptionPane.showInputDialog("Enter new Tail Number:", selectedAircraft.getTailNumber());
+                String newModel = JOptionPane.showInputDialog("Enter new Model:", selectedAircraft.model());
+                String newTailNumber = JOptionPane.showInputDialog("Enter new Tail Number:", selectedAircraft.tailNumber());
                 if (newModel != null && newTailNumber != null) {
-                    presenter.updateAircraft(selectedAircraft.getId(), newModel, newTailNumber);
+                    presenter.updateAircraftAsync(selectedAircraft.id(), newModel, newTailNumber);
                 }
             } else {
                 showMessage("Please select an aircraft to update.");
@@ -122,7 +146,7 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
                 int confirm = JOptionPane.showConfirmDialog(this,
                         "Are you sure you want to delete this aircraft?", "Confirm Deletion", JOptionPane.YES_NO_OPTION);
                 if (confirm == JOptionPane.YES_OPTION) {
-                    presenter.deleteAircraft(selectedAircraft.getId());
+                    presenter.deleteAircraftAsync(selectedAircraft.id());
                 }
             } else {
                 showMessage("Please select an aircraft to delete.");
@@ -144,11 +168,9 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
                 // This was created to check the data passed and because I have encoutered a lot of bugs to get the
                 // appropriate date format
                 try {
-                    SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
-                    formatter.setLenient(false);
-                    java.util.Date utilDate = formatter.parse(dueDateStr);
-                    java.sql.Date sqlDate = new java.sql.Date(utilDate.getTime()); // Correct
-                    presenter.addMaintenanceTask(selectedAircraft.getId(), description, sqlDate);
+                    // ISO format, strict: 2025-02-30 is rejected
+                    LocalDate dueDate = LocalDate.parse(dueDateStr);
+                    presenter.addMaintenanceTaskAsync(selectedAircraft.id(), description, dueDate);
                 } catch (Exception ex) {
                     showMessage("Invalid date format. Please enter as YYYY-MM-DD.");
                 }
@@ -159,15 +181,15 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
 
         // The button that when clikced will show the Maintenance Task GUI
         JButton viewTasksButton = new JButton("View Maintenance Tasks");
+        // The viewer loads one page of tasks at a time instead of the whole history
         viewTasksButton.addActionListener((ActionEvent e) -> {
-            List<MaintenanceTask> tasks = presenter.loadMaintenanceTasks();
-            new MaintenanceTaskViewer(tasks);
+            new MaintenanceTaskViewer(presenter, new TaskQuery());
         });
 
         JButton importButton = new JButton("Import Aircraft");
+        // The import runs in the background, the list is reloaded once it has finished
         importButton.addActionListener(e -> {
-            AircraftImportHandler.importAircraftFromFile(this);
-            presenter.loadAircraft();
+            AircraftImportHandler.importAircraftFromFile(this, presenter::loadAircraftAsync);
         });
 
         JButton importTaskButton = new JButton("Import Maintenance Tasks");
@@ -175,13 +197,20 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
             MaintenanceTaskImportHandler.importTasksFromFile(this);
         });
 
+        JButton exportTaskButton = new JButton("Export Maintenance Tasks");
+        // Streams all tasks to a CSV or Excel file chosen by the user, in the background
+        exportTaskButton.addActionListener(e -> {
+            MaintenanceTaskExportHandler.exportTasksToFile(this);
+        });
+
         JButton viewDetailsButton = new JButton("View Details");
         viewDetailsButton.addActionListener((ActionEvent e) -> {
             int selectedIndex = aircraftList.getSelectedIndex();
             if (selectedIndex != -1) {
                 Aircraft selectedAircraft = aircraftData.get(selectedIndex);
-                List<MaintenanceTask> allTasks = presenter.loadMaintenanceTasks();
-                new AircraftDetailView(this, selectedAircraft, allTasks);
+                // Only the figures of this aircraft are loaded, not the task list of the fleet
+                presenter.loadAircraftTaskStatsAsync(selectedAircraft.id())
+                        .thenAccept(stats -> new AircraftDetailView(this, selectedAircraft, stats));
             } else {
                 showMessage("Please select an aircraft to view details.");
             }
@@ -196,6 +225,7 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
             viewDetailsButton.setEnabled(false);
             importButton.setEnabled(false);
             importTaskButton.setEnabled(false);
+            exportTaskButton.setEnabled(false);
         }
 
         // The button panel is an object that will contain all the buttons
@@ -210,6 +240,7 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
         buttonPanel.add(viewTasksButton);
         buttonPanel.add(importTaskButton);
         buttonPanel.add(viewDetailsButton);
+        buttonPanel.add(exportTaskButton);
 
         dashboard = new MaintenanceDashboardPanel(presenter);
 
@@ -228,14 +259,100 @@ public class AircraftViewImplementation extends JFrame implements AircraftView {
     }
 
     //Override this from the AircraftView and also show the list with Aircrafts.
+    //The list update up to its repaint is reported to Flight Recorder
     //@param aircraftList List of Aircraft objects to be shown to the user.
     @Override
     public void showAircraftList(List<Aircraft> aircraftList) {
-        this.aircraftData = aircraftList;
-        listModel.clear();
+        databaseDataShown = true;
+        // Database data replaces a startup snapshot
+        setTitle(TITLE);
+        fillAircraftList(aircraftList);
+    }
+
+    private void fillAircraftList(List<Aircraft> aircraftList) {
+        UiRefreshEvent event = UiRefreshEvent.begin("aircraftList");
+        event.rows = aircraftList.size();
+        // Own copy, the single row callbacks below change it
+        this.aircraftData = new ArrayList<>(aircraftList);
+        indexFrom(0);
+        //Concatenate the model and the tail number in the list to be placed in a single entry
+        List<String> names = new ArrayList<>(aircraftList.size());
         for (Aircraft aircraft : aircraftList) {
-            //Concatenate the model and the tail number in the list to be placed in a single entry
-            listModel.addElement(aircraft.getModel() + " (" + aircraft.getTailNumber() + ")");
+            names.add(aircraft.displayName());
+        }
+        //One removal and one insertion event for the whole list, not one per aircraft
+        listModel.clear();
+        listModel.addAll(names);
+        event.commitAfterRepaint();
+    }
+
+    // Renders the snapshot of the previous session before the database answers.
+    // The title tells the user the data is cached until showAircraftList replaces it.
+    @Override
+    public void showSnapshot(List<Aircraft> aircraftList, FleetKpis kpis, Instant createdAt) {
+        if (databaseDataShown) {
+            return;
+        }
+        fillAircraftList(aircraftList);
+        dashboard.showCachedKpis(kpis);
+        setTitle(TITLE + " - cached data from " + SNAPSHOT_TIME.format(createdAt.atZone(ZoneId.systemDefault())));
+    }
+
+    // The single row callbacks keep aircraftData and listModel index aligned
+    // Only the changed entry is repainted, the selection of the other entries is kept
+    // They are idempotent, the change feed reports this terminal's own changes again
+
+    @Override
+    public void aircraftAdded(Aircraft aircraft) {
+        if (indexOf(aircraft.id()) != -1) {
+            aircraftUpdated(aircraft);
+            return;
+        }
+        append(aircraft);
+    }
+
+    @Override
+    public void aircraftUpdated(Aircraft aircraft) {
+        int index = indexOf(aircraft.id());
+        if (index == -1) {
+            // Inserted by another terminal
+            append(aircraft);
+            return;
+        }
+        aircraftData.set(index, aircraft);
+        listModel.set(index, aircraft.displayName());
+    }
+
+    @Override
+    public void aircraftRemoved(int id) {
+        int index = indexOf(id);
+        if (index != -1) {
+            aircraftData.remove(index);
+            listModel.remove(index);
+            indexById.remove(id);
+            // The entries after the removed one moved up by one
+            indexFrom(index);
+        }
+    }
+
+    private void append(Aircraft aircraft) {
+        indexById.put(aircraft.id(), aircraftData.size());
+        aircraftData.add(aircraft);
+        listModel.addElement(aircraft.displayName());
+    }
+
+    // Position of the aircraft in the displayed list, -1 if it is not shown
+    private int indexOf(int id) {
+        return indexById.getOrDefault(id, -1);
+    }
+
+    // Rebuilds the positions from the given index to the end of the list
+    private void indexFrom(int start) {
+        if (start == 0) {
+            indexById.clear();
+        }
+        for (int i = start; i < aircraftData.size(); i++) {
+            indexById.put(aircraftData.get(i).id(), i);
         }
     }
 
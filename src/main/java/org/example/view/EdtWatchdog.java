@@ -0,0 +1,199 @@
+package org.example.view;
+
+import org.example.metrics.Counter;
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.awt.EventQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+// ========================= DO-178C MODULE HEADER =========================
+// Module Name    : EdtWatchdog.java
+// Application    : Aircraft Maintenance Tracker
+// Description    : Measures how long the event dispatch thread takes to answer and logs
+//                  where it is stuck when it does not answer in time.
+// Safety Level   : DAL C (diagnostics only, no influence on the displayed data)
+// Developed By   : Rafail
+// Last Modified  : 2026-10-17
+// Notes          : Stalls are written to logs/edt-stalls.log, see logback.xml
+// ========================================================================
+
+/**
+ * EdtWatchdog: a daemon thread that posts a ping to the event dispatch thread at a fixed
+ * interval and measures how long it waits in the event queue.
+ *
+ * <ul>
+ *   <li>Every answered ping is recorded in the timer {@code edt.dispatchLatency}.</li>
+ *   <li>A ping answered after the threshold is a stall, recorded in the timer {@code edt.stalls}
+ *       (the histogram of the stall durations) and logged when it ends.</li>
+ *   <li>While a ping is unanswered past the threshold, the stack of the event dispatch thread is
+ *       captured once and logged, it shows the listener or repaint that blocks the screen.</li>
+ * </ul>
+ *
+ * At most one ping is in the queue at a time, so a blocked thread is not flooded and the cost
+ * is one queued event per interval, the stack is only read during a stall. A stall is measured
+ * from the post of its ping, it may have started up to one interval earlier.
+ *
+ * The stall messages use the logger {@code org.example.view.EdtWatchdog}, which logback.xml
+ * writes to its own rolling file.
+ */
+public final class EdtWatchdog {
+
+    private static final Logger log = LoggerFactory.getLogger(EdtWatchdog.class);
+
+    private static final Timer DISPATCH_LATENCY = Metrics.timer("edt.dispatchLatency");
+    private static final Timer STALLS = Metrics.timer("edt.stalls");
+    private static final Counter STACKS_CAPTURED = Metrics.counter("edt.stacksCaptured");
+
+    // Frames of the event dispatch thread written to the log, the top of the stack matters
+    private static final int MAX_LOGGED_FRAMES = 60;
+
+    // The watchdog of the application, null while it is off
+    private static EdtWatchdog running;
+
+    private final long intervalNanos;
+    private final long thresholdNanos;
+    private final Thread thread;
+
+    // System.nanoTime() when the outstanding ping was posted, 0 when it has been answered
+    private volatile long pingPostedAt;
+
+    // The event dispatch thread, known from its first answer
+    private volatile Thread dispatchThread;
+
+    // Stack of the last captured stall, also kept for a debugger or a test
+    private volatile StackTraceElement[] lastStallStack;
+
+    // Whether the stack of the outstanding ping was captured, only used by the watchdog thread
+    private boolean stackCaptured;
+
+    // Reused for every ping, posting allocates only the queue event
+    private final Runnable ping = this::answerPing;
+
+    private EdtWatchdog(long intervalMillis, long thresholdMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.thread = new Thread(this::run, "edt-watchdog");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts the watchdog of the application. Calling it again replaces the running one.
+     *
+     * @param intervalMillis milliseconds between two pings
+     * @param thresholdMillis dispatch latency from which a ping counts as a stall
+     * @return the started watchdog
+     */
+    public static synchronized EdtWatchdog start(long intervalMillis, long thresholdMillis) {
+        if (intervalMillis <= 0 || thresholdMillis <= 0) {
+            throw new IllegalArgumentException("Watchdog interval and threshold must be positive");
+        }
+        stop();
+        running = new EdtWatchdog(intervalMillis, thresholdMillis);
+        running.thread.start();
+        log.info("Event dispatch thread watchdog started, ping every {} ms, stall from {} ms",
+                intervalMillis, thresholdMillis);
+        return running;
+    }
+
+    /**
+     * Stops the watchdog of the application, if it runs.
+     */
+    public static synchronized void stop() {
+        if (running != null) {
+            running.thread.interrupt();
+            running = null;
+        }
+    }
+
+    /**
+     * @return the stack of the event dispatch thread during the last stall, null if none was captured
+     */
+    public StackTraceElement[] getLastStallStack() {
+        StackTraceElement[] stack = lastStallStack;
+        return stack == null ? null : stack.clone();
+    }
+
+    // ==================== WATCHDOG THREAD ====================
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            long posted = pingPostedAt;
+            long now = System.nanoTime();
+            if (posted == 0) {
+                // Set before the post, the ping may be answered at once
+                stackCaptured = false;
+                pingPostedAt = now;
+                EventQueue.invokeLater(ping);
+            } else if (!stackCaptured && now - posted >= thresholdNanos) {
+                stackCaptured = true;
+                captureStack(now - posted);
+            }
+            LockSupport.parkNanos(intervalNanos);
+        }
+    }
+
+    /**
+     * Logs where the event dispatch thread is while it does not answer.
+     */
+    private void captureStack(long blockedNanos) {
+        Thread edt = dispatchThread;
+        if (edt == null) {
+            // No ping answered yet, the thread is found by its name
+            edt = findDispatchThread();
+            if (edt == null) {
+                return;
+            }
+        }
+        StackTraceElement[] stack = edt.getStackTrace();
+        if (pingPostedAt == 0 || stack.length == 0) {
+            // Answered meanwhile, the stack no longer shows the stall
+            return;
+        }
+        lastStallStack = stack;
+        STACKS_CAPTURED.increment();
+        log.warn("Event dispatch thread blocked for {} ms, {} is {} at:{}",
+                TimeUnit.NANOSECONDS.toMillis(blockedNanos), edt.getName(), edt.getState(), format(stack));
+    }
+
+    private static Thread findDispatchThread() {
+        for (Thread candidate : Thread.getAllStackTraces().keySet()) {
+            if (candidate.getName().startsWith("AWT-EventQueue")) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String format(StackTraceElement[] stack) {
+        StringBuilder text = new StringBuilder();
+        int frames = Math.min(stack.length, MAX_LOGGED_FRAMES);
+        for (int i = 0; i < frames; i++) {
+            text.append(System.lineSeparator()).append("\tat ").append(stack[i]);
+        }
+        if (stack.length > frames) {
+            text.append(System.lineSeparator()).append("\t... ").append(stack.length - frames).append(" more");
+        }
+        return text.toString();
+    }
+
+    // ==================== EVENT DISPATCH THREAD ====================
+
+    /**
+     * Runs on the event dispatch thread: records how long the ping waited in the queue.
+     */
+    private void answerPing() {
+        long latency = System.nanoTime() - pingPostedAt;
+        dispatchThread = Thread.currentThread();
+        DISPATCH_LATENCY.record(latency);
+        if (latency >= thresholdNanos) {
+            STALLS.record(latency);
+            log.warn("Event dispatch thread stall ended after {} ms", TimeUnit.NANOSECONDS.toMillis(latency));
+        }
+        // The watchdog posts the next ping once it sees this
+        pingPostedAt = 0;
+    }
+}
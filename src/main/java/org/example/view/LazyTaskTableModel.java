@@ -0,0 +1,206 @@
+package org.example.view;
+
+import org.example.model.MaintenanceTask;
+import org.example.model.TaskQuery;
+import org.example.model.TaskSort;
+import org.example.presenter.AircraftPresenter;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Table model that loads maintenance tasks from the database only as their rows are painted.
+ *
+ * The model knows the number of matching tasks (one count query) but holds only the windows
+ * of rows that were scrolled into view, at most {@code maxWindows} of them in least recently
+ * used order. A row that is not loaded yet reads as null, its window is requested in the
+ * background and the rows are repainted when it arrives. Sorting is done by the database,
+ * the whole list is never in memory.
+ *
+ * Must be used on the Swing event dispatch thread only.
+ *
+ * @author Rafail
+ * @version 3.0
+ * @since 2026-10-17
+ */
+public class LazyTaskTableModel extends AbstractTableModel {
+
+    // Column titles of the task tables
+    static final String[] COLUMNS = {"Task ID", "Aircraft Name & TailNumber", "Description", "Due Date", "Status"};
+
+    // Database sort order of each column
+    private static final TaskSort[] COLUMN_SORT = {
+            TaskSort.ID, TaskSort.AIRCRAFT, TaskSort.DESCRIPTION, TaskSort.DUE_DATE, TaskSort.STATUS};
+
+    private final AircraftPresenter presenter;
+
+    // Rows per window fetched at once
+    private final int windowSize;
+
+    // Filters and current sort order
+    private TaskQuery query;
+
+    // Matching tasks, from the last count
+    private int rowCount;
+
+    // Loaded windows by window number, least recently used first
+    private final LinkedHashMap<Integer, List<MaintenanceTask>> windows;
+
+    // Windows requested but not arrived yet
+    private final Set<Integer> loading = new HashSet<>();
+
+    // Incremented on refresh and sort, answers to older requests are dropped
+    private int generation;
+
+    /**
+     * Creates the model and starts counting the matching tasks.
+     *
+     * @param presenter  presenter running the queries
+     * @param query      filters and initial sort order, its page size is the window size
+     * @param maxWindows windows kept in memory
+     */
+    public LazyTaskTableModel(AircraftPresenter presenter, TaskQuery query, int maxWindows) {
+        this.presenter = presenter;
+        this.query = query;
+        this.windowSize = query.getPageSize();
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<MaintenanceTask>> eldest) {
+                return size() > maxWindows;
+            }
+        };
+        refresh();
+    }
+
+    /**
+     * Drops the loaded rows and counts again, e.g. after the data changed. The rows on
+     * screen are loaded again when they are repainted.
+     */
+    public void refresh() {
+        int requestGeneration = ++generation;
+        windows.clear();
+        loading.clear();
+        presenter.countTasksAsync(query).thenAccept(count -> {
+            if (requestGeneration == generation) {
+                rowCount = count;
+                fireTableDataChanged();
+            }
+        });
+    }
+
+    /**
+     * Sorts by a column in the database, a second call for the same column reverses the order.
+     *
+     * @param column model index of the column
+     */
+    public void sortBy(int column) {
+        TaskSort sort = COLUMN_SORT[column];
+        boolean ascending = sort != query.getSort() || !query.isAscending();
+        query = query.withSort(sort, ascending);
+        generation++;
+        windows.clear();
+        loading.clear();
+        fireTableDataChanged();
+    }
+
+    /**
+     * @return the filters and the current sort order
+     */
+    public TaskQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * @param column model index of a column
+     * @return true if the table is sorted by that column
+     */
+    public boolean isSortedBy(int column) {
+        return COLUMN_SORT[column] == query.getSort();
+    }
+
+    /**
+     * @param row row index
+     * @return the task, or null while its window is loading
+     */
+    public MaintenanceTask getTaskAt(int row) {
+        int window = row / windowSize;
+        List<MaintenanceTask> tasks = windows.get(window);
+        if (tasks == null) {
+            request(window);
+            return null;
+        }
+        int index = row % windowSize;
+        return index < tasks.size() ? tasks.get(index) : null;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    // Raw values, the date is formatted by the renderer when the cell is painted
+    @Override
+    public Object getValueAt(int rowIndex, int columnIndex) {
+        MaintenanceTask task = getTaskAt(rowIndex);
+        if (task == null) {
+            return null;
+        }
+        switch (columnIndex) {
+            case 0:
+                return task.id();
+            case 1:
+                return task.aircraftDisplayName();
+            case 2:
+                return task.taskDescription();
+            case 3:
+                return task.dueDate();
+            default:
+                return task.status();
+        }
+    }
+
+    /**
+     * Loads a window in the background. The window continues from the last row of the
+     * previous window when that one is loaded (keyset), otherwise it is read by offset.
+     */
+    private void request(int window) {
+        if (!loading.add(window)) {
+            return;
+        }
+        List<MaintenanceTask> previous = window > 0 ? windows.get(window - 1) : null;
+        MaintenanceTask after = previous != null && previous.size() == windowSize ? previous.get(windowSize - 1) : null;
+
+        int requestGeneration = generation;
+        presenter.loadTaskRowsAsync(query, window * windowSize, windowSize, after).whenComplete((tasks, error) -> {
+            // Completes on the EDT
+            if (requestGeneration != generation) {
+                return;
+            }
+            loading.remove(window);
+            if (error != null) {
+                // Logged by the presenter, the rows stay empty until the next refresh
+                return;
+            }
+            windows.put(window, tasks);
+            int first = window * windowSize;
+            int last = Math.min(first + windowSize, rowCount) - 1;
+            if (first <= last) {
+                fireTableRowsUpdated(first, last);
+            }
+        });
+    }
+}
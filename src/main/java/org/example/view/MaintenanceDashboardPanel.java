@@ -1,21 +1,25 @@
 package org.example.view;
 
 
-import org.example.model.Aircraft;
-import org.example.model.MaintenanceTask;
+import org.example.db.ChangeFeed;
+import org.example.jfr.UiRefreshEvent;
+import org.example.model.FleetKpis;
 import org.example.presenter.AircraftPresenter;
 
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
-import java.time.LocalDate;
-import java.util.List;
 
 /**
  * Dashboard panel displaying maintenance KPIs:
  * - Total aircraft
  * - Aircraft with pending maintenance
- * - Completed maintenance tasks this month
+ * - Completed maintenance tasks this month (by completion time, not due date)
+ *
+ * The figures are aggregated by the database, the panel never loads the aircraft or task lists.
+ * While the panel is on screen it refreshes itself when the change feed reports changes. At most
+ * one query runs at a time: changes reported while it runs start a single follow-up query once
+ * it has answered, so a busy feed does not pile up KPI queries on the connection pool.
  */
 public class MaintenanceDashboardPanel extends JPanel {
 
@@ -29,6 +33,21 @@ public class MaintenanceDashboardPanel extends JPanel {
     // Instantiate the presenter object
     private AircraftPresenter presenter;
 
+    // Refreshes the figures on changes from any terminal, the refresh state belongs to the event thread
+    private final ChangeFeed.Listener feedListener = batch -> SwingUtilities.invokeLater(this::refreshDashboard);
+
+    // Set by the first database figures, the startup snapshot must not replace them
+    private boolean databaseKpisShown;
+
+    // True while a KPI query runs, only used on the event thread
+    private boolean refreshRunning;
+
+    // A refresh was requested while the query ran, one follow-up query covers all of them
+    private boolean refreshPending;
+
+    // Incremented per query, answers to older queries are dropped
+    private int generation;
+
     // Constructor and how the view starts
     public MaintenanceDashboardPanel(AircraftPresenter presenter) {
         this.presenter = presenter;
@@ -49,6 +68,19 @@ public class MaintenanceDashboardPanel extends JPanel {
         refreshDashboard();
     }
 
+    // Listen for changes only while the panel is displayable, a panel that is never shown costs nothing
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        ChangeFeed.addListener(feedListener);
+    }
+
+    @Override
+    public void removeNotify() {
+        ChangeFeed.removeListener(feedListener);
+        super.removeNotify();
+    }
+
     // Creates a styled label for visual consistency
     private JLabel createStyledLabel(String text) {
         JLabel label = new JLabel(text);
@@ -57,26 +89,44 @@ public class MaintenanceDashboardPanel extends JPanel {
         return label;
     }
 
-    // Updates the KPI values from the presenter
+    // Updates the KPI values from the presenter, runs on the event thread
+    // The database computes the figures in one query, the labels are set on the event thread
+    // The cycle from this call to the repainted labels is reported to Flight Recorder
     public void refreshDashboard() {
-        List<Aircraft> aircraftList = presenter.getAircraftList();
-        List<MaintenanceTask> taskList = presenter.loadMaintenanceTasks();
-
-        totalAircraftLabel.setText("Total Aircraft: " + aircraftList.size());
-
-        long dueOrPending = taskList.stream()
-                .filter(task -> "Pending".equalsIgnoreCase(task.getStatus()))
-                .count();
-        dueMaintenanceLabel.setText("Aircraft Due for Maintenance: " + dueOrPending);
-
-        long completedThisMonth = taskList.stream()
-                .filter(task -> "Completed".equalsIgnoreCase(task.getStatus()))
-                .filter(task -> {
-                    LocalDate taskDate = new java.sql.Date(task.getDueDate().getTime()).toLocalDate();
-                    LocalDate now = LocalDate.now();
-                    return taskDate.getMonth() == now.getMonth() && taskDate.getYear() == now.getYear();
-                })
-                .count();
-        completedThisMonthLabel.setText("Completed Maintenance This Month: " + completedThisMonth);
+        if (refreshRunning) {
+            // The running query may have read the data before the change, ask again once it answers
+            refreshPending = true;
+            return;
+        }
+        refreshRunning = true;
+        int requestGeneration = ++generation;
+        UiRefreshEvent event = UiRefreshEvent.begin("dashboard");
+        // Completes on the event thread, also when the query failed
+        presenter.loadFleetKpisAsync().whenComplete((kpis, error) -> {
+            refreshRunning = false;
+            if (kpis != null && requestGeneration == generation) {
+                databaseKpisShown = true;
+                showKpis(kpis);
+                event.commitAfterRepaint();
+            }
+            if (refreshPending) {
+                refreshPending = false;
+                refreshDashboard();
+            }
+        });
+    }
+
+    // Shows the figures of the startup snapshot unless the database figures arrived first
+    public void showCachedKpis(FleetKpis kpis) {
+        if (!databaseKpisShown) {
+            showKpis(kpis);
+        }
+    }
+
+    // Shows the KPIs, runs on the event thread
+    public void showKpis(FleetKpis kpis) {
+        totalAircraftLabel.setText("Total Aircraft: " + kpis.totalAircraft());
+        dueMaintenanceLabel.setText("Aircraft Due for Maintenance: " + kpis.pendingTasks());
+        completedThisMonthLabel.setText("Completed Maintenance This Month: " + kpis.completedThisMonth());
     }
 }
@@ -1,12 +1,19 @@
 package org.example.view;
 
-import org.example.model.MaintenanceTask;
+import org.example.db.ChangeBatch;
+import org.example.db.ChangeFeed;
+import org.example.model.TaskQuery;
+import org.example.presenter.AircraftPresenter;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.table.DefaultTableCellRenderer;
+import javax.swing.table.TableColumn;
+import javax.swing.table.TableModel;
 import java.awt.*;
-import java.text.SimpleDateFormat;
-import java.util.List;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 /**
  * Swing GUI window for displaying scheduled maintenance tasks.
@@ -17,8 +24,10 @@ import java.util.List;
  * This class provides a read only visual interface for monitoring the
  * current maintenance schedule and status of all aircraft in the system.
  *
- *It uses JTable with a DefaultTableModel for dynamic row updates and
- * formats dates for human readability.
+ * The viewer is virtual: it counts the tasks matching a {@link TaskQuery} and loads only the
+ * rows scrolled into view ({@link LazyTaskTableModel}), so it opens at once on any table size.
+ * Dates are formatted by the cell renderer only for the cells that are painted. Clicking a column title sorts in the database.
+ * The rows are read again when the change feed reports changed tasks or aircraft.
  *
  * @author Rafail
  * @version 2.0
@@ -27,18 +36,83 @@ import java.util.List;
 
 public class MaintenanceTaskViewer extends JFrame {
 
+    // Windows of rows the lazy table keeps in memory
+    private static final int MAX_CACHED_WINDOWS = 50;
+
+    // Shared and thread safe, unlike SimpleDateFormat
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
     //This is the Swing table to visually display the tasks
     private JTable taskTable;
 
-    // This is the dataModel, it contains the actual content, it allows to dynamically add rows
-    private DefaultTableModel tableModel;
+    // The virtual model and the task count below the table
+    private LazyTaskTableModel lazyModel;
+    private JLabel countLabel;
+
+    // Reloads the rows when tasks or aircraft names change
+    private final ChangeFeed.Listener feedListener = this::onChanges;
 
     /**
-     * Maintenance Task Viewer GUI and loads task data into a table.
+     * Virtual Maintenance Task Viewer, shows all tasks matching the query and loads them
+     * window by window while the user scrolls.
      *
-     * @param taskList A list of MaintenanceTask objects to display
+     * @param presenter presenter running the queries
+     * @param query     filters and initial sort order, the page size is the number of rows loaded at once
+     */
+    public MaintenanceTaskViewer(AircraftPresenter presenter, TaskQuery query) {
+        lazyModel = new LazyTaskTableModel(presenter, query, MAX_CACHED_WINDOWS);
+        setupTable(lazyModel);
+
+        // Sorting happens in the database, the title shows the order
+        taskTable.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int column = taskTable.convertColumnIndexToModel(taskTable.columnAtPoint(e.getPoint()));
+                if (column >= 0) {
+                    lazyModel.sortBy(column);
+                    updateSortTitles();
+                }
+            }
+        });
+        updateSortTitles();
+
+        countLabel = new JLabel("Counting tasks...");
+        lazyModel.addTableModelListener(e -> countLabel.setText(lazyModel.getRowCount() + " tasks"));
+        getContentPane().add(countLabel, BorderLayout.SOUTH);
+
+        setVisible(true);
+    }
+
+    /**
+     * Called on the feed thread, the counts and the rows on screen are read again.
+     */
+    private void onChanges(ChangeBatch batch) {
+        if (batch.isTasksChanged() || batch.isAircraftChanged()) {
+            SwingUtilities.invokeLater(() -> {
+                if (isDisplayable()) {
+                    lazyModel.refresh();
+                }
+            });
+        }
+    }
+
+    // The viewer listens while its window exists, dispose() removes the listener
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        ChangeFeed.addListener(feedListener);
+    }
+
+    @Override
+    public void removeNotify() {
+        ChangeFeed.removeListener(feedListener);
+        super.removeNotify();
+    }
+
+    /**
+     * Creates the window and the task table on the given model.
      */
-    public MaintenanceTaskViewer(List<MaintenanceTask> taskList) {
+    private void setupTable(TableModel model) {
         setTitle("Maintenance Task Viewer");
         setSize(700, 400);
         //Centers the window on the screen when it opens.
@@ -46,42 +120,44 @@ public class MaintenanceTaskViewer extends JFrame {
         //Specifies what happens when the user clicks the X button on the window.
         setDefaultCloseOperation(DISPOSE_ON_CLOSE);
 
-        //Initialize the table model with the column headers to appear in the GUI
-        tableModel = new DefaultTableModel();
-        tableModel.addColumn("Task ID");
-        tableModel.addColumn("Aircraft Name & TailNumber");
-        tableModel.addColumn("Description");
-        tableModel.addColumn("Due Date");
-        tableModel.addColumn("Status");
-
         // Add the columns in the GUI
-        taskTable = new JTable(tableModel);
-
-        // Load the data of the tasks and show it in the GUI
-        fillTaskTable(taskList);
+        taskTable = new JTable(model);
+        // Formats the cells when they are painted
+        taskTable.setDefaultRenderer(Object.class, new TaskCellRenderer());
 
         JScrollPane scrollPane = new JScrollPane(taskTable);
         getContentPane().add(scrollPane, BorderLayout.CENTER);
+    }
 
-        setVisible(true);
+    /**
+     * Marks the sorted column title with the direction.
+     */
+    private void updateSortTitles() {
+        for (int i = 0; i < taskTable.getColumnCount(); i++) {
+            TableColumn column = taskTable.getColumnModel().getColumn(i);
+            int modelIndex = column.getModelIndex();
+            String title = LazyTaskTableModel.COLUMNS[modelIndex];
+            if (lazyModel.isSortedBy(modelIndex)) {
+                title += lazyModel.getQuery().isAscending() ? " ▲" : " ▼";
+            }
+            column.setHeaderValue(title);
+        }
+        taskTable.getTableHeader().repaint();
     }
 
     /**
-     * Populates the table with maintenance task data.
-     *
-     * @param taskList List of MaintenanceTask objects
+     * Renders dates as yyyy-MM-dd and rows that are still loading as a placeholder.
      */
-    private void fillTaskTable(List<MaintenanceTask> taskList) {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-        for (MaintenanceTask task : taskList) {
-            Object[] row = {
-                    task.getId(),
-                    task.getAircraftDisplayName(),
-                    task.getTaskDescription(),
-                    sdf.format(task.getDueDate()),
-                    task.getStatus()
-            };
-            tableModel.addRow(row);
+    private static class TaskCellRenderer extends DefaultTableCellRenderer {
+        @Override
+        protected void setValue(Object value) {
+            if (value == null) {
+                setText("Loading...");
+            } else if (value instanceof LocalDate) {
+                setText(((LocalDate) value).format(DATE_FORMAT));
+            } else {
+                setText(value.toString());
+            }
         }
     }
-}
\ No newline at end of file
+}
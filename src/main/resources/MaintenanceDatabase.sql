@@ -1,7 +1,9 @@
+-- Reference copy of the maintenance_task table. The schema is created and evolved by the
+-- versioned migrations in db/migration, applied by SchemaMigrator at startup.
 CREATE TABLE maintenance_task (
     id SERIAL PRIMARY KEY,
     aircraft_id INT REFERENCES aircraft(id),
     task_description VARCHAR(255) NOT NULL,
     due_date DATE NOT NULL,
     status VARCHAR(20) NOT NULL
-);
\ No newline at end of file
+);
@@ -1,5 +1,11 @@
+-- Reference copy of the aircraft table. The schema is created and evolved by the
+-- versioned migrations in db/migration, applied by SchemaMigrator at startup.
 CREATE TABLE aircraft (
     id SERIAL PRIMARY KEY,
     model VARCHAR(100) NOT NULL,
     tail_number VARCHAR(50) NOT NULL
-);
\ No newline at end of file
+);
+
+-- Tail numbers identify an aircraft, the imports rely on this index for INSERT ... ON CONFLICT.
+-- On an existing database remove duplicate tail numbers before creating it.
+CREATE UNIQUE INDEX IF NOT EXISTS aircraft_tail_number_key ON aircraft (tail_number);
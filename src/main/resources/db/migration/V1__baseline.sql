@@ -0,0 +1,15 @@
+-- Baseline: the tables of SQLFile.sql and MaintenanceDatabase.sql.
+-- IF NOT EXISTS lets databases created from those files adopt the migrations unchanged.
+CREATE TABLE IF NOT EXISTS aircraft (
+    id SERIAL PRIMARY KEY,
+    model VARCHAR(100) NOT NULL,
+    tail_number VARCHAR(50) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS maintenance_task (
+    id SERIAL PRIMARY KEY,
+    aircraft_id INT REFERENCES aircraft(id),
+    task_description VARCHAR(255) NOT NULL,
+    due_date DATE NOT NULL,
+    status VARCHAR(20) NOT NULL
+);
@@ -0,0 +1,14 @@
+-- Indexes for the queries the application runs on every screen.
+
+-- Join of tasks to their aircraft and the per-aircraft task lists
+CREATE INDEX IF NOT EXISTS maintenance_task_aircraft_id_idx ON maintenance_task (aircraft_id);
+
+-- Task list ordered by due date, read in index order instead of sorted
+CREATE INDEX IF NOT EXISTS maintenance_task_due_date_idx ON maintenance_task (due_date);
+
+-- Dashboard filters on status, ordered by due date inside each status
+CREATE INDEX IF NOT EXISTS maintenance_task_status_due_date_idx ON maintenance_task (status, due_date);
+
+-- One aircraft per tail number, used by the imports (INSERT ... ON CONFLICT).
+-- Fails on databases that still contain duplicate tail numbers, remove them first.
+CREATE UNIQUE INDEX IF NOT EXISTS aircraft_tail_number_key ON aircraft (tail_number);
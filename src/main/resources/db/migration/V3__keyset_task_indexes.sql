@@ -0,0 +1,14 @@
+-- Keyset pagination reads tasks in (due_date, id) order and continues from the last key of a page.
+-- The id column makes the order unique for tasks due on the same day, so the composite indexes
+-- below replace the V2 indexes they extend.
+
+CREATE INDEX IF NOT EXISTS maintenance_task_due_date_id_idx ON maintenance_task (due_date, id);
+DROP INDEX IF EXISTS maintenance_task_due_date_idx;
+
+-- Paged task list of one aircraft, also serves the join on aircraft_id
+CREATE INDEX IF NOT EXISTS maintenance_task_aircraft_due_date_id_idx ON maintenance_task (aircraft_id, due_date, id);
+DROP INDEX IF EXISTS maintenance_task_aircraft_id_idx;
+
+-- Paged task list filtered on status
+CREATE INDEX IF NOT EXISTS maintenance_task_status_due_date_id_idx ON maintenance_task (status, due_date, id);
+DROP INDEX IF EXISTS maintenance_task_status_due_date_idx;
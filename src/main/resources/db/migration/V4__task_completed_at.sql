@@ -0,0 +1,33 @@
+-- Completion time of a task. "Completed this month" used to key off due_date, which says
+-- when the work was planned, not when it was done.
+ALTER TABLE maintenance_task ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP WITH TIME ZONE;
+
+-- Tasks completed before this column existed: the due date is the best known approximation
+UPDATE maintenance_task SET completed_at = due_date::timestamptz
+WHERE lower(status) = 'completed' AND completed_at IS NULL;
+
+-- Kept in the database so every writer (presenter, row imports, COPY merge) is covered:
+-- set when a task becomes Completed, cleared when it is reopened
+CREATE OR REPLACE FUNCTION maintenance_task_set_completed_at() RETURNS trigger AS $$
+BEGIN
+    IF lower(NEW.status) = 'completed' THEN
+        IF TG_OP = 'INSERT' OR lower(OLD.status) IS DISTINCT FROM 'completed' THEN
+            NEW.completed_at := COALESCE(NEW.completed_at, now());
+        END IF;
+    ELSE
+        NEW.completed_at := NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS maintenance_task_completed_at ON maintenance_task;
+CREATE TRIGGER maintenance_task_completed_at
+    BEFORE INSERT OR UPDATE OF status ON maintenance_task
+    FOR EACH ROW EXECUTE FUNCTION maintenance_task_set_completed_at();
+
+-- Dashboard KPIs only read the open and the recently completed tasks, not the whole history
+CREATE INDEX IF NOT EXISTS maintenance_task_completed_at_idx ON maintenance_task (completed_at)
+    WHERE completed_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS maintenance_task_pending_idx ON maintenance_task (id)
+    WHERE lower(status) = 'pending';
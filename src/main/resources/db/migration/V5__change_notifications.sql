@@ -0,0 +1,30 @@
+-- Change feed for terminals working on the same database, received by ChangeFeed (LISTEN amt_changes).
+-- Payloads are "<table>,<I|U|D>[,<id>]" and carry no row data, receivers read what they show.
+
+-- Aircraft: one notification per row, the id lets open lists patch that entry
+CREATE OR REPLACE FUNCTION notify_aircraft_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('amt_changes',
+            'aircraft,' || left(TG_OP, 1) || ',' || CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS aircraft_notify_change ON aircraft;
+CREATE TRIGGER aircraft_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON aircraft
+    FOR EACH ROW EXECUTE FUNCTION notify_aircraft_change();
+
+-- Tasks: one notification per statement. Identical payloads of a transaction are delivered once,
+-- so a bulk import of any size sends one notification per operation, not one per row.
+CREATE OR REPLACE FUNCTION notify_task_change() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_notify('amt_changes', 'maintenance_task,' || left(TG_OP, 1));
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS maintenance_task_notify_change ON maintenance_task;
+CREATE TRIGGER maintenance_task_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON maintenance_task
+    FOR EACH STATEMENT EXECUTE FUNCTION notify_task_change();
@@ -0,0 +1,40 @@
+-- Task status is a closed set (TaskStatus in the application). Imports used to store any
+-- spelling ("done", "OPEN", "Complete"), which every status query had to fold with lower().
+-- The known spellings are mapped like TaskStatus.fromText and the column is then restricted to the labels.
+
+-- Pending spellings
+UPDATE maintenance_task SET status = 'Pending'
+WHERE status <> 'Pending' AND lower(btrim(status)) IN ('pending', 'open');
+
+-- Completed spellings, completed_at is backfilled from the due date as V4 did
+UPDATE maintenance_task
+SET status = 'Completed', completed_at = COALESCE(completed_at, due_date::timestamptz)
+WHERE status <> 'Completed' AND lower(btrim(status)) IN ('completed', 'complete', 'done');
+
+-- Any other value (e.g. "Deferred") is part of the maintenance record and cannot be mapped without
+-- losing it. The migration stops, nothing of it is kept, and the rows must be corrected by hand.
+DO $$
+DECLARE
+    unknown_count BIGINT;
+    unknown_values TEXT;
+BEGIN
+    SELECT count(*) INTO unknown_count
+    FROM maintenance_task WHERE status NOT IN ('Pending', 'Completed');
+
+    IF unknown_count > 0 THEN
+        SELECT string_agg(quote_literal(status), ', ') INTO unknown_values
+        FROM (SELECT DISTINCT status FROM maintenance_task
+              WHERE status NOT IN ('Pending', 'Completed') ORDER BY status LIMIT 10) unknown;
+        RAISE EXCEPTION '% maintenance tasks have a status other than Pending or Completed: %', unknown_count, unknown_values
+            USING HINT = 'Correct these rows to Pending or Completed, then start the application again';
+    END IF;
+END;
+$$;
+
+ALTER TABLE maintenance_task DROP CONSTRAINT IF EXISTS maintenance_task_status_check;
+ALTER TABLE maintenance_task ADD CONSTRAINT maintenance_task_status_check
+    CHECK (status IN ('Pending', 'Completed'));
+
+-- Status queries compare the label directly now, the V4 index on lower(status) no longer matches them
+DROP INDEX IF EXISTS maintenance_task_pending_idx;
+CREATE INDEX maintenance_task_pending_idx ON maintenance_task (id) WHERE status = 'Pending';
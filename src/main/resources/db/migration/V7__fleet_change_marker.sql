@@ -0,0 +1,25 @@
+-- Change marker of the fleet data, read by FleetSnapshot to skip rewriting a snapshot whose data
+-- did not change. Every statement that changes aircraft or tasks advances the sequence.
+-- A sequence is not transactional and takes no lock, writers of other terminals never wait on it.
+CREATE SEQUENCE IF NOT EXISTS fleet_change_seq;
+-- Called once, so the marker is known before the first change
+SELECT nextval('fleet_change_seq');
+
+CREATE OR REPLACE FUNCTION advance_fleet_change_marker() RETURNS trigger AS $$
+BEGIN
+    PERFORM nextval('fleet_change_seq');
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Once per statement. The COPY merge of a large import advances it once; the row import sends every
+-- batch entry as a statement of its own and advances it once per row, a nextval costs no lock either way
+DROP TRIGGER IF EXISTS aircraft_change_marker ON aircraft;
+CREATE TRIGGER aircraft_change_marker
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON aircraft
+    FOR EACH STATEMENT EXECUTE FUNCTION advance_fleet_change_marker();
+
+DROP TRIGGER IF EXISTS maintenance_task_change_marker ON maintenance_task;
+CREATE TRIGGER maintenance_task_change_marker
+    AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON maintenance_task
+    FOR EACH STATEMENT EXECUTE FUNCTION advance_fleet_change_marker();
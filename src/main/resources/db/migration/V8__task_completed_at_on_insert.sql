@@ -0,0 +1,20 @@
+-- A task inserted as Completed was stamped with the time of the insert. Importing last year's
+-- history then counted it as "completed this month". Only a change to Completed on this
+-- database is known to happen now; an inserted completed task gets its due date, the same
+-- approximation V4 and V6 use for the tasks completed before completed_at existed.
+-- Tasks imported before this version keep the stamp they got, their import time cannot be told
+-- apart from a real completion.
+CREATE OR REPLACE FUNCTION maintenance_task_set_completed_at() RETURNS trigger AS $$
+BEGIN
+    IF lower(NEW.status) = 'completed' THEN
+        IF TG_OP = 'INSERT' THEN
+            NEW.completed_at := COALESCE(NEW.completed_at, NEW.due_date::timestamptz);
+        ELSIF lower(OLD.status) IS DISTINCT FROM 'completed' THEN
+            NEW.completed_at := COALESCE(NEW.completed_at, now());
+        END IF;
+    ELSE
+        NEW.completed_at := NULL;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,138 @@
+package db;
+
+import org.example.db.ChangeBatch;
+import org.example.db.ChangeFeed;
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChangeFeedTest {
+
+    @Test
+    public void testChangesArriveCoalesced() throws Exception {
+        SchemaMigrator.migrate();
+        BlockingQueue<ChangeBatch> batches = new LinkedBlockingQueue<>();
+        ChangeFeed.Listener listener = batches::add;
+        ChangeFeed.addListener(listener);
+        ChangeFeed.start();
+
+        Set<Integer> aircraftIds = new HashSet<>();
+        try (Connection conn = Database.getConnection()) {
+            awaitListening(conn);
+
+            // Three aircraft and fifty tasks in one transaction
+            conn.setAutoCommit(false);
+            try (PreparedStatement insertAircraft = conn.prepareStatement(
+                    "INSERT INTO aircraft (model, tail_number) VALUES ('FeedTest', ?) RETURNING id");
+                 PreparedStatement insertTask = conn.prepareStatement(
+                         "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) "
+                                 + "VALUES (?, 'Feed check', CURRENT_DATE, 'Pending')")) {
+                for (int i = 0; i < 3; i++) {
+                    insertAircraft.setString(1, "FEED-" + System.nanoTime());
+                    try (ResultSet rs = insertAircraft.executeQuery()) {
+                        assertTrue(rs.next());
+                        aircraftIds.add(rs.getInt(1));
+                    }
+                }
+                for (int i = 0; i < 50; i++) {
+                    insertTask.setInt(1, aircraftIds.iterator().next());
+                    insertTask.addBatch();
+                }
+                insertTask.executeBatch();
+            }
+            conn.commit();
+
+            // The whole transaction falls into one coalescing window
+            ChangeBatch batch = batches.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch, "no change batch received");
+            assertEquals(aircraftIds, batch.getAircraftIds());
+            assertTrue(batch.isTasksChanged());
+            assertFalse(batch.isResync());
+        } finally {
+            ChangeFeed.stop();
+            ChangeFeed.removeListener(listener);
+            deleteTestRows(aircraftIds);
+        }
+    }
+
+    @Test
+    public void testBulkChangeIsDeliveredAsAllAircraft() throws Exception {
+        SchemaMigrator.migrate();
+        BlockingQueue<ChangeBatch> batches = new LinkedBlockingQueue<>();
+        ChangeFeed.Listener listener = batches::add;
+        ChangeFeed.addListener(listener);
+        ChangeFeed.start();
+
+        Set<Integer> aircraftIds = new HashSet<>();
+        try (Connection conn = Database.getConnection()) {
+            awaitListening(conn);
+
+            // More aircraft than a batch names, in one statement
+            try (PreparedStatement insertAircraft = conn.prepareStatement(
+                    "INSERT INTO aircraft (model, tail_number) "
+                            + "SELECT 'FeedBulk', 'BULK-' || ? || '-' || g FROM generate_series(1, 300) g RETURNING id")) {
+                insertAircraft.setLong(1, System.nanoTime());
+                try (ResultSet rs = insertAircraft.executeQuery()) {
+                    while (rs.next()) {
+                        aircraftIds.add(rs.getInt(1));
+                    }
+                }
+            }
+
+            ChangeBatch batch = batches.poll(5, TimeUnit.SECONDS);
+            assertNotNull(batch, "no change batch received");
+            assertTrue(batch.isAllAircraft());
+            assertTrue(batch.isAircraftChanged());
+            assertTrue(batch.getAircraftIds().isEmpty());
+            assertFalse(batch.isResync());
+        } finally {
+            ChangeFeed.stop();
+            ChangeFeed.removeListener(listener);
+            deleteTestRows(aircraftIds);
+        }
+    }
+
+    // LISTEN runs on the feed thread, changes committed before it are not reported
+    private static void awaitListening(Connection conn) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        try (Statement stmt = conn.createStatement()) {
+            while (System.currentTimeMillis() < deadline) {
+                try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM pg_stat_activity "
+                        + "WHERE application_name = 'aircraft-change-feed' AND query LIKE 'LISTEN%'")) {
+                    rs.next();
+                    if (rs.getInt(1) > 0) {
+                        return;
+                    }
+                }
+                Thread.sleep(50);
+            }
+        }
+        fail("change feed did not start listening");
+    }
+
+    private static void deleteTestRows(Set<Integer> aircraftIds) throws Exception {
+        if (aircraftIds.isEmpty()) {
+            return;
+        }
+        try (Connection conn = Database.getConnection();
+             PreparedStatement deleteTasks = conn.prepareStatement("DELETE FROM maintenance_task WHERE aircraft_id = ANY (?)");
+             PreparedStatement deleteAircraft = conn.prepareStatement("DELETE FROM aircraft WHERE id = ANY (?)")) {
+            deleteTasks.setArray(1, conn.createArrayOf("integer", aircraftIds.toArray()));
+            deleteTasks.executeUpdate();
+            deleteAircraft.setArray(1, conn.createArrayOf("integer", aircraftIds.toArray()));
+            deleteAircraft.executeUpdate();
+        }
+    }
+}
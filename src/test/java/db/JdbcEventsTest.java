@@ -0,0 +1,77 @@
+package db;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.db.Database;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.postgresql.PGConnection;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JdbcEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testStatementsAreRecordedWithShapeAndRows() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.example.JdbcStatement").withThreshold(Duration.ZERO);
+            recording.enable("org.example.ConnectionOpen").withThreshold(Duration.ZERO);
+            recording.start();
+
+            try (Connection conn = Database.getConnection()) {
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("SELECT g FROM generate_series(1, 7) g WHERE 'x' = 'x'")) {
+                    while (rs.next()) {
+                        assertTrue(rs.getInt(1) > 0);
+                    }
+                }
+                try (PreparedStatement pstmt = conn.prepareStatement("SELECT count(*) FROM aircraft WHERE id = ?")) {
+                    pstmt.setInt(1, 1);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        assertTrue(rs.next());
+                    }
+                }
+                // The driver stays reachable through the traced connection
+                assertNotNull(conn.unwrap(PGConnection.class));
+            }
+
+            recording.stop();
+            Path file = tempDir.resolve("jdbc.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> statements = events.stream()
+                .filter(e -> e.getEventType().getName().equals("org.example.JdbcStatement"))
+                .collect(Collectors.toList());
+        RecordedEvent series = statements.stream()
+                .filter(e -> e.getString("sql").contains("generate_series"))
+                .findFirst().orElseThrow();
+        assertEquals("SELECT g FROM generate_series(?, ?) g WHERE ? = ?", series.getString("sql"));
+        assertEquals("query", series.getString("operation"));
+        assertEquals(7, series.getLong("rows"));
+
+        RecordedEvent prepared = statements.stream()
+                .filter(e -> e.getString("sql").startsWith("SELECT count(*) FROM aircraft"))
+                .findFirst().orElseThrow();
+        assertEquals("SELECT count(*) FROM aircraft WHERE id = ?", prepared.getString("sql"));
+        assertEquals(1, prepared.getLong("rows"));
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("org.example.ConnectionOpen")
+                && e.getBoolean("pooled")));
+    }
+}
@@ -0,0 +1,123 @@
+package db;
+
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SchemaMigratorTest {
+
+    @Test
+    public void testMigrateIsIdempotent() throws Exception {
+        SchemaMigrator.migrate();
+
+        // Everything is applied now, a second run has nothing to do
+        assertEquals(0, SchemaMigrator.migrate());
+
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT min(version), max(version), count(*) FROM schema_version")) {
+            assertTrue(rs.next());
+            assertEquals(1, rs.getInt(1));
+            assertEquals(rs.getInt(2), rs.getInt(3));
+        }
+    }
+
+    @Test
+    public void testHotPathIndexesExist() throws Exception {
+        SchemaMigrator.migrate();
+
+        Set<String> indexes = new HashSet<>();
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT indexname FROM pg_indexes WHERE tablename IN ('aircraft', 'maintenance_task')")) {
+            while (rs.next()) {
+                indexes.add(rs.getString(1));
+            }
+        }
+        assertTrue(indexes.contains("maintenance_task_due_date_id_idx"));
+        assertTrue(indexes.contains("maintenance_task_aircraft_due_date_id_idx"));
+        assertTrue(indexes.contains("maintenance_task_status_due_date_id_idx"));
+        assertTrue(indexes.contains("aircraft_tail_number_key"));
+    }
+
+    @Test
+    public void testCompletedAtFollowsStatus() throws Exception {
+        SchemaMigrator.migrate();
+
+        try (Connection conn = Database.getConnection()) {
+            // Nothing is committed, the trigger is observed inside one transaction
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                ResultSet rs = stmt.executeQuery(
+                        "INSERT INTO aircraft (model, tail_number) VALUES ('TestPlane', 'T-COMPLETED') RETURNING id");
+                assertTrue(rs.next());
+                int aircraftId = rs.getInt(1);
+
+                rs = stmt.executeQuery("INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) "
+                        + "VALUES (" + aircraftId + ", 'Check', DATE '2020-01-01', 'Pending') RETURNING id");
+                assertTrue(rs.next());
+                int taskId = rs.getInt(1);
+
+                try (PreparedStatement update = conn.prepareStatement(
+                        "UPDATE maintenance_task SET status = ? WHERE id = ? RETURNING completed_at")) {
+                    update.setInt(2, taskId);
+
+                    // Completing the task stamps the completion time, not the due date
+                    update.setString(1, "Completed");
+                    rs = update.executeQuery();
+                    assertTrue(rs.next());
+                    assertNotNull(rs.getTimestamp(1));
+                    assertTrue(rs.getTimestamp(1).toLocalDateTime().getYear() > 2020);
+
+                    // Reopening clears it again
+                    update.setString(1, "Pending");
+                    rs = update.executeQuery();
+                    assertTrue(rs.next());
+                    assertNull(rs.getTimestamp(1));
+                }
+
+                // A task inserted as completed, e.g. imported history, counts as done on its due date
+                rs = stmt.executeQuery("INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) "
+                        + "VALUES (" + aircraftId + ", 'Old check', DATE '2020-01-01', 'Completed') RETURNING completed_at::date");
+                assertTrue(rs.next());
+                assertEquals(java.sql.Date.valueOf("2020-01-01"), rs.getDate(1));
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+
+    @Test
+    public void testStatusRestrictedToLabels() throws Exception {
+        SchemaMigrator.migrate();
+
+        try (Connection conn = Database.getConnection()) {
+            conn.setAutoCommit(false);
+            try (Statement stmt = conn.createStatement()) {
+                ResultSet rs = stmt.executeQuery(
+                        "INSERT INTO aircraft (model, tail_number) VALUES ('TestPlane', 'T-STATUS') RETURNING id");
+                assertTrue(rs.next());
+                int aircraftId = rs.getInt(1);
+
+                // Only the TaskStatus labels are stored, other spellings are mapped before the insert
+                SQLException e = assertThrows(SQLException.class, () -> stmt.executeUpdate(
+                        "INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) "
+                                + "VALUES (" + aircraftId + ", 'Check', DATE '2020-01-01', 'done')"));
+                assertTrue(e.getMessage().contains("maintenance_task_status_check"));
+            } finally {
+                conn.rollback();
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package metrics;
+
+import org.example.metrics.Counter;
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricsTest {
+
+    @Test
+    public void testPercentilesAreWithinBucketResolution() {
+        Timer timer = Metrics.timer("test.percentiles");
+        // 1 to 1000 microseconds, each once
+        for (int i = 1; i <= 1000; i++) {
+            timer.record(i * 1_000L);
+        }
+
+        assertEquals(1000, timer.getCount());
+        assertEquals(1.0, timer.getMaxMillis(), 1e-9);
+        assertEquals(0.5005, timer.getMeanMillis(), 1e-9);
+        // 16 buckets per power of two, at most 1/16 off
+        assertEquals(500_000, timer.percentileNanos(0.50), 500_000 / 16.0);
+        assertEquals(990_000, timer.percentileNanos(0.99), 990_000 / 16.0);
+        assertTrue(timer.percentileNanos(0.999) <= 1_000_000);
+    }
+
+    @Test
+    public void testSnapshotDifferenceHoldsOnlyTheInterval() {
+        Timer timer = Metrics.timer("test.interval");
+        // A long quiet history of 1 ms, then a slow interval of 10 ms
+        for (int i = 0; i < 1000; i++) {
+            timer.record(1_000_000);
+        }
+        Timer.Snapshot start = timer.snapshot();
+        for (int i = 0; i < 100; i++) {
+            timer.record(10_000_000);
+        }
+        Timer.Snapshot interval = timer.snapshot().since(start);
+
+        assertEquals(100, interval.getCount());
+        assertEquals(10.0, interval.getMeanMillis(), 1e-9);
+        assertEquals(10_000_000, interval.percentileNanos(0.50), 10_000_000 / 16.0);
+        assertEquals(10.0, interval.getMaxMillis(), 1e-9);
+        // The lifetime percentiles still see the history
+        assertEquals(1_000_000, timer.percentileNanos(0.50), 1_000_000 / 16.0);
+
+        Timer.Snapshot idle = timer.snapshot().since(timer.snapshot());
+        assertEquals(0, idle.getCount());
+        assertEquals(0, idle.percentileNanos(0.99));
+        assertEquals(0.0, idle.getMaxMillis(), 1e-9);
+    }
+
+    @Test
+    public void testConcurrentRecordingLosesNothing() throws InterruptedException {
+        Timer timer = Metrics.timer("test.concurrent");
+        Counter counter = Metrics.counter("test.concurrent.rows");
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    timer.record(i);
+                    counter.add(2);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(40_000, timer.getCount());
+        assertEquals(80_000, counter.getCount());
+        assertSame(timer, Metrics.timer("test.concurrent"));
+    }
+
+    @Test
+    public void testMetricsArePublishedThroughJmx() throws Exception {
+        Metrics.timer("test.jmx").record(2_000_000);
+        Metrics.counter("test.jmx.rows").add(7);
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(new ObjectName("org.example.metrics:type=Timer,name=test.jmx"), "Count"));
+        assertEquals(2.0, (Double) server.getAttribute(new ObjectName("org.example.metrics:type=Timer,name=test.jmx"), "MaxMillis"), 1e-9);
+        assertEquals(7L, server.getAttribute(new ObjectName("org.example.metrics:type=Counter,name=test.jmx.rows"), "Count"));
+    }
+}
@@ -11,13 +11,13 @@ public class AircraftTest {
         Aircraft aircraft1 = new Aircraft(1, "Airbus A320", "D-AIPX");
         Aircraft aircraft2 = new Aircraft(1, "Boeing 747", "N373BA");
 
-        assertEquals(1, aircraft1.getId());
-        assertEquals("Airbus A320", aircraft1.getModel());
-        assertEquals("D-AIPX", aircraft1.getTailNumber());
+        assertEquals(1, aircraft1.id());
+        assertEquals("Airbus A320", aircraft1.model());
+        assertEquals("D-AIPX", aircraft1.tailNumber());
 
-        assertEquals(2, aircraft2.getId());
-        assertEquals("Boeing 747", aircraft2.getModel());
-        assertEquals("N373BA", aircraft2.getTailNumber());
+        assertEquals(2, aircraft2.id());
+        assertEquals("Boeing 747", aircraft2.model());
+        assertEquals("N373BA", aircraft2.tailNumber());
 
     }
 
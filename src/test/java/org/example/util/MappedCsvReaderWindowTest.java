@@ -0,0 +1,82 @@
+package org.example.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reads through small mapping windows so that records, quoted fields and CRLF endings cross
+ * the window boundaries. Uses the package-private window size of MappedCsvReader.
+ */
+public class MappedCsvReaderWindowTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Every record is shorter than the smallest window used below
+    private static final String CONTENT = "aircraftId,description,dueDate,status\r\n"
+            + "1,\"Inspect flaps, slats\",2025-06-01,Pending\r\n"
+            + "2,\"Replace \"\"B\"\" nut\",2025-06-02,Completed\r\n"
+            + "\r\n"
+            + "3,\"Line one\r\nline two\",2025-06-03,Pending\n"
+            + "4,,2025-06-04,\"\"\r\n"
+            + "5,\"Torque \"\"check\"\"\",2025-06-05,Completed\r\n"
+            + "6,Plain,2025-06-06,Pending";
+
+    private File write(String content) throws IOException {
+        Path file = tempDir.resolve("input.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private static List<String> readAll(File file, long window) throws Exception {
+        List<String> rows = new ArrayList<>();
+        MappedCsvReader.read(file, true, (lineNum, row) ->
+                rows.add(lineNum + ":" + Arrays.toString(row.toArray())), window);
+        return rows;
+    }
+
+    @Test
+    public void testSixtyFourByteWindow() throws Exception {
+        List<String> rows = readAll(write(CONTENT), 64);
+
+        assertEquals(List.of(
+                "2:[1, Inspect flaps, slats, 2025-06-01, Pending]",
+                "3:[2, Replace \"B\" nut, 2025-06-02, Completed]",
+                "5:[3, Line one\r\nline two, 2025-06-03, Pending]",
+                "7:[4, , 2025-06-04, ]",
+                "8:[5, Torque \"check\", 2025-06-05, Completed]",
+                "9:[6, Plain, 2025-06-06, Pending]"), rows);
+    }
+
+    @Test
+    public void testEveryWindowBoundaryGivesTheSameRecords() throws Exception {
+        File file = write(CONTENT);
+        List<String> expected = readAll(file, Long.MAX_VALUE);
+
+        // Each size puts the boundaries at other bytes: inside quotes, between "" and between CR and LF
+        for (int window = 64; window <= 160; window++) {
+            assertEquals(expected, readAll(file, window), "window of " + window + " bytes");
+        }
+    }
+
+    @Test
+    public void testRecordLargerThanWindowFails() throws Exception {
+        String longRecord = "1,\"" + "x".repeat(100) + "\",2025-06-01,Pending\n";
+        File file = write("aircraftId,description,dueDate,status\n" + longRecord);
+
+        IOException e = assertThrows(IOException.class, () -> readAll(file, 64));
+        assertTrue(e.getMessage().contains("line 2"), e.getMessage());
+        assertTrue(e.getMessage().contains("larger than 64 bytes"), e.getMessage());
+    }
+}
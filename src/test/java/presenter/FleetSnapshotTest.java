@@ -0,0 +1,131 @@
+package presenter;
+
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.example.model.Aircraft;
+import org.example.model.FleetKpis;
+import org.example.model.TaskStatus;
+import org.example.presenter.AircraftPresenter;
+import org.example.presenter.FleetSnapshot;
+import org.example.presenter.TaskColumnStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FleetSnapshotTest {
+
+    private static final ZonedDateTime NOW = ZonedDateTime.of(2026, 10, 17, 12, 0, 0, 0, ZoneOffset.UTC);
+    private static final LocalDate TODAY = NOW.toLocalDate();
+
+    private static final List<Aircraft> FLEET = List.of(
+            new Aircraft(10, "Airbus A320", "D-AIPX"),
+            new Aircraft(20, "Boeing 747", "N373BA"));
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Two aircraft, three tasks: one pending, one completed this month, one completed last month.
+     */
+    private Path write() throws IOException {
+        Path file = tempDir.resolve("fleet-snapshot.bin");
+        try (FleetSnapshot.Writer writer = new FleetSnapshot.Writer(file, FLEET, 3)) {
+            writer.addTask(1, 10, "Inspect flaps", TODAY.plusDays(3), TaskStatus.PENDING, null);
+            writer.addTask(2, 20, "Replace tyre", TODAY, TaskStatus.COMPLETED, NOW.minusDays(2).toInstant());
+            writer.addTask(3, 20, "Inspect flaps", TODAY.minusMonths(1), TaskStatus.COMPLETED, NOW.minusMonths(1).toInstant());
+            writer.commit();
+        }
+        return file;
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        Instant before = Instant.now().minusSeconds(1);
+        FleetSnapshot snapshot = FleetSnapshot.read(write());
+
+        assertEquals(FLEET, snapshot.aircraft());
+        assertEquals(3, snapshot.taskCount());
+        assertFalse(snapshot.createdAt().isBefore(before));
+        assertEquals(new FleetKpis(2, 1, 1), snapshot.kpis(NOW));
+
+        TaskColumnStore store = snapshot.toTaskColumnStore();
+        assertEquals(3, store.size());
+        assertEquals(2, store.id(1));
+        assertEquals("N373BA", store.aircraft(store.aircraftCode(1)).tailNumber());
+        assertEquals("Inspect flaps", store.description(2));
+        assertEquals(TODAY.plusDays(3).toEpochDay(), store.dueDay(0));
+        assertEquals(TaskStatus.COMPLETED, store.status(2));
+        // No temporary file is left next to the snapshot
+        assertEquals(List.of(tempDir.resolve("fleet-snapshot.bin")), Files.list(tempDir).toList());
+    }
+
+    @Test
+    public void testChangeMarkerRoundTrip() throws IOException {
+        Path file = tempDir.resolve("fleet-snapshot.bin");
+        try (FleetSnapshot.Writer writer = new FleetSnapshot.Writer(file, FLEET, 0, 42)) {
+            writer.commit();
+        }
+        assertEquals(42, FleetSnapshot.read(file).changeMarker());
+        // Without a marker the snapshot never counts as current
+        assertEquals(-1, FleetSnapshot.read(write()).changeMarker());
+    }
+
+    @Test
+    public void testUnchangedDatabaseIsNotWrittenAgain() throws Exception {
+        SchemaMigrator.migrate();
+        Path file = tempDir.resolve("fleet-snapshot.bin");
+        AircraftPresenter presenter = new AircraftPresenter(null);
+
+        assertTrue(presenter.saveFleetSnapshotAsync(file, null).get());
+        FleetSnapshot previous = FleetSnapshot.read(file);
+        assertTrue(previous.changeMarker() > 0);
+        // Same marker, the tables are not read and the file is kept
+        assertFalse(presenter.saveFleetSnapshotAsync(file, previous).get());
+
+        // Any statement on the fleet tables advances the marker
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM aircraft WHERE id = -1");
+        }
+        assertTrue(presenter.saveFleetSnapshotAsync(file, previous).get());
+        assertTrue(FleetSnapshot.read(file).changeMarker() > previous.changeMarker());
+    }
+
+    @Test
+    public void testDamagedSnapshotIsRejected() throws IOException {
+        Path file = write();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // Flip a byte of the task columns, only the checksum can notice it
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), channel.size() - 40);
+        }
+        assertThrows(IOException.class, () -> FleetSnapshot.read(file));
+
+        Files.write(file, new byte[100]);
+        assertThrows(IOException.class, () -> FleetSnapshot.read(file));
+    }
+
+    @Test
+    public void testIncompleteSnapshotIsNotWritten() throws IOException {
+        Path file = tempDir.resolve("fleet-snapshot.bin");
+        try (FleetSnapshot.Writer writer = new FleetSnapshot.Writer(file, FLEET, 2)) {
+            writer.addTask(1, 10, "Inspect flaps", TODAY, TaskStatus.PENDING, null);
+            assertThrows(IllegalStateException.class, writer::commit);
+        }
+        assertEquals(0, Files.list(tempDir).count());
+    }
+}
@@ -0,0 +1,87 @@
+package presenter;
+
+import org.example.model.Aircraft;
+import org.example.model.TaskStatus;
+import org.example.presenter.TaskColumnStore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskColumnStoreTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    /**
+     * Three aircraft, the tasks repeat a fixed pattern. More rows than one fork-join leaf,
+     * so the parallel operators split and add up ranges.
+     */
+    private static TaskColumnStore fleet(int tasksPerAircraft) {
+        TaskColumnStore.Builder builder = new TaskColumnStore.Builder()
+                .addAircraft(new Aircraft(10, "Airbus A320", "D-AIPX"))
+                .addAircraft(new Aircraft(20, "Boeing 747", "N373BA"))
+                .addAircraft(new Aircraft(30, "Airbus A320", "D-AIPY"));
+        int id = 1;
+        for (int i = 0; i < tasksPerAircraft; i++) {
+            // Aircraft 10: every task pending and overdue
+            builder.addTask(id++, 10, "Inspect flaps", TODAY.minusDays(1 + i % 7), TaskStatus.PENDING);
+            // Aircraft 20: every other task completed, the pending ones due in the future
+            builder.addTask(id++, 20, "Replace tyre", TODAY.plusDays(i % 14),
+                    i % 2 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING);
+            // Aircraft 30: completed in the past
+            builder.addTask(id++, 30, "Inspect engine", TODAY.minusDays(30), TaskStatus.COMPLETED);
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void testColumnsKeepTheTasks() {
+        TaskColumnStore store = fleet(2);
+
+        assertEquals(6, store.size());
+        assertEquals(3, store.aircraftCount());
+        assertEquals(2, store.id(1));
+        assertEquals("N373BA", store.aircraft(store.aircraftCode(1)).tailNumber());
+        assertEquals("Replace tyre", store.description(1));
+        assertEquals(TODAY.toEpochDay(), store.dueDay(1));
+        assertEquals(TaskStatus.COMPLETED, store.status(1));
+    }
+
+    @Test
+    public void testFleetAnalytics() {
+        int tasksPerAircraft = 100_000;
+        TaskColumnStore store = fleet(tasksPerAircraft);
+        assertEquals(3 * tasksPerAircraft, store.size());
+
+        // Aircraft 30 has no open tasks, its model is counted through aircraft 10
+        Map<String, Long> overdue = store.overdueByModel(TODAY);
+        assertEquals(Map.of("Airbus A320", (long) tasksPerAircraft), overdue);
+
+        Map<String, Double> rates = store.completionRateByTailNumber();
+        assertEquals(0.0, rates.get("D-AIPX"));
+        assertEquals(0.5, rates.get("N373BA"));
+        assertEquals(1.0, rates.get("D-AIPY"));
+
+        // Pending tasks of aircraft 20 are due on the odd days 1, 3, ... 13 from today
+        long[] weeks = store.dueByWeek(TODAY, 2, TaskStatus.PENDING);
+        assertEquals(tasksPerAircraft / 2, weeks[0] + weeks[1]);
+        assertEquals(store.count(row -> store.status(row) == TaskStatus.PENDING
+                && store.dueDay(row) >= TODAY.toEpochDay() && store.dueDay(row) < TODAY.toEpochDay() + 7), weeks[0]);
+
+        // Overdue pending tasks of aircraft 10, due 1 to 7 days ago, are all in the week before today
+        long[] pastWeek = store.dueByWeek(TODAY.minusDays(7), 1, null);
+        assertEquals(tasksPerAircraft, pastWeek[0]);
+
+        assertEquals(2L * tasksPerAircraft, store.countDescriptionContaining("INSPECT"));
+    }
+
+    @Test
+    public void testTaskOfUnknownAircraftIsRejected() {
+        TaskColumnStore.Builder builder = new TaskColumnStore.Builder().addAircraft(new Aircraft(1, "ATR 72", "OY-RUB"));
+        assertThrows(IllegalArgumentException.class,
+                () -> builder.addTask(1, 2, "Check", TODAY, TaskStatus.PENDING));
+        assertEquals(0, builder.build().count(row -> true));
+    }
+}
@@ -0,0 +1,181 @@
+package presenter;
+
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.example.model.MaintenanceTask;
+import org.example.model.TaskCursor;
+import org.example.model.TaskPage;
+import org.example.model.TaskQuery;
+import org.example.presenter.AircraftPresenter;
+import org.example.view.AircraftView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskPagingTest {
+
+    private static final int PAGE_SIZE = 7;
+
+    private final List<String> errors = new ArrayList<>();
+    private final AircraftView view = (AircraftView) Proxy.newProxyInstance(AircraftView.class.getClassLoader(),
+            new Class<?>[]{AircraftView.class}, (proxy, method, args) -> {
+                if (method.getName().equals("showMessage")) {
+                    errors.add((String) args[0]);
+                }
+                return null;
+            });
+    private final AircraftPresenter presenter = new AircraftPresenter(view);
+
+    private int aircraftId;
+    private TaskQuery query;
+    // Task ids in (due date, id) order
+    private List<Integer> expected;
+
+    @BeforeEach
+    public void createTasks() throws Exception {
+        SchemaMigrator.migrate();
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                    "INSERT INTO aircraft (model, tail_number) VALUES ('PagingPlane', 'P-" + System.nanoTime() + "') RETURNING id");
+            assertTrue(rs.next());
+            aircraftId = rs.getInt(1);
+        }
+        // Most tasks share one due day, only the id orders them and pages start and end inside the day
+        insertTasks(LocalDate.of(2025, 3, 1), 20);
+        insertTasks(LocalDate.of(2025, 2, 1), 2);
+        insertTasks(LocalDate.of(2025, 4, 1), 3);
+        query = new TaskQuery().withAircraft(aircraftId).withPageSize(PAGE_SIZE);
+        expected = taskIds();
+        assertEquals(25, expected.size());
+    }
+
+    @AfterEach
+    public void deleteTasks() throws Exception {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM maintenance_task WHERE aircraft_id = " + aircraftId);
+            stmt.executeUpdate("DELETE FROM aircraft WHERE id = " + aircraftId);
+        }
+        assertEquals(List.of(), errors);
+    }
+
+    @Test
+    public void testPagingForwardAndBackAcrossTasksDueOnTheSameDay() {
+        List<TaskPage> pages = new ArrayList<>();
+        TaskPage page = presenter.loadTaskPage(query, null);
+        assertFalse(page.hasPrevious());
+        pages.add(page);
+        while (page.hasNext()) {
+            page = presenter.loadTaskPage(query, page.nextCursor());
+            pages.add(page);
+        }
+
+        List<Integer> forward = new ArrayList<>();
+        for (TaskPage p : pages) {
+            forward.addAll(ids(p));
+        }
+        assertEquals(expected, forward);
+        assertEquals(List.of(7, 7, 7, 4), pages.stream().map(p -> p.tasks().size()).toList());
+
+        // Back from the last page, every page comes again with the same rows
+        for (int i = pages.size() - 1; i > 0; i--) {
+            assertTrue(pages.get(i).hasPrevious());
+            TaskPage previous = presenter.loadTaskPage(query, pages.get(i).previousCursor());
+            assertEquals(ids(pages.get(i - 1)), ids(previous));
+            assertEquals(i > 1, previous.hasPrevious());
+            assertTrue(previous.hasNext());
+        }
+    }
+
+    @Test
+    public void testEmptyLastPageLeadsBackToTheRowsBeforeIt() throws Exception {
+        TaskPage first = presenter.loadTaskPage(query, null);
+        TaskPage second = presenter.loadTaskPage(query, first.nextCursor());
+        TaskCursor toThird = second.nextCursor();
+        // Another terminal deletes everything after the second page
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "DELETE FROM maintenance_task WHERE aircraft_id = ? AND (due_date, id) > (?, ?)")) {
+            stmt.setInt(1, aircraftId);
+            stmt.setObject(2, toThird.dueDate());
+            stmt.setInt(3, toThird.id());
+            assertEquals(11, stmt.executeUpdate());
+        }
+
+        TaskPage empty = presenter.loadTaskPage(query, toThird);
+        assertTrue(empty.tasks().isEmpty());
+        assertFalse(empty.hasNext());
+        assertTrue(empty.hasPrevious());
+
+        // The way back includes the row the cursor was taken from
+        TaskPage back = presenter.loadTaskPage(query, empty.previousCursor());
+        assertEquals(ids(second), ids(back));
+        assertTrue(back.hasPrevious());
+        assertEquals(ids(first), ids(presenter.loadTaskPage(query, back.previousCursor())));
+    }
+
+    @Test
+    public void testEmptyFirstPageLeadsForwardToTheRowsAfterIt() throws Exception {
+        TaskPage first = presenter.loadTaskPage(query, null);
+        TaskPage second = presenter.loadTaskPage(query, first.nextCursor());
+        TaskCursor toFirst = second.previousCursor();
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(
+                     "DELETE FROM maintenance_task WHERE aircraft_id = ? AND (due_date, id) < (?, ?)")) {
+            stmt.setInt(1, aircraftId);
+            stmt.setObject(2, toFirst.dueDate());
+            stmt.setInt(3, toFirst.id());
+            assertEquals(7, stmt.executeUpdate());
+        }
+
+        TaskPage empty = presenter.loadTaskPage(query, toFirst);
+        assertTrue(empty.tasks().isEmpty());
+        assertFalse(empty.hasPrevious());
+        assertTrue(empty.hasNext());
+
+        assertEquals(ids(second), ids(presenter.loadTaskPage(query, empty.nextCursor())));
+    }
+
+    private void insertTasks(LocalDate dueDate, int count) throws Exception {
+        try (Connection conn = Database.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO maintenance_task "
+                     + "(aircraft_id, task_description, due_date, status) VALUES (?, ?, ?, 'Pending')")) {
+            for (int i = 0; i < count; i++) {
+                stmt.setInt(1, aircraftId);
+                stmt.setString(2, "Task " + dueDate + " " + i);
+                stmt.setObject(3, dueDate);
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    private List<Integer> taskIds() throws Exception {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                     "SELECT id FROM maintenance_task WHERE aircraft_id = " + aircraftId + " ORDER BY due_date, id")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+
+    private static List<Integer> ids(TaskPage page) {
+        return page.tasks().stream().map(MaintenanceTask::id).toList();
+    }
+}
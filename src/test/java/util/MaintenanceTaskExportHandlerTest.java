@@ -0,0 +1,84 @@
+package util;
+
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.example.util.ImportResult;
+import org.example.util.MaintenanceTaskExportHandler;
+import org.example.util.MappedCsvReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaintenanceTaskExportHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testCsvExportRoundTrip() throws Exception {
+        SchemaMigrator.migrate();
+        int aircraftId = -1;
+        int taskId;
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                    "INSERT INTO aircraft (model, tail_number) VALUES ('ExportPlane', 'X-" + System.nanoTime() + "') RETURNING id");
+            assertTrue(rs.next());
+            aircraftId = rs.getInt(1);
+            // Comma, quotes and a line break must survive the round trip
+            rs = stmt.executeQuery("INSERT INTO maintenance_task (aircraft_id, task_description, due_date, status) VALUES ("
+                    + aircraftId + ", E'Inspect \"B\" flaps, slats\\nand rudder', DATE '2025-06-01', 'Completed') RETURNING id");
+            assertTrue(rs.next());
+            taskId = rs.getInt(1);
+        }
+
+        try {
+            File file = tempDir.resolve("tasks.csv").toFile();
+            ImportResult result = MaintenanceTaskExportHandler.exportToCSV(file);
+
+            List<String[]> exported = new ArrayList<>();
+            List<String> header = new ArrayList<>();
+            MappedCsvReader.read(file, false, (lineNum, row) -> {
+                if (header.isEmpty()) {
+                    header.add(String.join(",", row.toArray()));
+                } else if (row.get(0).equals(String.valueOf(taskId))) {
+                    exported.add(row.toArray());
+                }
+            });
+
+            assertEquals("taskId,aircraftId,model,tailNumber,description,dueDate,status,completedAt", header.get(0));
+            assertEquals(1, exported.size());
+            String[] row = exported.get(0);
+            assertEquals(String.valueOf(aircraftId), row[1]);
+            assertEquals("ExportPlane", row[2]);
+            assertEquals("Inspect \"B\" flaps, slats\nand rudder", row[4]);
+            assertEquals("2025-06-01", row[5]);
+            assertEquals("Completed", row[6]);
+            // Stamped by the completed_at trigger, an inserted completed task with its due date
+            assertTrue(row[7].startsWith("2025-06-01"), row[7]);
+            assertTrue(result.getRowsWritten() >= 1);
+            // Written under a temporary name and renamed, nothing else is left in the directory
+            try (Stream<Path> files = Files.list(tempDir)) {
+                assertEquals(List.of(file.toPath()), files.collect(Collectors.toList()));
+            }
+        } finally {
+            try (Connection conn = Database.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("DELETE FROM maintenance_task WHERE aircraft_id = " + aircraftId);
+                stmt.executeUpdate("DELETE FROM aircraft WHERE id = " + aircraftId);
+            }
+        }
+    }
+}
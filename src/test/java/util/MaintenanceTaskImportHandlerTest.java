@@ -0,0 +1,113 @@
+package util;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.example.util.MaintenanceTaskImportHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaintenanceTaskImportHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private int aircraftId;
+
+    @BeforeEach
+    public void createAircraft() throws Exception {
+        SchemaMigrator.migrate();
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                    "INSERT INTO aircraft (model, tail_number) VALUES ('ImportPlane', 'I-" + System.nanoTime() + "') RETURNING id");
+            assertTrue(rs.next());
+            aircraftId = rs.getInt(1);
+        }
+    }
+
+    @AfterEach
+    public void deleteAircraft() throws Exception {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM maintenance_task WHERE aircraft_id = " + aircraftId);
+            stmt.executeUpdate("DELETE FROM aircraft WHERE id = " + aircraftId);
+        }
+    }
+
+    @Test
+    public void testFractionalAircraftIdIsRejected() throws Exception {
+        // Would have been truncated onto this aircraft
+        for (String id : List.of(aircraftId + ".5", aircraftId + ".0")) {
+            Path file = tempDir.resolve("tasks.csv");
+            Files.write(file, List.of("aircraftId,description,dueDate,status", id + ",Check engine,2025-06-01,Pending"),
+                    StandardCharsets.UTF_8);
+
+            Exception e = assertThrows(Exception.class, () -> MaintenanceTaskImportHandler.importFile(file.toFile()));
+            assertTrue(e.getMessage().contains("Invalid aircraft id '" + id + "'"), e.getMessage());
+            assertEquals(0, taskCount());
+        }
+    }
+
+    @Test
+    public void testSpreadsheetNumbersMustBeWhole() throws Exception {
+        // Displayed as "<id>.0" by the number format, still a whole number
+        File whole = workbook("whole.xlsx", aircraftId);
+        assertEquals(1, MaintenanceTaskImportHandler.importFile(whole).getRowsWritten());
+        assertEquals(1, taskCount());
+
+        File fraction = workbook("fraction.xlsx", aircraftId + 0.5);
+        assertThrows(Exception.class, () -> MaintenanceTaskImportHandler.importFile(fraction));
+        assertEquals(1, taskCount());
+    }
+
+    private File workbook(String name, double id) throws Exception {
+        File file = tempDir.resolve(name).toFile();
+        try (XSSFWorkbook workbook = new XSSFWorkbook();
+             OutputStream out = new FileOutputStream(file)) {
+            CellStyle oneDecimal = workbook.createCellStyle();
+            oneDecimal.setDataFormat(workbook.createDataFormat().getFormat("0.0"));
+            Sheet sheet = workbook.createSheet("Tasks");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("aircraftId");
+            header.createCell(1).setCellValue("description");
+            header.createCell(2).setCellValue("dueDate");
+            header.createCell(3).setCellValue("status");
+            Row row = sheet.createRow(1);
+            row.createCell(0).setCellValue(id);
+            row.getCell(0).setCellStyle(oneDecimal);
+            row.createCell(1).setCellValue("Check engine");
+            row.createCell(2).setCellValue("2025-06-01");
+            row.createCell(3).setCellValue("Pending");
+            workbook.write(out);
+        }
+        return file;
+    }
+
+    private int taskCount() throws Exception {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT count(*) FROM maintenance_task WHERE aircraft_id = " + aircraftId)) {
+            assertTrue(rs.next());
+            return rs.getInt(1);
+        }
+    }
+}
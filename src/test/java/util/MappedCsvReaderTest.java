@@ -0,0 +1,83 @@
+package util;
+
+import org.example.util.MappedCsvReader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCsvReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private File write(String content) throws IOException {
+        Path file = tempDir.resolve("input.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+
+    private List<String> readAll(File file, boolean skipHeader) throws Exception {
+        List<String> rows = new ArrayList<>();
+        MappedCsvReader.read(file, skipHeader, (lineNum, row) ->
+                rows.add(lineNum + ":" + Arrays.toString(row.toArray())));
+        return rows;
+    }
+
+    @Test
+    public void testPlainRecordsWithHeader() throws Exception {
+        File file = write("model,tailNumber\nA320,D-AIPX\r\nB747,N373BA");
+
+        assertEquals(List.of("2:[A320, D-AIPX]", "3:[B747, N373BA]"), readAll(file, true));
+    }
+
+    @Test
+    public void testQuotedFields() throws Exception {
+        File file = write("1,\"Inspect flaps, slats\",2025-06-01,Pending\n"
+                + "2,\"Replace \"\"B\"\" nut\",2025-06-02,Done\n"
+                + "3,\"Line one\nline two\",2025-06-03,Open\n"
+                + "4,,2025-06-04,\"\"\n");
+
+        List<String> rows = readAll(file, false);
+
+        assertEquals(4, rows.size());
+        assertEquals("1:[1, Inspect flaps, slats, 2025-06-01, Pending]", rows.get(0));
+        assertEquals("2:[2, Replace \"B\" nut, 2025-06-02, Done]", rows.get(1));
+        assertEquals("3:[3, Line one\nline two, 2025-06-03, Open]", rows.get(2));
+        // The embedded line break moves the next record to line 5
+        assertEquals("5:[4, , 2025-06-04, ]", rows.get(3));
+    }
+
+    @Test
+    public void testFieldCountAndLazyAccess() throws Exception {
+        File file = write("﻿a,b,c\n\nä,\"ö\"\n");
+        List<String> seen = new ArrayList<>();
+
+        MappedCsvReader.read(file, false, (lineNum, row) -> seen.add(row.size() + "=" + row.get(row.size() - 1)));
+
+        // Byte order mark and blank line are ignored, UTF-8 is decoded
+        assertEquals(List.of("3=c", "2=ö"), seen);
+    }
+
+    @Test
+    public void testUnterminatedQuoteFails() throws Exception {
+        File file = write("1,\"never closed,2025-06-01\n");
+
+        IOException e = assertThrows(IOException.class, () -> readAll(file, false));
+        assertTrue(e.getMessage().contains("line 1"));
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception {
+        assertTrue(readAll(write(""), true).isEmpty());
+    }
+}
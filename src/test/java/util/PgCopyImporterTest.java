@@ -0,0 +1,163 @@
+package util;
+
+import org.example.db.Database;
+import org.example.db.SchemaMigrator;
+import org.example.util.AircraftImportHandler;
+import org.example.util.ImportResult;
+import org.example.util.MaintenanceTaskImportHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PgCopyImporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void restoreThreshold() {
+        System.clearProperty("import.copy.thresholdBytes");
+    }
+
+    @Test
+    public void testAircraftFileIsImportedTheSameWayWithCopy() throws Exception {
+        SchemaMigrator.migrate();
+        String prefix = "PC" + System.nanoTime() + "-";
+        File file = write("aircraft.csv",
+                "model,tailNumber",
+                "A320," + prefix + "1",
+                "",
+                "A321",
+                "B737," + prefix + "2,extra",
+                "   ," + prefix + "3",
+                "B747,  ",
+                "\"Embraer, E190\",\t" + prefix + "4 ",
+                "A330," + prefix + "1",
+                "   ",
+                "ATR 72," + prefix + "5");
+
+        try {
+            ImportResult rows = importAircraft(file, -1);
+            List<String> rowPath = aircraft(prefix);
+            deleteAircraft(prefix);
+            ImportResult copy = importAircraft(file, 0);
+            List<String> copyPath = aircraft(prefix);
+
+            assertEquals(List.of("A320|" + prefix + "1", "Embraer, E190|" + prefix + "4", "ATR 72|" + prefix + "5"), rowPath);
+            assertEquals(rowPath, copyPath);
+            assertEquals(rows.getRowsWritten(), copy.getRowsWritten());
+            assertEquals(rows.getRowsSkipped(), copy.getRowsSkipped());
+        } finally {
+            deleteAircraft(prefix);
+        }
+    }
+
+    @Test
+    public void testTaskFileIsImportedTheSameWayWithCopy() throws Exception {
+        SchemaMigrator.migrate();
+        String tail = "PT" + System.nanoTime();
+        int aircraftId;
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            ResultSet rs = stmt.executeQuery(
+                    "INSERT INTO aircraft (model, tail_number) VALUES ('CopyPlane', '" + tail + "') RETURNING id");
+            assertTrue(rs.next());
+            aircraftId = rs.getInt(1);
+        }
+        File file = write("tasks.csv",
+                "aircraftId,description,dueDate,status",
+                aircraftId + ",Check engine,2025-06-01,Pending",
+                "",
+                aircraftId + ",Short row",
+                aircraftId + ",   ,2025-06-02,Pending",
+                aircraftId + ",Blank status,2025-06-03,  ",
+                " " + aircraftId + " ,\"Inspect flaps, slats\nand rudder\", 2025-06-04 ,done",
+                aircraftId + ",Too,many,fields,here",
+                aircraftId + ",,2025-06-05,Pending",
+                aircraftId + ",Replace tyres,2025-06-06,OPEN");
+
+        try {
+            ImportResult rows = importTasks(file, -1);
+            List<String> rowPath = tasks(aircraftId);
+            deleteTasks(aircraftId);
+            ImportResult copy = importTasks(file, 0);
+            List<String> copyPath = tasks(aircraftId);
+
+            assertEquals(List.of("Check engine|2025-06-01|Pending", "Inspect flaps, slats\nand rudder|2025-06-04|Completed",
+                    "Replace tyres|2025-06-06|Pending"), rowPath);
+            assertEquals(rowPath, copyPath);
+            assertEquals(rows.getRowsWritten(), copy.getRowsWritten());
+            assertEquals(rows.getRowsSkipped(), copy.getRowsSkipped());
+        } finally {
+            deleteTasks(aircraftId);
+            try (Connection conn = Database.getConnection();
+                 Statement stmt = conn.createStatement()) {
+                stmt.executeUpdate("DELETE FROM aircraft WHERE id = " + aircraftId);
+            }
+        }
+    }
+
+    private File write(String name, String... lines) throws Exception {
+        Path path = tempDir.resolve(name);
+        Files.write(path, List.of(lines), StandardCharsets.UTF_8);
+        return path.toFile();
+    }
+
+    // -1 imports on the row path, 0 with COPY
+    private static ImportResult importAircraft(File file, long threshold) throws Exception {
+        System.setProperty("import.copy.thresholdBytes", String.valueOf(threshold));
+        return AircraftImportHandler.importFile(file);
+    }
+
+    private static ImportResult importTasks(File file, long threshold) throws Exception {
+        System.setProperty("import.copy.thresholdBytes", String.valueOf(threshold));
+        return MaintenanceTaskImportHandler.importFile(file);
+    }
+
+    private static List<String> aircraft(String prefix) throws Exception {
+        return query("SELECT model || '|' || tail_number FROM aircraft WHERE tail_number LIKE '" + prefix + "%' ORDER BY id");
+    }
+
+    private static List<String> tasks(int aircraftId) throws Exception {
+        return query("SELECT task_description || '|' || due_date || '|' || status FROM maintenance_task"
+                + " WHERE aircraft_id = " + aircraftId + " ORDER BY id");
+    }
+
+    private static List<String> query(String sql) throws Exception {
+        List<String> rows = new ArrayList<>();
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            while (rs.next()) {
+                rows.add(rs.getString(1));
+            }
+        }
+        return rows;
+    }
+
+    private static void deleteAircraft(String prefix) throws Exception {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM aircraft WHERE tail_number LIKE '" + prefix + "%'");
+        }
+    }
+
+    private static void deleteTasks(int aircraftId) throws Exception {
+        try (Connection conn = Database.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate("DELETE FROM maintenance_task WHERE aircraft_id = " + aircraftId);
+        }
+    }
+}
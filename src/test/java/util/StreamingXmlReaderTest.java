@@ -0,0 +1,96 @@
+package util;
+
+import org.example.util.StreamingXmlReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StreamingXmlReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Stands in for a remote DTD or entity, any fetch connects to it
+    private ServerSocket server;
+
+    @BeforeEach
+    public void openServer() throws Exception {
+        server = new ServerSocket(0);
+        server.setSoTimeout(100);
+    }
+
+    @AfterEach
+    public void closeServer() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void testExternalEntityIsRejected() throws Exception {
+        Path secret = Files.writeString(tempDir.resolve("secret.txt"), "TOP-SECRET");
+        File local = feed("local.xml", "<!DOCTYPE tasks [<!ENTITY xxe SYSTEM \"" + secret.toUri() + "\">]>",
+                "<description>&xxe;</description>");
+        File remote = feed("remote.xml", "<!DOCTYPE tasks [<!ENTITY xxe SYSTEM \"" + url("secret") + "\">]>",
+                "<description>&xxe;</description>");
+
+        for (File file : List.of(local, remote)) {
+            List<String> descriptions = new ArrayList<>();
+            Exception e = assertThrows(Exception.class, () -> read(file, descriptions));
+            assertTrue(e.getMessage().contains("xxe"), e.getMessage());
+            assertTrue(descriptions.isEmpty());
+        }
+        assertNotFetched();
+    }
+
+    @Test
+    public void testExternalDtdIsNeverFetched() throws Exception {
+        File dtd = feed("dtd.xml", "<!DOCTYPE tasks SYSTEM \"" + url("tasks.dtd") + "\">",
+                "<description>Check engine</description>");
+        File parameterEntity = feed("parameter.xml", "<!DOCTYPE tasks [<!ENTITY % p SYSTEM \"" + url("p") + "\"> %p;]>",
+                "<description>Check engine</description>");
+
+        for (File file : List.of(dtd, parameterEntity)) {
+            // The DOCTYPE is ignored, the records are read as they are
+            List<String> descriptions = new ArrayList<>();
+            read(file, descriptions);
+            assertEquals(List.of("Check engine"), descriptions);
+        }
+        assertNotFetched();
+    }
+
+    private File feed(String name, String doctype, String field) throws Exception {
+        String xml = "<?xml version=\"1.0\"?>" + doctype + "<tasks><task>" + field + "</task></tasks>";
+        return Files.writeString(tempDir.resolve(name), xml, StandardCharsets.UTF_8).toFile();
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getLocalPort() + "/" + path;
+    }
+
+    private static void read(File file, List<String> descriptions) throws Exception {
+        StreamingXmlReader.readRecords(file, "task", Set.of("description"),
+                (recordNum, fields) -> descriptions.add(fields.get("description")));
+    }
+
+    // The parser runs on this thread, a fetch would already be waiting in the backlog
+    private void assertNotFetched() throws Exception {
+        try (Socket fetch = server.accept()) {
+            fail("The parser connected to " + url(""));
+        } catch (SocketTimeoutException expected) {
+            // Nothing was fetched
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package view;
+
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
+import org.example.view.EdtWatchdog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EdtWatchdogTest {
+
+    @AfterEach
+    public void stopWatchdog() {
+        EdtWatchdog.stop();
+    }
+
+    @Test
+    public void testStallIsMeasuredAndItsStackCaptured() throws Exception {
+        Timer latency = Metrics.timer("edt.dispatchLatency");
+        Timer stalls = Metrics.timer("edt.stalls");
+        long stallsBefore = stalls.getCount();
+
+        EdtWatchdog watchdog = EdtWatchdog.start(10, 100);
+        // Let the watchdog find the event dispatch thread, then block it
+        Thread.sleep(100);
+        SwingUtilities.invokeAndWait(EdtWatchdogTest::blockDispatchThread);
+        // The stall is recorded by the next ping
+        long deadline = System.currentTimeMillis() + 5000;
+        while (stalls.getCount() == stallsBefore && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertTrue(latency.getCount() > 0);
+        assertEquals(stallsBefore + 1, stalls.getCount());
+        assertTrue(stalls.getMaxMillis() >= 300, "stall of " + stalls.getMaxMillis() + " ms");
+
+        StackTraceElement[] stack = watchdog.getLastStallStack();
+        assertNotNull(stack);
+        assertTrue(Arrays.stream(stack).anyMatch(frame -> frame.getMethodName().equals("blockDispatchThread")));
+    }
+
+    @Test
+    public void testIntervalMustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> EdtWatchdog.start(0, 500));
+    }
+
+    private static void blockDispatchThread() {
+        try {
+            Thread.sleep(400);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package view;
+
+import org.example.db.SchemaMigrator;
+import org.example.metrics.Metrics;
+import org.example.metrics.Timer;
+import org.example.presenter.AircraftPresenter;
+import org.example.view.AircraftView;
+import org.example.view.MaintenanceDashboardPanel;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.SwingUtilities;
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MaintenanceDashboardPanelTest {
+
+    @Test
+    public void testRefreshesWhileAQueryRunsAreCoalesced() throws Exception {
+        SchemaMigrator.migrate();
+        Timer queries = Metrics.timer("presenter.loadFleetKpis");
+        long before = queries.getCount();
+        // The dashboard only reports errors through the view
+        AircraftView view = (AircraftView) Proxy.newProxyInstance(AircraftView.class.getClassLoader(),
+                new Class<?>[]{AircraftView.class}, (proxy, method, args) -> null);
+        AircraftPresenter presenter = new AircraftPresenter(view);
+
+        // The constructor starts a query, its answer cannot arrive before the burst ends
+        SwingUtilities.invokeAndWait(() -> {
+            MaintenanceDashboardPanel panel = new MaintenanceDashboardPanel(presenter);
+            for (int i = 0; i < 20; i++) {
+                panel.refreshDashboard();
+            }
+        });
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queries.getCount() < before + 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // Give a wrongly started third query the time to show up
+        Thread.sleep(300);
+        SwingUtilities.invokeAndWait(() -> { });
+
+        // The first query and one follow-up for the whole burst
+        assertEquals(before + 2, queries.getCount());
+    }
+}